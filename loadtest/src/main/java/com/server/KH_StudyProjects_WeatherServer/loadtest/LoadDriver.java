@@ -0,0 +1,287 @@
+package com.server.KH_StudyProjects_WeatherServer.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 날씨 서버 부하 발생기
+ *
+ * 실제 앱 사용 패턴과 비슷한 비율로 API 를 호출하고, API 별 처리량과 지연 시간 백분위를 출력
+ * (서버는 loadtest 프로파일 + OpenMeteoStubServer 로 실행)
+ *
+ * 호출 구성 (--mix=weather=60,airPollution=25,locations=15):
+ * - weather: GET /api/weather (대시보드 current + hourly + daily)
+ * - airPollution: GET /api/airPollution (current pm10/pm2_5/AQI)
+ * - locations: GET /api/sidemenu/locations (디바이스별 마지막 ETag 로 If-None-Match)
+ * 좌표는 --cells 개 격자 중 인기 격자에 몰리도록(앞쪽 격자일수록 자주) 선택하여 캐시 적중률을 실제와 비슷하게 유지
+ *
+ * 동작:
+ * 1. --devices 개 디바이스에 1~5개 즐겨찾기 등록 (POST /api/sidemenu/locations)
+ * 2. --concurrency 개 가상 스레드가 --warmup + --duration 동안 쉬지 않고 호출 (closed loop)
+ * 3. warmup 이후 결과만 집계하여 API 별 건수/오류/초당 처리량/p50/p90/p99/최대 지연 출력
+ *
+ * 실행: ./gradlew :loadtest:runLoad -PloadArgs="--base-url=http://localhost:8080 --concurrency=64 --duration=2m"
+ *
+ * @since 2026-10-18
+ */
+public class LoadDriver {
+
+    enum Operation { weather, airPollution, locations }
+
+    private static final String WEATHER_QUERY = "current=temperature_2m,relative_humidity_2m,apparent_temperature,precipitation,weather_code,wind_speed_10m"
+            + "&hourly=temperature_2m,precipitation_probability,weather_code&daily=temperature_2m_max,temperature_2m_min&timezone=auto";
+    private static final String AIR_POLLUTION_QUERY = "current=pm10,pm2_5,european_aqi,us_aqi&timezone=auto";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final String baseUrl;
+    private final Map<Operation, Integer> mix;
+    private final double[][] cells;   // 격자 좌표 [위도, 경도] (앞쪽일수록 인기 격자)
+    private final int devices;
+    private final Map<String, String> eTags = new ConcurrentHashMap<>(); // 디바이스별 마지막 즐겨찾기 ETag
+
+    LoadDriver(String baseUrl, Map<Operation, Integer> mix, int cellCount, int devices, long seed) {
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+        this.devices = devices;
+        Random random = new Random(seed);
+        this.cells = new double[cellCount][];
+        for (int i = 0; i < cellCount; i++) {
+            // 국내 좌표 범위 (소수점 2자리)
+            cells[i] = new double[]{
+                    Math.round((33.2 + random.nextDouble() * 5.3) * 100) / 100.0,
+                    Math.round((126.1 + random.nextDouble() * 3.4) * 100) / 100.0};
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = new LoadTestOptions(args);
+        LoadDriver driver = new LoadDriver(
+                options.string("base-url", "http://localhost:8080"),
+                parseMix(options.string("mix", "weather=60,airPollution=25,locations=15")),
+                options.integer("cells", 400),
+                options.integer("devices", 200),
+                options.integer("seed", 42));
+        Duration warmup = options.duration("warmup", Duration.ofSeconds(10));
+        Duration duration = options.duration("duration", Duration.ofSeconds(60));
+        int concurrency = options.integer("concurrency", 32);
+
+        driver.seedFavorites(options.integer("seed", 42));
+        System.out.printf("[load] %s, concurrency=%d, warmup=%ds, duration=%ds, mix=%s%n",
+                driver.baseUrl, concurrency, warmup.toSeconds(), duration.toSeconds(), driver.mix);
+        driver.run(concurrency, warmup, duration).print(duration);
+    }
+
+    // 디바이스별 1~5개 즐겨찾기 등록 (이미 등록된 좌표는 서버에서 거절되므로 무시)
+    void seedFavorites(long seed) throws Exception {
+        Random random = new Random(seed);
+        int created = 0;
+        for (int d = 0; d < devices; d++) {
+            int count = 1 + random.nextInt(5);
+            for (int i = 0; i < count; i++) {
+                double[] cell = cells[popularIndex(random.nextDouble())];
+                String body = String.format("{\"deviceId\":\"%s\",\"latitude\":%s,\"longitude\":%s,\"addressName\":\"loadtest %d-%d\"}",
+                        deviceId(d), cell[0], cell[1], d, i);
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/sidemenu/locations"))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body))
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() / 100 == 2) {
+                    created++;
+                }
+            }
+        }
+        System.out.printf("[load] seeded %d favorites for %d devices%n", created, devices);
+    }
+
+    Report run(int concurrency, Duration warmup, Duration duration) throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+        List<Future<Map<Operation, Samples>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> work(measureFrom, deadline)));
+            }
+            Report report = new Report();
+            for (Future<Map<Operation, Samples>> worker : workers) {
+                report.merge(worker.get());
+            }
+            return report;
+        }
+    }
+
+    // 작업 스레드 1개: 마감 시각까지 호출 반복, 측정 구간 결과만 스레드별로 기록 (집계 시 병합)
+    private Map<Operation, Samples> work(long measureFrom, long deadline) {
+        Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            samples.put(operation, new Samples());
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Operation operation = pick(random.nextInt(totalWeight()));
+            long begin = System.nanoTime();
+            boolean ok = call(operation, random);
+            long end = System.nanoTime();
+            if (begin >= measureFrom) {
+                samples.get(operation).add(end - begin, ok);
+            }
+        }
+        return samples;
+    }
+
+    private boolean call(Operation operation, ThreadLocalRandom random) {
+        try {
+            if (operation == Operation.locations) {
+                String deviceId = deviceId(random.nextInt(devices));
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/sidemenu/locations?deviceId=" + deviceId));
+                String eTag = eTags.get(deviceId);
+                if (eTag != null) {
+                    request.header("If-None-Match", eTag);
+                }
+                HttpResponse<byte[]> response = client.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+                response.headers().firstValue("ETag").ifPresent(value -> eTags.put(deviceId, value));
+                return response.statusCode() / 100 == 2 || response.statusCode() == 304;
+            }
+            double[] cell = cells[popularIndex(random.nextDouble())];
+            String path = operation == Operation.weather
+                    ? "/api/weather?latitude=" + cell[0] + "&longitude=" + cell[1] + "&" + WEATHER_QUERY
+                    : "/api/airPollution?latitude=" + cell[0] + "&longitude=" + cell[1] + "&" + AIR_POLLUTION_QUERY;
+            HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                            .header("Accept-Encoding", "gzip")
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            return response.statusCode() / 100 == 2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 0~1 난수 → 격자 번호 (제곱 분포: 앞쪽 격자일수록 자주 선택)
+    private int popularIndex(double uniform) {
+        return Math.min(cells.length - 1, (int) (cells.length * uniform * uniform));
+    }
+
+    private Operation pick(int ticket) {
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("mix 비율 합계 오류");
+    }
+
+    private int totalWeight() {
+        return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static String deviceId(int index) {
+        return String.format("loadtest-device-%05d", index);
+    }
+
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split("=");
+            mix.put(Operation.valueOf(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix 비율 합계는 0보다 커야 합니다: " + value);
+        }
+        return mix;
+    }
+
+    /**
+     * 호출 1종류의 지연 시간 기록 (스레드 1개 전용)
+     */
+    static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long latencyNanos, boolean ok) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        // 정렬된 기록에서 백분위 (ms)
+        double percentileMillis(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * size) - 1;
+            return latencies[Math.max(0, Math.min(size - 1, index))] / 1_000_000.0;
+        }
+
+        void sort() {
+            Arrays.sort(latencies, 0, size);
+        }
+    }
+
+    /**
+     * 전체 작업 스레드 결과 집계
+     */
+    static final class Report {
+
+        private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+
+        void merge(Map<Operation, Samples> worker) {
+            worker.forEach((operation, recorded) -> samples.computeIfAbsent(operation, key -> new Samples()).addAll(recorded));
+        }
+
+        void print(Duration duration) {
+            double seconds = duration.toMillis() / 1000.0;
+            System.out.printf("%n%-14s %9s %7s %10s %9s %9s %9s %9s%n", "operation", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+            Samples total = new Samples();
+            samples.forEach((operation, recorded) -> {
+                print(operation.name(), recorded, seconds);
+                total.addAll(recorded);
+            });
+            print("total", total, seconds);
+        }
+
+        private static void print(String name, Samples recorded, double seconds) {
+            recorded.sort();
+            System.out.printf("%-14s %9d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    name, recorded.size, recorded.errors, recorded.size / seconds,
+                    recorded.percentileMillis(0.50), recorded.percentileMillis(0.90),
+                    recorded.percentileMillis(0.99), recorded.percentileMillis(1.0));
+        }
+    }
+}
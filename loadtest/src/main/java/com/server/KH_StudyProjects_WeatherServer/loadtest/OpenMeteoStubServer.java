@@ -0,0 +1,188 @@
+package com.server.KH_StudyProjects_WeatherServer.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Open-Meteo 로컬 스텁 서버
+ *
+ * 녹화된 예보/대기질 응답(payloads/*.json)을 요청 좌표로 바꾸어 응답
+ * 서버의 openmeteo.endpoint 를 이 서버로 지정하면 실제 Open-Meteo 호출 없이 부하 테스트 가능 (loadtest 프로파일)
+ *
+ * 경로:
+ * - /v1/forecast: 날씨 예보 (weather)
+ * - /v1/air-quality: 대기질 (airPollution)
+ * - 다중 좌표(latitude=a,b,...) 요청은 좌표별 응답 배열
+ *
+ * 옵션:
+ * - --port=18080
+ * - --latency=80ms, --jitter=40ms: 응답 지연 (latency + 0~jitter 무작위)
+ * - --error-rate=0.0: 오류 응답 비율 (0.0 ~ 1.0)
+ * - --error-status=503: 오류 응답 상태 코드
+ *
+ * 실행: ./gradlew :loadtest:runStub -PstubArgs="--latency=120ms --error-rate=0.02"
+ *
+ * @since 2026-10-18
+ */
+public class OpenMeteoStubServer {
+
+    private final Duration latency;
+    private final Duration jitter;
+    private final double errorRate;
+    private final int errorStatus;
+    private final LongAdder servedCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+
+    OpenMeteoStubServer(Duration latency, Duration jitter, double errorRate, int errorStatus) {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = new LoadTestOptions(args);
+        int port = options.integer("port", 18080);
+        OpenMeteoStubServer stub = new OpenMeteoStubServer(
+                options.duration("latency", Duration.ofMillis(80)),
+                options.duration("jitter", Duration.ofMillis(40)),
+                options.decimal("error-rate", 0.0),
+                options.integer("error-status", 503));
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor()); // 지연 주입(sleep) 중에도 스레드를 점유하지 않음
+        server.createContext("/v1/forecast", stub.handler(Payload.load("payloads/forecast.json")));
+        server.createContext("/v1/air-quality", stub.handler(Payload.load("payloads/air-quality.json")));
+        server.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.printf(
+                "[stub] served=%d, injected errors=%d%n", stub.servedCount.sum(), stub.errorCount.sum())));
+        System.out.printf("[stub] Open-Meteo stub listening on http://localhost:%d/v1 (latency=%dms+0~%dms, error-rate=%.3f -> %d)%n",
+                port, stub.latency.toMillis(), stub.jitter.toMillis(), stub.errorRate, stub.errorStatus);
+    }
+
+    private HttpHandler handler(Payload payload) {
+        return exchange -> {
+            try (exchange) {
+                delay();
+                if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                    errorCount.increment();
+                    send(exchange, errorStatus, "{\"error\":true,\"reason\":\"stub injected error\"}".getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+                String latitude = query.get("latitude");
+                String longitude = query.get("longitude");
+                if (latitude == null || longitude == null) {
+                    send(exchange, 400, "{\"error\":true,\"reason\":\"latitude/longitude required\"}".getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                servedCount.increment();
+                send(exchange, 200, payload.render(latitude.split(","), longitude.split(",")));
+            }
+        };
+    }
+
+    private void delay() {
+        long millis = latency.toMillis() + (jitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1));
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Accept-Encoding 에 gzip 이 있으면 압축 (실제 Open-Meteo 와 같은 동작)
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    /**
+     * 녹화된 응답 (좌표 부분만 요청 값으로 교체)
+     */
+    static final class Payload {
+
+        private final String tail; // 녹화 응답에서 latitude/longitude 이후 부분
+
+        private Payload(String recorded) {
+            int start = recorded.indexOf(",\"generationtime_ms\"");
+            if (!recorded.startsWith("{\"latitude\":") || start < 0) {
+                throw new IllegalStateException("녹화 응답은 latitude, longitude, generationtime_ms 순서로 시작해야 합니다.");
+            }
+            this.tail = recorded.substring(start).trim();
+        }
+
+        static Payload load(String resource) throws IOException {
+            try (InputStream in = OpenMeteoStubServer.class.getClassLoader().getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IllegalStateException("녹화 응답 없음: " + resource);
+                }
+                return new Payload(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        // 단일 좌표는 객체, 다중 좌표는 좌표별 객체 배열
+        byte[] render(String[] latitudes, String[] longitudes) {
+            if (latitudes.length == 1) {
+                return single(latitudes[0], longitudes[0]).getBytes(StandardCharsets.UTF_8);
+            }
+            StringJoiner array = new StringJoiner(",", "[", "]");
+            for (int i = 0; i < latitudes.length; i++) {
+                array.add(single(latitudes[i], longitudes[Math.min(i, longitudes.length - 1)]));
+            }
+            return array.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        private String single(String latitude, String longitude) {
+            return "{\"latitude\":" + Double.parseDouble(latitude) + ",\"longitude\":" + Double.parseDouble(longitude) + tail;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenMeteoResponseParser;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Open-Meteo 응답 인코딩 비교 (JSON Map / JSON 모델 / CBOR typed array)
+ *
+ * 직렬화 시간과 함께 응답 크기(원본/gzip, byte)를 보조 지표(rawBytes / gzipBytes)로 JMH 결과에 기록
+ * 실행: ./gradlew jmh -Pjmh.includes=OpenMeteoEncodingBenchmark
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenMeteoEncodingBenchmark {
+
+    private static final String[] HOURLY_VARIABLES = {
+            "temperature_2m", "relative_humidity_2m", "apparent_temperature", "precipitation_probability",
+            "precipitation", "weather_code", "cloud_cover", "wind_speed_10m", "wind_direction_10m", "uv_index"};
+
+    @Param({"7", "16"})
+    private int forecastDays; // hourly 예보 일수 (7일 = 168건)
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final CBORMapper cborMapper = new CBORMapper();
+    private Map<String, Object> map;
+    private OpenMeteoResponse model;
+    private int mapJsonGzipBytes;   // gzip 크기는 측정 구간 밖에서 미리 계산
+    private int modelJsonGzipBytes;
+    private int cborGzipBytes;
+
+    /**
+     * 응답 크기 보조 지표 (byte)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long rawBytes;
+        public long gzipBytes;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] json = sampleJson(forecastDays).getBytes(StandardCharsets.UTF_8);
+        map = jsonMapper.readValue(json, new TypeReference<>() {});
+        model = new OpenMeteoResponseParser(jsonMapper).parse(new ByteArrayInputStream(json), "weather");
+
+        mapJsonGzipBytes = gzipSize(jsonMapper.writeValueAsBytes(map));
+        modelJsonGzipBytes = gzipSize(jsonMapper.writeValueAsBytes(model));
+        cborGzipBytes = gzipSize(cborMapper.writeValueAsBytes(model));
+    }
+
+    @Benchmark
+    public byte[] jsonFromMap(PayloadSize size) throws Exception {
+        return record(jsonMapper.writeValueAsBytes(map), mapJsonGzipBytes, size);
+    }
+
+    @Benchmark
+    public byte[] jsonFromModel(PayloadSize size) throws Exception {
+        return record(jsonMapper.writeValueAsBytes(model), modelJsonGzipBytes, size);
+    }
+
+    @Benchmark
+    public byte[] cborFromModel(PayloadSize size) throws Exception {
+        return record(cborMapper.writeValueAsBytes(model), cborGzipBytes, size);
+    }
+
+    private static byte[] record(byte[] payload, int gzipBytes, PayloadSize size) {
+        size.rawBytes = payload.length;
+        size.gzipBytes = gzipBytes;
+        return payload;
+    }
+
+    // 실제 Open-Meteo 응답과 같은 구조의 hourly 예보 생성
+    static String sampleJson(int days) {
+        int hours = days * 24;
+        LocalDateTime start = LocalDateTime.of(2025, 4, 13, 0, 0);
+        StringBuilder json = new StringBuilder()
+                .append("{\"latitude\":37.56,\"longitude\":126.98,\"generationtime_ms\":0.12,\"utc_offset_seconds\":32400,")
+                .append("\"timezone\":\"Asia/Seoul\",\"timezone_abbreviation\":\"KST\",\"elevation\":38.0,")
+                .append("\"hourly_units\":{\"time\":\"iso8601\"");
+        for (String variable : HOURLY_VARIABLES) {
+            json.append(",\"").append(variable).append("\":\"unit\"");
+        }
+        json.append("},\"hourly\":{\"time\":[");
+        for (int i = 0; i < hours; i++) {
+            json.append(i == 0 ? "" : ",").append('"').append(start.plusHours(i).toString()).append('"');
+        }
+        json.append(']');
+        for (int v = 0; v < HOURLY_VARIABLES.length; v++) {
+            json.append(",\"").append(HOURLY_VARIABLES[v]).append("\":[");
+            boolean code = "weather_code".equals(HOURLY_VARIABLES[v]);
+            for (int i = 0; i < hours; i++) {
+                String value = code
+                        ? String.valueOf((i * 7 + v) % 4)
+                        : String.valueOf(Math.round((10 + v + Math.sin(i / 6.0) * 8) * 10) / 10.0);
+                json.append(i == 0 ? "" : ",").append(value);
+            }
+            json.append(']');
+        }
+        return json.append("}}").toString();
+    }
+
+    private static int gzipSize(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
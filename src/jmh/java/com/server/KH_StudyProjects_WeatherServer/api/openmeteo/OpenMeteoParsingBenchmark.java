@@ -0,0 +1,61 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenMeteoResponseParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open-Meteo 예보 응답 파싱 비교 (Map&lt;String, Object&gt; / 열 단위 모델)
+ *
+ * 네트워크 없이 재현 가능하도록 고정 응답 샘플(openmeteo/forecast-seoul-7d.json: 서울 7일 current/hourly/daily)을 사용
+ * 실행: ./gradlew jmh -Pjmh.includes=OpenMeteoParsingBenchmark
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenMeteoParsingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OpenMeteoResponseParser parser = new OpenMeteoResponseParser(objectMapper);
+    private byte[] forecast;
+
+    @Setup
+    public void setUp() throws Exception {
+        forecast = fixture("openmeteo/forecast-seoul-7d.json");
+    }
+
+    @Benchmark
+    public Map<String, Object> parseToMap() throws Exception {
+        return objectMapper.readValue(forecast, new TypeReference<>() {});
+    }
+
+    @Benchmark
+    public OpenMeteoResponse parseToModel() throws Exception {
+        return parser.parse(new ByteArrayInputStream(forecast), "weather");
+    }
+
+    // jmh 리소스의 고정 응답 샘플
+    static byte[] fixture(String path) throws Exception {
+        try (InputStream in = OpenMeteoParsingBenchmark.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("응답 샘플 없음: " + path);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * OpenApiManager.makeUrl 요청 URL 생성 비용 (단일 좌표 / 다중 좌표 50개)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=OpenApiManagerUrlBenchmark
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OpenApiManagerUrlBenchmark {
+
+    // application.yml 의 sidemenu.dashboard.query-param 과 같은 값
+    private static final String QUERY_PARAM = "current=temperature_2m,relative_humidity_2m,apparent_temperature,precipitation,weather_code,wind_speed_10m&timezone=auto";
+
+    private final OpenApiEndpointProperties endpoints = new OpenApiEndpointProperties();
+    private Map<String, Object> single;
+    private Map<String, Object> batch;
+
+    @Setup
+    public void setUp() {
+        single = new HashMap<>();
+        single.put("latitude", "37.56");
+        single.put("longitude", "126.98");
+        single.put("queryParam", QUERY_PARAM);
+
+        batch = new HashMap<>();
+        batch.put("latitude", IntStream.range(0, 50).mapToObj(i -> String.valueOf(33.1 + i * 0.1)).collect(Collectors.joining(",")));
+        batch.put("longitude", IntStream.range(0, 50).mapToObj(i -> String.valueOf(126.1 + i * 0.05)).collect(Collectors.joining(",")));
+        batch.put("queryParam", QUERY_PARAM);
+    }
+
+    @Benchmark
+    public String singleLocation() throws Exception {
+        return OpenApiManager.makeUrl(single, "weather", endpoints);
+    }
+
+    @Benchmark
+    public String batchOf50() throws Exception {
+        return OpenApiManager.makeUrl(batch, "weather", endpoints);
+    }
+}
@@ -0,0 +1,67 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 즐겨찾기 좌표 조회 비교 (목록 stream filter / 스냅샷 좌표 맵)
+ *
+ * streamFilter 는 SmFavoriteLocationService 가 스냅샷 캐시 도입 전에 사용하던 방식,
+ * snapshotFind 는 현재 SmFavoriteLocationCache.Snapshot#find 방식 (조회 대상은 목록의 마지막 항목)
+ * 실행: ./gradlew jmh -Pjmh.includes=SmFavoriteLocationLookupBenchmark
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SmFavoriteLocationLookupBenchmark {
+
+    @Param({"10", "50"})
+    private int size; // 즐겨찾기 건수
+
+    private List<SmFavoriteLocationResponseDto> locations;
+    private SmFavoriteLocationCache.Snapshot snapshot;
+    private Double latitude;
+    private Double longitude;
+
+    @Setup
+    public void setUp() {
+        locations = IntStream.range(0, size)
+                .mapToObj(i -> SmFavoriteLocationResponseDto.builder()
+                        .seqNo((long) i + 1)
+                        .latitude(37.5 + i * 0.01)
+                        .longitude(127.0 + i * 0.01)
+                        .sortOrder(i + 1)
+                        .build())
+                .toList();
+        snapshot = SmFavoriteLocationCache.Snapshot.of(1, locations);
+        // 목록의 객체와 다른 Double 인스턴스 (요청 본문에서 역직렬화된 값과 같은 조건)
+        latitude = Double.valueOf(String.valueOf(37.5 + (size - 1) * 0.01));
+        longitude = Double.valueOf(String.valueOf(127.0 + (size - 1) * 0.01));
+    }
+
+    @Benchmark
+    public SmFavoriteLocationResponseDto streamFilter() {
+        return locations.stream()
+                .filter(loc -> loc.getLatitude().equals(latitude) && loc.getLongitude().equals(longitude))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Benchmark
+    public SmFavoriteLocationResponseDto snapshotFind() {
+        return snapshot.find(latitude, longitude);
+    }
+}
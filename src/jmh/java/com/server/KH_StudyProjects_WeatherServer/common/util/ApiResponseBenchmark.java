@@ -0,0 +1,73 @@
+package com.server.KH_StudyProjects_WeatherServer.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * ApiResponse 응답 래퍼 직렬화 비용 (사이드메뉴 즐겨찾기 목록 응답 기준)
+ *
+ * ObjectMapper 는 Spring Boot 기본 설정과 같게 구성 (JavaTimeModule, 날짜는 ISO 문자열)
+ * 실행: ./gradlew jmh -Pjmh.includes=ApiResponseBenchmark
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseBenchmark {
+
+    @Param({"1", "20"})
+    private int size; // 즐겨찾기 건수
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private List<SmFavoriteLocationResponseDto> locations;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 4, 13, 9, 30);
+        locations = IntStream.range(0, size)
+                .mapToObj(i -> SmFavoriteLocationResponseDto.builder()
+                        .seqNo((long) i + 1)
+                        .deviceId("bench-device-0001")
+                        .latitude(37.5 + i * 0.01)
+                        .longitude(127.0 + i * 0.01)
+                        .addressName("서울특별시 중구 세종대로 " + (110 + i))
+                        .region1DepthName("서울특별시")
+                        .region2DepthName("중구")
+                        .region3DepthName("태평로1가")
+                        .region3DepthHName("명동")
+                        .sortOrder(i + 1)
+                        .rowVersion(42L)
+                        .createdAt(createdAt.plusMinutes(i))
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] successEnvelope() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(locations));
+    }
+
+    @Benchmark
+    public byte[] bareList() throws Exception {
+        return objectMapper.writeValueAsBytes(locations);
+    }
+}
@@ -0,0 +1,96 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동일 키 동시 호출 병합기 (single-flight)
+ *
+ * 같은 키로 동시에 들어온 요청 중 첫 요청(leader)만 실제 작업을 수행하고,
+ * 나머지 요청은 leader 의 결과를 기다렸다가 그대로 공유
+ * 캐시 만료 직후 같은 지역 요청이 한꺼번에 업스트림으로 몰리는 현상(thundering herd)을 방지
+ *
+ * 대기 규칙:
+ * - 대기 요청은 waitTimeout 까지만 기다리고, 초과 시 TimeoutException
+ * - leader 가 실패하면 대기 요청도 같은 예외를 받음
+ * - 작업이 끝나면 키를 즉시 제거하여 다음 요청은 새로 수행
+ *
+ * @param <K> 병합 키 타입
+ * @param <V> 결과 타입
+ * @since 2026-10-18
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaderCount = new LongAdder();     // 실제 수행 건수
+    private final LongAdder collapsedCount = new LongAdder();  // 병합되어 대기한 건수
+    private final LongAdder timeoutCount = new LongAdder();    // 대기 시간 초과 건수
+
+    /**
+     * 키 단위로 병합하여 작업 수행
+     *
+     * @param key 병합 키
+     * @param waitTimeout 다른 요청의 결과를 기다릴 최대 시간
+     * @param task 실제 작업
+     * @return V 작업 결과 (직접 수행했거나 공유받은 결과)
+     * @throws TimeoutException 대기 시간 초과 시
+     * @throws Exception 작업 중 발생한 예외
+     */
+    public V execute(K key, Duration waitTimeout, Callable<V> task) throws Exception {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(existing, waitTimeout);
+        }
+
+        leaderCount.increment();
+        try {
+            V result = task.call();
+            mine.complete(result);
+            return result;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V await(CompletableFuture<V> existing, Duration waitTimeout) throws Exception {
+        collapsedCount.increment();
+        try {
+            return existing.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeoutCount.increment();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public long getLeaderCount() {
+        return leaderCount.sum();
+    }
+
+    public long getCollapsedCount() {
+        return collapsedCount.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,135 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import java.util.Arrays;
+
+/**
+ * 업스트림 호스트별 서킷 브레이커
+ *
+ * 최근 windowSize 건의 호출 결과로 실패율/지연 호출 비율을 계산하여 임계치를 넘으면 일정 시간 호출을 차단
+ * 차단 중에는 업스트림을 기다리지 않고 즉시 실패하여 요청 처리 스레드가 묶이지 않도록 함
+ *
+ * 상태 전이:
+ * - CLOSED → OPEN: 최소 호출 수 이상에서 실패율 또는 지연 호출 비율이 임계치 이상
+ * - OPEN → HALF_OPEN: openDuration 경과 후 첫 호출 시
+ * - HALF_OPEN → CLOSED: 시험 호출(halfOpenCalls 건)이 모두 성공
+ * - HALF_OPEN → OPEN: 시험 호출 중 하나라도 실패/지연
+ *
+ * @since 2026-10-18
+ */
+public class UpstreamCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final UpstreamResilienceProperties.CircuitBreaker config;
+    private final boolean[] failures;  // 최근 호출 실패 여부 (원형 버퍼)
+    private final boolean[] slowCalls; // 최근 호출 지연 여부 (원형 버퍼)
+    private int index;
+    private int count;
+    private int failureCount;
+    private int slowCallCount;
+    private State state = State.CLOSED;
+    private long openedAt;             // 차단 시작 시각 (nanoTime)
+    private int halfOpenInFlight;      // 진행 중인 시험 호출 수
+    private int halfOpenSucceeded;     // 성공한 시험 호출 수
+
+    public UpstreamCircuitBreaker(UpstreamResilienceProperties.CircuitBreaker config) {
+        this.config = config;
+        this.failures = new boolean[Math.max(1, config.getWindowSize())];
+        this.slowCalls = new boolean[failures.length];
+    }
+
+    /**
+     * 호출 허용 여부 확인 (허용 시 결과를 onResult 또는 release 로 반드시 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (!config.isEnabled() || state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < config.getOpenDuration().toNanos()) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (halfOpenInFlight >= config.getHalfOpenCalls()) {
+            return false;
+        }
+        halfOpenInFlight++;
+        return true;
+    }
+
+    /**
+     * 호출 결과 기록
+     *
+     * @param success 정상 응답 여부 (5xx, 429, 연결 실패, 타임아웃은 실패)
+     * @param elapsedNanos 호출 소요 시간
+     */
+    public synchronized void onResult(boolean success, long elapsedNanos) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        boolean slow = elapsedNanos >= config.getSlowCallThreshold().toNanos();
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            if (!success || slow) {
+                open();
+            } else if (++halfOpenSucceeded >= config.getHalfOpenCalls()) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return; // 차단 전에 시작된 호출의 늦은 결과
+        }
+
+        if (count == failures.length) {
+            failureCount -= failures[index] ? 1 : 0;
+            slowCallCount -= slowCalls[index] ? 1 : 0;
+        } else {
+            count++;
+        }
+        failures[index] = !success;
+        slowCalls[index] = slow;
+        failureCount += success ? 0 : 1;
+        slowCallCount += slow ? 1 : 0;
+        index = (index + 1) % failures.length;
+
+        if (count >= config.getMinimumCalls()
+                && (failureCount * 100 >= config.getFailureRateThreshold() * count
+                || slowCallCount * 100 >= config.getSlowCallRateThreshold() * count)) {
+            open();
+        }
+    }
+
+    /**
+     * 결과 없이 종료된 호출 반환 (헤지 요청 취소 등)
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        index = 0;
+        count = 0;
+        failureCount = 0;
+        slowCallCount = 0;
+        Arrays.fill(failures, false);
+        Arrays.fill(slowCalls, false);
+    }
+}
@@ -0,0 +1,290 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업스트림 API 공용 HTTP 클라이언트
+ *
+ * 요청마다 RestTemplate 을 새로 만들던 방식을 대체하여 애플리케이션 전체에서 하나의 HttpClient 를 공유
+ * 동일 호스트로의 커넥션을 재사용하여 매 요청마다 발생하던 TCP/TLS 핸드셰이크 비용을 제거
+ *
+ * 주요 기능:
+ * - 호스트별 커넥션 풀 + keep-alive (JDK HttpClient 내장 풀)
+ *   유휴 커넥션 유지 시간은 JVM 전역 설정(-Djdk.httpclient.keepalive.timeout)으로만 조정 가능 → 클라이언트별로 설정하지 않음
+ * - HTTP/2 우선 사용 (서버가 지원하지 않으면 HTTP/1.1 로 자동 전환)
+ * - Accept-Encoding: gzip 요청
+ * - 연결/읽기 타임아웃, 호스트별 최대 동시 연결 수 제한
+ * - 호스트별 서킷 브레이커 (업스트림 장애 시 즉시 실패)
+ * - 헤지 요청 (응답이 p95 지연보다 늦으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용)
+ * - 가상 스레드 모드에서는 응답 처리도 가상 스레드에서 수행
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class UpstreamHttpClient {
+
+    private final UpstreamHttpProperties properties;
+    private final UpstreamResilienceProperties resilienceProperties;
+    private final UpstreamQuotaGovernor quotaGovernor;
+    private final HttpClient httpClient;
+    private final ConcurrentMap<String, HostState> hosts = new ConcurrentHashMap<>(); // 호스트별 연결 제한/서킷/지연
+    private final LongAdder hedgeCount = new LongAdder(); // 헤지 요청 발송 건수
+
+    public UpstreamHttpClient(UpstreamHttpProperties properties, UpstreamResilienceProperties resilienceProperties,
+                              UpstreamQuotaGovernor quotaGovernor, Environment environment) {
+        this.properties = properties;
+        this.resilienceProperties = resilienceProperties;
+        this.quotaGovernor = quotaGovernor;
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("upstream-http-vt-", 0).factory()));
+        }
+        this.httpClient = builder.build();
+    }
+
+    /**
+     * GET 요청 후 응답 본문 전체 수신
+     *
+     * 헤지 요청이 활성화되어 있고 지연 표본이 충분하면 p95 지연 이후 같은 요청을 한 번 더 전송
+     *
+     * @param uri 요청 URI
+     * @return UpstreamResponse 상태코드 + 원본 본문
+     * @throws IOException 연결 실패, 타임아웃, 커넥션 슬롯 대기 초과 시
+     * @throws InterruptedException 대기 중 인터럽트 발생 시
+     * @throws UpstreamUnavailableException 서킷 브레이커가 열려 있는 경우
+     */
+    public UpstreamResponse get(URI uri) throws IOException, InterruptedException {
+        HostState host = host(uri);
+        long hedgeDelay = hedgeDelayNanos(host);
+        HttpResponse<byte[]> response = hedgeDelay < 0
+                ? send(uri, HttpResponse.BodyHandlers.ofByteArray())
+                : sendHedged(uri, host, hedgeDelay);
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        return new UpstreamResponse(response.statusCode(), response.body(), gzip);
+    }
+
+    /**
+     * GET 요청 (본문 처리 방식 지정)
+     *
+     * 호스트별 커넥션 슬롯을 확보한 뒤 요청을 전송하고, 응답 수신 후 슬롯을 반환
+     *
+     * @param uri 요청 URI
+     * @param bodyHandler 응답 본문 처리기
+     * @return HttpResponse<T> 응답
+     * @throws IOException 연결 실패, 타임아웃, 커넥션 슬롯 대기 초과 시
+     * @throws InterruptedException 대기 중 인터럽트 발생 시
+     * @throws UpstreamUnavailableException 서킷 브레이커가 열려 있는 경우
+     */
+    public <T> HttpResponse<T> send(URI uri, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        HostState host = host(uri);
+        acquire(host, uri);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<T> response = httpClient.send(request(uri), bodyHandler);
+            host.record(response.statusCode(), System.nanoTime() - start);
+            return response;
+        } catch (IOException e) {
+            host.breaker.onResult(false, System.nanoTime() - start);
+            throw e;
+        } catch (InterruptedException e) {
+            host.breaker.release();
+            throw e;
+        } finally {
+            host.permits.release();
+        }
+    }
+
+    /**
+     * 호스트별 서킷 브레이커 상태 (모니터링용)
+     */
+    public Map<String, String> getCircuitStates() {
+        Map<String, String> states = new LinkedHashMap<>();
+        hosts.forEach((name, host) -> states.put(name, host.breaker.getState().name()));
+        return states;
+    }
+
+    /**
+     * 헤지 요청 발송 건수
+     */
+    public long getHedgeCount() {
+        return hedgeCount.sum();
+    }
+
+    // 호스트의 남은 커넥션 슬롯 수 (테스트에서 슬롯 반환 확인용)
+    int availablePermits(String hostName) {
+        HostState host = hosts.get(hostName);
+        return host == null ? properties.getMaxConnectionsPerHost() : host.permits.availablePermits();
+    }
+
+    // 첫 요청이 hedgeDelay 안에 끝나지 않으면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답 사용
+    private HttpResponse<byte[]> sendHedged(URI uri, HostState host, long hedgeDelayNanos) throws IOException, InterruptedException {
+        HttpRequest request = request(uri);
+        acquire(host, uri);
+        CompletableFuture<HttpResponse<byte[]>> primary = sendAsync(request, host);
+        CompletableFuture<HttpResponse<byte[]>> hedge = null;
+        try {
+            try {
+                return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 헤지는 빈 커넥션 슬롯과 서킷 여유, 예약분을 제외한 호출 한도가 있을 때만 (대기하지 않음)
+                // 한도 토큰은 되돌릴 수 없으므로 슬롯과 서킷을 먼저 확보한 뒤 마지막에 차감
+                if (tryAcquireHedge(host)) {
+                    hedgeCount.increment();
+                    hedge = sendAsync(request, host);
+                }
+            }
+            return (hedge == null ? primary : firstSuccessful(primary, hedge)).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    // 헤지용 슬롯 → 서킷 → 호출 한도 순으로 확보 (하나라도 실패하면 앞에서 확보한 것을 반환)
+    private boolean tryAcquireHedge(HostState host) {
+        if (!host.permits.tryAcquire()) {
+            return false;
+        }
+        if (!host.breaker.tryAcquire()) {
+            host.permits.release();
+            return false;
+        }
+        if (!quotaGovernor.tryAcquire(UpstreamPriority.PREFETCH, 1)) {
+            host.breaker.release();
+            host.permits.release();
+            return false;
+        }
+        return true;
+    }
+
+    // 비동기 전송 (완료 시 슬롯 반환 및 결과 기록)
+    private CompletableFuture<HttpResponse<byte[]>> sendAsync(HttpRequest request, HostState host) {
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> future = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        future.whenComplete((response, error) -> {
+            host.permits.release();
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof CancellationException) {
+                host.breaker.release();
+            } else if (cause != null) {
+                host.breaker.onResult(false, System.nanoTime() - start);
+            } else {
+                host.record(response.statusCode(), System.nanoTime() - start);
+            }
+        });
+        return future;
+    }
+
+    // 둘 중 먼저 성공(5xx/429 제외)한 응답, 둘 다 실패하면 마지막 결과
+    private static CompletableFuture<HttpResponse<byte[]>> firstSuccessful(CompletableFuture<HttpResponse<byte[]>> first,
+                                                                           CompletableFuture<HttpResponse<byte[]>> second) {
+        CompletableFuture<HttpResponse<byte[]>> result = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        for (CompletableFuture<HttpResponse<byte[]>> future : List.of(first, second)) {
+            future.whenComplete((response, error) -> {
+                boolean success = error == null && isSuccess(response.statusCode());
+                if (success) {
+                    result.complete(response);
+                } else if (remaining.decrementAndGet() == 0) {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(response);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    // 커넥션 슬롯 확보 후 서킷 확인 (차단 시 슬롯 반환)
+    private void acquire(HostState host, URI uri) throws IOException, InterruptedException {
+        if (!host.permits.tryAcquire(properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IOException("업스트림 커넥션 대기 시간 초과: " + uri.getHost());
+        }
+        if (!host.breaker.tryAcquire()) {
+            host.permits.release();
+            throw new UpstreamUnavailableException("업스트림 호출 차단 중(circuit open): " + uri.getHost());
+        }
+    }
+
+    private long hedgeDelayNanos(HostState host) {
+        UpstreamResilienceProperties.Hedge hedge = resilienceProperties.getHedge();
+        if (!hedge.isEnabled()) {
+            return -1;
+        }
+        long percentile = host.latency.percentile(hedge.getPercentile(), hedge.getMinSamples());
+        return percentile < 0 ? -1 : Math.max(percentile, hedge.getMinDelay().toNanos());
+    }
+
+    private HttpRequest request(URI uri) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(properties.getReadTimeout())
+                .header("Accept", "application/json")
+                .GET();
+        if (properties.isGzip()) {
+            request.header("Accept-Encoding", "gzip");
+        }
+        return request.build();
+    }
+
+    private HostState host(URI uri) {
+        return hosts.computeIfAbsent(uri.getHost(), host -> new HostState(
+                new Semaphore(properties.getMaxConnectionsPerHost(), true),
+                new UpstreamCircuitBreaker(resilienceProperties.getCircuitBreaker()),
+                new UpstreamLatencyTracker()));
+    }
+
+    // 5xx, 429 는 업스트림 장애로 간주
+    private static boolean isSuccess(int statusCode) {
+        return statusCode < 500 && statusCode != 429;
+    }
+
+    // 호스트별 상태
+    private record HostState(Semaphore permits, UpstreamCircuitBreaker breaker, UpstreamLatencyTracker latency) {
+
+        private void record(int statusCode, long elapsedNanos) {
+            boolean success = isSuccess(statusCode);
+            breaker.onResult(success, elapsedNanos);
+            if (success) {
+                latency.record(elapsedNanos);
+            }
+        }
+    }
+}
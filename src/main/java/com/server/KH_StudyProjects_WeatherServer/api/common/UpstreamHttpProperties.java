@@ -0,0 +1,38 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 외부(업스트림) API HTTP 클라이언트 설정
+ *
+ * application.yml 의 upstream.http 블록과 바인딩되어 UpstreamHttpClient 생성 시 사용
+ * Open-Meteo 날씨/미세먼지 API 호출에 공통으로 적용
+ *
+ * 설정 예시:
+ * upstream:
+ *   http:
+ *     connect-timeout: 3s
+ *     read-timeout: 10s
+ *     max-connections-per-host: 20
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "upstream.http")
+public class UpstreamHttpProperties {
+
+    private Duration connectTimeout = Duration.ofSeconds(3);   // TCP/TLS 연결 타임아웃
+    private Duration readTimeout = Duration.ofSeconds(10);     // 요청 전송 ~ 응답 수신 타임아웃
+    private int maxConnectionsPerHost = 20;                    // 호스트별 최대 동시 연결 수
+    private Duration acquireTimeout = Duration.ofSeconds(2);   // 커넥션 슬롯 대기 최대 시간
+    private boolean http2 = true;                              // HTTP/2 사용 여부 (ALPN 협상 실패 시 HTTP/1.1)
+    private boolean gzip = true;                               // Accept-Encoding: gzip 요청 여부
+    private Duration coalesceWaitTimeout = Duration.ofSeconds(5); // 동일 URL 진행 중 호출 결과 대기 최대 시간
+    private int executorPoolSize = 16;                         // 병렬 호출 실행기 스레드 수
+    private int executorQueueCapacity = 256;                   // 병렬 호출 실행기 대기열 크기
+}
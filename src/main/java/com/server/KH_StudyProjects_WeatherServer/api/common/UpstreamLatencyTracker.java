@@ -0,0 +1,53 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import java.util.Arrays;
+
+/**
+ * 업스트림 호스트별 응답 지연 추적
+ *
+ * 최근 정상 응답의 소요 시간을 원형 버퍼에 보관하고 백분위(p95 등)를 계산하여 헤지 요청 대기 시간으로 사용
+ * 백분위는 일정 건수마다 한 번만 다시 계산
+ *
+ * @since 2026-10-18
+ */
+public class UpstreamLatencyTracker {
+
+    private static final int CAPACITY = 256;          // 보관 표본 수
+    private static final int RECOMPUTE_INTERVAL = 16; // 백분위 재계산 주기 (기록 건수)
+
+    private final long[] samples = new long[CAPACITY];
+    private int index;
+    private int count;
+    private int sinceComputed;
+    private double computedPercentile = -1;
+    private long computedValue = -1;
+
+    public synchronized void record(long elapsedNanos) {
+        samples[index] = elapsedNanos;
+        index = (index + 1) % CAPACITY;
+        count = Math.min(count + 1, CAPACITY);
+        sinceComputed++;
+    }
+
+    /**
+     * 백분위 지연 시간
+     *
+     * @param percentile 0.0 ~ 1.0 (예: 0.95)
+     * @param minSamples 최소 표본 수
+     * @return long 지연 시간 (nanos), 표본이 부족하면 -1
+     */
+    public synchronized long percentile(double percentile, int minSamples) {
+        if (count < Math.max(1, minSamples)) {
+            return -1;
+        }
+        if (computedValue < 0 || computedPercentile != percentile || sinceComputed >= RECOMPUTE_INTERVAL) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile * count) - 1;
+            computedValue = sorted[Math.min(count - 1, Math.max(0, rank))];
+            computedPercentile = percentile;
+            sinceComputed = 0;
+        }
+        return computedValue;
+    }
+}
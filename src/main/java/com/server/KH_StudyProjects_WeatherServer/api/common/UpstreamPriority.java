@@ -0,0 +1,17 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+/**
+ * 업스트림 호출 우선순위
+ *
+ * UpstreamQuotaGovernor 에서 호출 한도를 나눠 쓸 때 사용
+ * - INTERACTIVE: 사용자 요청 (한도 전체 사용, 대기 중이면 다른 등급보다 먼저 처리)
+ * - BATCH: 여러 지역 일괄 조회 (예약분을 제외한 남은 한도만 사용)
+ * - PREFETCH: 선조회, stale 응답 백그라운드 갱신 (예약분을 제외한 남은 한도만 사용)
+ *
+ * @since 2026-10-18
+ */
+public enum UpstreamPriority {
+    INTERACTIVE,
+    BATCH,
+    PREFETCH
+}
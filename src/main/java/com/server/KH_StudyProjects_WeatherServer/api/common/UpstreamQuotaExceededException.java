@@ -0,0 +1,26 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+/**
+ * 업스트림 호출 한도 초과 예외
+ *
+ * UpstreamQuotaGovernor 가 우선순위별 대기 시간 안에 한도를 확보하지 못한 경우 발생 (503 Service Unavailable)
+ * 병합된 호출의 후속 요청이 leader 의 거절을 그대로 받지 않고 자신의 우선순위로 다시 시도할 수 있도록 거절된 우선순위를 함께 전달
+ *
+ * @since 2026-10-18
+ */
+public class UpstreamQuotaExceededException extends UpstreamUnavailableException {
+
+    private final UpstreamPriority priority;
+
+    public UpstreamQuotaExceededException(UpstreamPriority priority) {
+        super("업스트림 호출 한도 초과: " + priority);
+        this.priority = priority;
+    }
+
+    /**
+     * 한도 확보에 실패한 호출의 우선순위
+     */
+    public UpstreamPriority getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,228 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 업스트림 호출 한도(쿼터) 관리기
+ *
+ * 분/시간/일 단위 토큰 버킷으로 Open-Meteo 호출 한도를 관리하여, 한도 초과로 서버 전체가 차단되는 상황을 방지
+ * 토큰은 각 단위 시간 동안 한도만큼 연속적으로 채워지며, 호출 1건(다중 좌표 호출은 좌표 수만큼)마다 모든 버킷에서 차감
+ *
+ * 우선순위 처리:
+ * - INTERACTIVE: 버킷에 토큰이 있으면 사용, 없으면 interactiveMaxWait 까지 대기
+ * - BATCH / PREFETCH: 모든 버킷에 backgroundReserve 비율 이상이 남아 있을 때만 사용하고,
+ *   대기 중인 INTERACTIVE 요청이 있으면 양보
+ * - 대기 시간 안에 토큰을 확보할 수 없으면 즉시 UpstreamQuotaExceededException (거절된 우선순위 포함)
+ *
+ * 메트릭: upstream.quota.remaining(window 별 남은 호출 수), upstream.quota.rejected(priority 별 거절 건수)
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class UpstreamQuotaGovernor implements MeterBinder {
+
+    private final UpstreamQuotaProperties properties;
+    private final LongSupplier ticker; // 현재 시각 (nanoTime)
+    private final Map<String, TokenBucket> buckets = new LinkedHashMap<>(); // 단위 시간 → 버킷
+    private final Map<UpstreamPriority, LongAdder> rejectedCounts = new EnumMap<>(UpstreamPriority.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition(); // 대기 중인 INTERACTIVE 요청이 빠질 때 신호
+    private int interactiveWaiting;
+
+    @Autowired
+    public UpstreamQuotaGovernor(UpstreamQuotaProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    UpstreamQuotaGovernor(UpstreamQuotaProperties properties, LongSupplier ticker) {
+        this.properties = properties;
+        this.ticker = ticker;
+        long now = ticker.getAsLong();
+        addBucket("minute", properties.getPerMinute(), Duration.ofMinutes(1), now);
+        addBucket("hour", properties.getPerHour(), Duration.ofHours(1), now);
+        addBucket("day", properties.getPerDay(), Duration.ofDays(1), now);
+        for (UpstreamPriority priority : UpstreamPriority.values()) {
+            rejectedCounts.put(priority, new LongAdder());
+        }
+    }
+
+    /**
+     * 호출 한도 확보 (우선순위별 최대 대기 시간까지 대기)
+     *
+     * @param priority 호출 우선순위
+     * @param cost 차감할 호출 수 (다중 좌표 호출은 좌표 수)
+     * @throws UpstreamQuotaExceededException 대기 시간 안에 한도를 확보하지 못한 경우
+     * @throws InterruptedException 대기 중 인터럽트 발생 시
+     */
+    public void acquire(UpstreamPriority priority, int cost) throws InterruptedException {
+        if (!acquire(priority, cost, maxWait(priority).toNanos())) {
+            rejectedCounts.get(priority).increment();
+            throw new UpstreamQuotaExceededException(priority);
+        }
+    }
+
+    /**
+     * 대기 없이 호출 한도 확보 시도 (헤지 요청 등 생략 가능한 호출용)
+     *
+     * @return 확보 여부
+     */
+    public boolean tryAcquire(UpstreamPriority priority, int cost) {
+        try {
+            return acquire(priority, cost, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 단위 시간별 남은 호출 수 (모니터링용)
+     */
+    public Map<String, Long> getRemaining() {
+        Map<String, Long> remaining = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            long now = ticker.getAsLong();
+            buckets.forEach((name, bucket) -> {
+                bucket.refill(now);
+                remaining.put(name, (long) Math.floor(bucket.tokens));
+            });
+        } finally {
+            lock.unlock();
+        }
+        return remaining;
+    }
+
+    /**
+     * 우선순위별 한도 초과 거절 건수
+     */
+    public Map<String, Long> getRejectedCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        rejectedCounts.forEach((priority, count) -> counts.put(priority.name(), count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String window : buckets.keySet()) {
+            Gauge.builder("upstream.quota.remaining", this, governor -> governor.getRemaining().get(window))
+                    .tag("window", window)
+                    .description("단위 시간별 남은 업스트림 호출 수")
+                    .register(registry);
+        }
+        rejectedCounts.forEach((priority, count) -> FunctionCounter.builder("upstream.quota.rejected", count, LongAdder::sum)
+                .tag("priority", priority.name())
+                .description("호출 한도 초과로 거절된 건수")
+                .register(registry));
+    }
+
+    private boolean acquire(UpstreamPriority priority, int cost, long maxWaitNanos) throws InterruptedException {
+        if (!properties.isEnabled() || buckets.isEmpty()) {
+            return true;
+        }
+        long deadline = ticker.getAsLong() + maxWaitNanos;
+        boolean waiting = false;
+        lock.lock();
+        try {
+            while (true) {
+                long now = ticker.getAsLong();
+                boolean yielding = priority != UpstreamPriority.INTERACTIVE && interactiveWaiting > 0;
+                long waitNanos = yielding ? Long.MAX_VALUE : tryConsume(priority, cost, now);
+                if (waitNanos == 0) {
+                    return true;
+                }
+                long remaining = deadline - now;
+                if (remaining <= 0 || !yielding && waitNanos > remaining) {
+                    return false; // 기한 안에 채워질 수 없으면 기다리지 않음
+                }
+                if (priority == UpstreamPriority.INTERACTIVE && !waiting) {
+                    interactiveWaiting++;
+                    waiting = true;
+                }
+                released.awaitNanos(Math.min(waitNanos, remaining));
+            }
+        } finally {
+            if (waiting) {
+                interactiveWaiting--;
+                released.signalAll();
+            }
+            lock.unlock();
+        }
+    }
+
+    // 모든 버킷에서 차감 (성공 시 0, 실패 시 토큰이 채워질 때까지 남은 시간, 한도보다 큰 요청이면 Long.MAX_VALUE)
+    private long tryConsume(UpstreamPriority priority, int cost, long now) {
+        boolean background = priority != UpstreamPriority.INTERACTIVE;
+        long waitNanos = 0;
+        for (TokenBucket bucket : buckets.values()) {
+            bucket.refill(now);
+            double reserve = background ? bucket.capacity * properties.getBackgroundReserve() : 0;
+            waitNanos = Math.max(waitNanos, bucket.nanosUntil(cost + reserve));
+        }
+        if (waitNanos == 0) {
+            buckets.values().forEach(bucket -> bucket.tokens -= cost);
+        }
+        return waitNanos;
+    }
+
+    private Duration maxWait(UpstreamPriority priority) {
+        return switch (priority) {
+            case INTERACTIVE -> properties.getInteractiveMaxWait();
+            case BATCH -> properties.getBatchMaxWait();
+            case PREFETCH -> properties.getPrefetchMaxWait();
+        };
+    }
+
+    private void addBucket(String name, long limit, Duration window, long now) {
+        if (limit > 0) {
+            buckets.put(name, new TokenBucket(limit, (double) limit / window.toNanos(), now));
+        }
+    }
+
+    // 단위 시간 1개의 토큰 버킷 (lock 안에서만 접근)
+    private static class TokenBucket {
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(double capacity, double tokensPerNano, long now) {
+            this.capacity = capacity;
+            this.tokensPerNano = tokensPerNano;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+            }
+        }
+
+        private long nanosUntil(double amount) {
+            if (tokens >= amount) {
+                return 0;
+            }
+            if (amount > capacity) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(1, (long) Math.ceil((amount - tokens) / tokensPerNano));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 업스트림 호출 한도(쿼터) 설정
+ *
+ * application.yml 의 upstream.quota 블록과 바인딩되어 UpstreamQuotaGovernor 에 적용
+ * Open-Meteo 무료 요금제 한도(분당 600, 시간당 5,000, 일 10,000회)를 기본값으로 사용
+ *
+ * 설정 예시:
+ * upstream:
+ *   quota:
+ *     per-minute: 600
+ *     per-day: 10000
+ *     background-reserve: 0.2
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "upstream.quota")
+public class UpstreamQuotaProperties {
+
+    private boolean enabled = true;                                  // 사용 여부
+    private long perMinute = 600;                                    // 분당 호출 한도 (0 이면 제한 없음)
+    private long perHour = 5000;                                     // 시간당 호출 한도 (0 이면 제한 없음)
+    private long perDay = 10000;                                     // 일 호출 한도 (0 이면 제한 없음)
+    private double backgroundReserve = 0.2;                          // 사용자 요청용으로 남겨둘 한도 비율 (선조회/일괄 조회는 이 이상 남았을 때만 사용)
+    private Duration interactiveMaxWait = Duration.ofSeconds(1);     // 사용자 요청 한도 대기 최대 시간
+    private Duration batchMaxWait = Duration.ofSeconds(5);           // 일괄 조회 한도 대기 최대 시간
+    private Duration prefetchMaxWait = Duration.ZERO;                // 선조회/백그라운드 갱신 한도 대기 최대 시간 (기본: 대기 없이 건너뜀)
+}
@@ -0,0 +1,61 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 업스트림 호출 장애 대응 설정 (서킷 브레이커 / 헤지 요청)
+ *
+ * application.yml 의 upstream.resilience 블록과 바인딩되어 UpstreamHttpClient 의 호스트별 호출에 적용
+ *
+ * 설정 예시:
+ * upstream:
+ *   resilience:
+ *     circuit-breaker:
+ *       failure-rate-threshold: 50
+ *       open-duration: 30s
+ *     hedge:
+ *       enabled: true
+ *       percentile: 0.95
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "upstream.resilience")
+public class UpstreamResilienceProperties {
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Hedge hedge = new Hedge();
+
+    /**
+     * 서킷 브레이커 설정 (최근 window-size 건 기준)
+     */
+    @Data
+    public static class CircuitBreaker {
+
+        private boolean enabled = true;                           // 사용 여부
+        private int windowSize = 20;                              // 실패율 계산에 사용할 최근 호출 수
+        private int minimumCalls = 10;                            // 판단에 필요한 최소 호출 수
+        private int failureRateThreshold = 50;                    // 실패율(%) 이상이면 차단
+        private Duration slowCallThreshold = Duration.ofSeconds(3); // 이 시간 이상 걸린 호출은 지연 호출로 집계
+        private int slowCallRateThreshold = 80;                   // 지연 호출 비율(%) 이상이면 차단
+        private Duration openDuration = Duration.ofSeconds(30);   // 차단 유지 시간 (이후 시험 호출 허용)
+        private int halfOpenCalls = 3;                            // 차단 해제 전 시험 호출 수
+    }
+
+    /**
+     * 헤지 요청 설정 - 응답이 percentile 지연보다 늦으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용
+     */
+    @Data
+    public static class Hedge {
+
+        private boolean enabled = false;                        // 사용 여부
+        private double percentile = 0.95;                       // 헤지 시작 기준 지연 백분위
+        private Duration minDelay = Duration.ofMillis(200);     // 최소 헤지 대기 시간
+        private int minSamples = 20;                            // 백분위 계산에 필요한 최소 표본 수
+    }
+}
@@ -0,0 +1,44 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 업스트림 API 응답
+ *
+ * UpstreamHttpClient 가 수신한 상태코드와 응답 본문을 보관
+ * 본문은 수신한 그대로(gzip 이면 압축된 상태) 보관하고, 읽을 때 필요하면 압축을 해제
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public class UpstreamResponse {
+
+    private final int statusCode;   // HTTP 상태 코드
+    private final byte[] body;      // 수신한 원본 본문
+    private final boolean gzip;     // Content-Encoding: gzip 여부
+
+    /**
+     * 2xx 응답 여부
+     */
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * 압축이 해제된 본문 스트림
+     *
+     * @return InputStream gzip 인 경우 압축 해제 스트림, 아닌 경우 원본 스트림
+     * @throws IOException gzip 헤더가 잘못된 경우
+     */
+    public InputStream openBody() throws IOException {
+        InputStream in = new ByteArrayInputStream(body);
+        return gzip ? new GZIPInputStream(in) : in;
+    }
+}
@@ -0,0 +1,123 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업스트림 병렬 호출 전용 실행기
+ *
+ * 여러 지역 날씨를 서버에서 동시에 조회할 때 사용하는 고정 크기 스레드 풀
+ * 스레드 수와 대기열 크기를 제한하여 한 요청이 많은 지역을 조회하더라도 서버 전체 동시 호출 수가 제한되도록 함
+ *
+ * 동작 방식:
+ * - 최대 executorPoolSize 개 작업을 동시에 수행, 나머지는 대기열(executorQueueCapacity)에서 대기
+ * - 대기열까지 가득 차면 즉시 실패한 Future 를 반환 (호출 측에서 부분 실패로 처리)
+ * - 가상 스레드 모드(spring.threads.virtual.enabled)에서는 작업마다 가상 스레드를 만들고,
+ *   동시 수행/대기 건수 제한은 세마포어로 동일하게 적용
+ * - 작업 제출 시점의 관측(트레이스) 컨텍스트를 작업 스레드로 전달하여 업스트림 호출이 요청 트레이스에 연결되도록 함
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class UpstreamTaskExecutor {
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final ExecutorService executor;
+    private final Semaphore admission; // 수행 중 + 대기 중 작업 수 제한 (가상 스레드 모드)
+    private final Semaphore running;   // 동시 수행 작업 수 제한 (가상 스레드 모드)
+
+    public UpstreamTaskExecutor(UpstreamHttpProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("upstream-vt-", 0).factory());
+            this.admission = new Semaphore(properties.getExecutorPoolSize() + properties.getExecutorQueueCapacity());
+            this.running = new Semaphore(properties.getExecutorPoolSize());
+            return;
+        }
+
+        this.admission = null;
+        this.running = null;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getExecutorPoolSize(),
+                properties.getExecutorPoolSize(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getExecutorQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "upstream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 작업 비동기 실행
+     *
+     * @param task 실행할 작업
+     * @return CompletableFuture<T> 작업 결과 (대기열 초과 시 RejectedExecutionException 으로 실패한 Future)
+     */
+    public <T> CompletableFuture<T> supplyAsync(Callable<T> task) {
+        Callable<T> traced = CONTEXT_SNAPSHOTS.captureAll().wrap(task);
+        if (admission != null) {
+            return supplyVirtual(traced);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return traced.call();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 가상 스레드 모드: 대기열 초과 시 즉시 거절, 동시 수행 수를 넘는 작업은 가상 스레드에서 대기
+    private <T> CompletableFuture<T> supplyVirtual(Callable<T> task) {
+        if (!admission.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("업스트림 실행기 대기열 초과"));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    running.acquire();
+                    try {
+                        return task.call();
+                    } finally {
+                        running.release();
+                    }
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                } finally {
+                    admission.release();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
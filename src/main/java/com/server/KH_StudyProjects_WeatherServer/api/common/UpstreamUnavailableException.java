@@ -0,0 +1,20 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+/**
+ * 업스트림 API 사용 불가 예외
+ *
+ * 업스트림 장애(5xx, 연결 실패, 타임아웃)이거나 서킷 브레이커가 열려 호출을 차단한 경우 발생
+ * GlobalExceptionHandler 에서 503 Service Unavailable 로 응답
+ *
+ * @since 2026-10-18
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,60 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Open-Meteo 응답 캐시 항목
+ *
+ * 응답 원본과 함께 갱신 시각(다음 모델 갱신 시각)과 만료 시각(갱신 시각 + staleTtl)을 보관
+ * 갱신 시각이 지난 항목은 stale 상태로, 응답은 하되 백그라운드 갱신 대상
+ * 백그라운드 선조회로 저장된 항목은 처음 사용자 요청에 응답할 때 한 번만 "콜드 호출 회피"로 집계
+ * HTTP 조건부 요청 검증용 ETag 는 모델 갱신 구간(freshUntil)으로만 생성
+ * (조회 시각을 넣으면 서버마다, 재조회할 때마다 ETag 가 달라져 같은 모델 결과에도 304 를 줄 수 없음)
+ *
+ * @since 2026-10-18
+ */
+@Getter
+public class OpenApiCacheEntry {
+
+    private final OpenApiPayload payload;   // 업스트림 응답 원본
+    private final long fetchedAt;           // 조회 시각 (epoch millis)
+    private final long freshUntil;          // 갱신 시각 (epoch millis) - 이후는 stale
+    private final long expiresAt;           // 만료 시각 (epoch millis) - 이후 캐시에서 제거
+    private final boolean prefetched;       // 백그라운드 선조회로 저장되었는지 여부
+    private final String eTag;              // 약한 ETag (W/"모델 갱신 구간") - 같은 구간의 응답은 의미상 같은 결과
+    private final AtomicBoolean served = new AtomicBoolean(); // 사용자 요청에 응답한 적이 있는지 여부
+
+    public OpenApiCacheEntry(OpenApiPayload payload, long fetchedAt, long freshUntil, long expiresAt, boolean prefetched) {
+        this.payload = payload;
+        this.fetchedAt = fetchedAt;
+        this.freshUntil = freshUntil;
+        this.expiresAt = expiresAt;
+        this.prefetched = prefetched;
+        this.eTag = "W/\"" + Long.toString(freshUntil, 36) + "\"";
+    }
+
+    /**
+     * 갱신 시각 이전인지 여부
+     */
+    public boolean isFresh() {
+        return System.currentTimeMillis() < freshUntil;
+    }
+
+    /**
+     * 갱신 시각까지 남은 시간(초) - Cache-Control max-age 로 사용
+     */
+    public long secondsUntilRefresh() {
+        return Math.max(0, (freshUntil - System.currentTimeMillis()) / 1000);
+    }
+
+    /**
+     * 최초 응답 여부 확인 후 응답 처리 표시
+     *
+     * @return boolean 이번이 첫 사용자 응답이면 true
+     */
+    public boolean markServed() {
+        return !served.get() && served.compareAndSet(false, true);
+    }
+}
@@ -0,0 +1,138 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Open-Meteo 응답 캐시 키
+ *
+ * flag + 격자 단위로 스냅한 위도/경도 + 정규화된 queryParam 조합
+ * 가까운 좌표, 파라미터 순서만 다른 요청이 같은 키를 갖도록 하여 업스트림 호출을 공유
+ *
+ * 정규화 규칙:
+ * - 위도/경도: gridResolution 배수로 반올림 (예: 0.02 → 37.566 → 37.56)
+ * - queryParam: & 로 분리 후 이름순 정렬, 변수 목록(hourly, daily 등)은 값도 정렬
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class OpenApiCacheKey {
+
+    // 값 순서가 응답 의미에 영향을 주지 않는 변수 목록 파라미터
+    private static final Set<String> VARIABLE_LIST_PARAMS = Set.of("hourly", "daily", "current", "minutely_15");
+
+    private final String flag;
+    private final double latitude;
+    private final double longitude;
+    private final String queryParam;
+
+    private OpenApiCacheKey(String flag, double latitude, double longitude, String queryParam) {
+        this.flag = flag;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.queryParam = queryParam;
+    }
+
+    /**
+     * 요청 파라미터로 캐시 키 생성
+     *
+     * @param params 요청 파라미터 (latitude, longitude, queryParam)
+     * @param flag "weather" 또는 "airPollution"
+     * @param gridResolution 위도/경도 스냅 단위
+     * @return OpenApiCacheKey 생성된 키 (위도/경도가 숫자가 아니면 null → 캐시 미적용)
+     */
+    public static OpenApiCacheKey of(Map<String, Object> params, String flag, double gridResolution) {
+        Double latitude = toDouble(params.get("latitude"));
+        Double longitude = toDouble(params.get("longitude"));
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        Object queryParam = params.get("queryParam");
+        return new OpenApiCacheKey(flag,
+                snap(latitude, gridResolution),
+                snap(longitude, gridResolution),
+                canonicalize(queryParam == null ? "" : queryParam.toString()));
+    }
+
+    /**
+     * 업스트림 호출용 파라미터 (스냅된 좌표 + 정규화된 queryParam)
+     *
+     * 캐시 키와 실제 호출 URL 을 일치시켜, 같은 키의 응답이 항상 같은 격자점 기준이 되도록 함
+     */
+    public Map<String, Object> toParams() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("latitude", latitude);
+        params.put("longitude", longitude);
+        params.put("queryParam", queryParam);
+        return params;
+    }
+
+    /**
+     * 좌표를 격자 단위 배수로 반올림
+     *
+     * 부동소수 오차(37.56000000001 등)로 키가 갈라지지 않도록 해상도의 소수 자릿수로 정리
+     */
+    static double snap(double value, double gridResolution) {
+        if (gridResolution <= 0) {
+            return value;
+        }
+        int scale = Math.max(0, BigDecimal.valueOf(gridResolution).stripTrailingZeros().scale());
+        return BigDecimal.valueOf(Math.round(value / gridResolution) * gridResolution)
+                .setScale(scale, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+
+    /**
+     * queryParam 정규화
+     *
+     * 예) "timezone=auto&hourly=precipitation,temperature_2m"
+     *   → "hourly=precipitation,temperature_2m&timezone=auto"
+     */
+    static String canonicalize(String queryParam) {
+        return Arrays.stream(queryParam.split("&"))
+                .map(String::trim)
+                .filter(param -> !param.isEmpty())
+                .map(OpenApiCacheKey::canonicalizeParam)
+                .sorted()
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String canonicalizeParam(String param) {
+        int eq = param.indexOf('=');
+        if (eq < 0 || !VARIABLE_LIST_PARAMS.contains(param.substring(0, eq))) {
+            return param;
+        }
+        String values = Arrays.stream(param.substring(eq + 1).split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+        return param.substring(0, eq + 1) + values;
+    }
+
+    private static Double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
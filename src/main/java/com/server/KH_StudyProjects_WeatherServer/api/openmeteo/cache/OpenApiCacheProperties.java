@@ -0,0 +1,78 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Open-Meteo 응답 캐시 설정
+ *
+ * application.yml 의 openmeteo.cache 블록과 바인딩
+ * flag(weather / airPollution) 별로 격자 해상도와 모델 갱신 주기를 따로 지정
+ * 모델 갱신 시각이 지난 항목도 staleTtl 동안은 보관하여, 즉시 응답한 뒤 백그라운드에서 갱신 (stale-while-revalidate)
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "openmeteo.cache")
+public class OpenApiCacheProperties {
+
+    private boolean enabled = true;          // 캐시 사용 여부
+    private long maximumSize = 10_000;       // 최대 보관 건수 (초과 시 사용 빈도가 낮은 항목부터 제거)
+    private Duration staleTtl = Duration.ofHours(3); // 갱신 시각 이후 이전 응답을 계속 제공할 최대 시간 (0 이면 사용 안 함)
+    private Region weather = new Region(0.02, Duration.ofHours(1), Duration.ofMinutes(10));
+    private Region airPollution = new Region(0.1, Duration.ofHours(1), Duration.ofMinutes(10));
+
+    /**
+     * flag 에 해당하는 캐시 영역 설정
+     *
+     * @param flag "weather" 또는 "airPollution"
+     * @return Region 해당 설정 (알 수 없는 flag 는 null)
+     */
+    public Region region(String flag) {
+        if ("weather".equals(flag)) {
+            return weather;
+        } else if ("airPollution".equals(flag)) {
+            return airPollution;
+        }
+        return null;
+    }
+
+    /**
+     * flag 별 캐시 영역 설정
+     */
+    @Data
+    public static class Region {
+
+        private double gridResolution;     // 위도/경도 스냅 단위 (도)
+        private Duration refreshInterval;  // 업스트림 모델 갱신 주기
+        private Duration publishDelay;     // 정시 이후 새 모델 결과가 반영되기까지의 지연
+
+        public Region() {
+        }
+
+        public Region(double gridResolution, Duration refreshInterval, Duration publishDelay) {
+            this.gridResolution = gridResolution;
+            this.refreshInterval = refreshInterval;
+            this.publishDelay = publishDelay;
+        }
+
+        /**
+         * 다음 모델 갱신 시각 계산
+         *
+         * 갱신 주기 경계 + 반영 지연 시각 중 now 이후 가장 가까운 시각
+         * 예) 주기 1h, 지연 10m, now 13:25 → 14:10
+         *
+         * @param nowMillis 현재 시각 (epoch millis)
+         * @return long 다음 갱신 시각 (epoch millis)
+         */
+        public long nextRefreshAt(long nowMillis) {
+            long interval = refreshInterval.toMillis();
+            long delay = publishDelay.toMillis();
+            return Math.floorDiv(nowMillis - delay, interval) * interval + interval + delay;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache;
+
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenMeteoResponseParser;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Open-Meteo 응답 원본
+ *
+ * 업스트림에서 받은 본문 바이트를 수신한 그대로(gzip 이면 압축 상태) 보관하는 캐시/병합 단위
+ * 클라이언트에 그대로 전달하는 경로(pass-through)는 파싱 없이 바이트만 사용하고,
+ * 모델이 필요한 경로는 최초 1회만 OpenMeteoResponse 로 파싱하여 결과를 재사용
+ *
+ * @since 2026-10-18
+ */
+public class OpenApiPayload {
+
+    @Getter
+    private final byte[] rawBody;                 // 수신한 원본 본문
+    @Getter
+    private final boolean gzip;                   // rawBody 가 gzip 압축 상태인지 여부
+    @Getter
+    private final String flag;                    // weather / airPollution
+    private volatile OpenMeteoResponse parsed;    // 파싱 결과 (최초 요청 시 생성)
+
+    public OpenApiPayload(byte[] rawBody, boolean gzip, String flag) {
+        this.rawBody = rawBody;
+        this.gzip = gzip;
+        this.flag = flag;
+    }
+
+    /**
+     * 업스트림 응답으로 생성
+     */
+    public static OpenApiPayload of(UpstreamResponse response, String flag) {
+        return new OpenApiPayload(response.getBody(), response.isGzip(), flag);
+    }
+
+    /**
+     * 이미 파싱된 응답으로 생성 (다중 좌표 응답을 좌표별로 나눌 때 사용)
+     *
+     * @param json 좌표 1건의 JSON 바이트 (비압축)
+     * @param parsed json 의 파싱 결과
+     * @param flag weather / airPollution
+     */
+    public static OpenApiPayload ofParsed(byte[] json, OpenMeteoResponse parsed, String flag) {
+        OpenApiPayload payload = new OpenApiPayload(json, false, flag);
+        payload.parsed = parsed;
+        return payload;
+    }
+
+    /**
+     * 압축이 해제된 본문 스트림
+     */
+    public InputStream openBody() throws IOException {
+        InputStream in = new ByteArrayInputStream(rawBody);
+        return gzip ? new GZIPInputStream(in) : in;
+    }
+
+    /**
+     * 열 단위 응답 모델 (최초 1회 파싱 후 재사용)
+     *
+     * @param parser Open-Meteo 스트리밍 파서
+     * @return OpenMeteoResponse 응답 모델
+     * @throws IOException JSON 형식 오류 시
+     */
+    public OpenMeteoResponse asResponse(OpenMeteoResponseParser parser) throws IOException {
+        OpenMeteoResponse result = parsed;
+        if (result == null) {
+            try (InputStream body = openBody()) {
+                result = parser.parse(body, flag);
+            }
+            parsed = result;
+        }
+        return result;
+    }
+}
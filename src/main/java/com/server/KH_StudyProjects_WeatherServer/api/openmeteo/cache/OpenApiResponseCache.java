@@ -0,0 +1,213 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenApiCacheStatsDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Open-Meteo 응답 인메모리 캐시
+ *
+ * OpenApiManager 의 업스트림 호출 앞단에 위치하여 동일 격자/동일 파라미터 요청을 캐시에서 응답
+ * 업스트림 모델이 정해진 주기(기본 1시간)로만 갱신되므로 다음 갱신 시각까지 응답을 재사용
+ *
+ * 동작 방식:
+ * - 키: flag + 스냅된 위도/경도 + 정규화된 queryParam (OpenApiCacheKey)
+ * - 갱신: 항목별로 다음 모델 갱신 시각 이후 stale (OpenApiCacheProperties.Region#nextRefreshAt)
+ * - 만료: stale 이후 staleTtl 이 지나면 제거 (그 전까지는 lookup 으로 즉시 응답 + 백그라운드 갱신)
+ * - 제거: maximumSize 초과 시 Caffeine 의 빈도 기반 정책으로 제거
+ * - 통계: 적중/미적중/제거 건수, 선조회 저장/콜드 호출 회피 건수 기록 (stats, 같은 값을 cache=openmeteo 메트릭으로도 노출)
+ *
+ * @since 2026-10-18
+ */
+@Component
+@Slf4j
+public class OpenApiResponseCache implements MeterBinder {
+
+    private final OpenApiCacheProperties properties;
+    private final Cache<OpenApiCacheKey, OpenApiCacheEntry> cache;
+    private final LongAdder prefetchCount = new LongAdder();         // 선조회로 저장된 건수
+    private final LongAdder coldFetchAvoidedCount = new LongAdder(); // 선조회 항목이 사용자 요청에 처음 응답한 건수
+    private final LongAdder staleServedCount = new LongAdder();      // 갱신 시각이 지난 응답을 제공한 건수
+
+    public OpenApiResponseCache(OpenApiCacheProperties properties) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new EntryExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 요청 파라미터에 대한 캐시 키 생성
+     *
+     * @param params 요청 파라미터
+     * @param flag "weather" 또는 "airPollution"
+     * @return OpenApiCacheKey 캐시 키 (캐시 비활성화, 알 수 없는 flag, 좌표 오류 시 null)
+     */
+    public OpenApiCacheKey keyOf(Map<String, Object> params, String flag) {
+        OpenApiCacheProperties.Region region = properties.region(flag);
+        if (!properties.isEnabled() || region == null) {
+            return null;
+        }
+        return OpenApiCacheKey.of(params, flag, region.getGridResolution());
+    }
+
+    /**
+     * 캐시 조회 (stale 항목 포함)
+     *
+     * stale 항목을 받은 호출자는 응답 후 백그라운드 갱신을 수행
+     *
+     * @param key 캐시 키
+     * @return OpenApiCacheEntry 캐시 항목 (없거나 만료된 경우 null)
+     */
+    public OpenApiCacheEntry lookup(OpenApiCacheKey key) {
+        OpenApiCacheEntry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.isFresh()) {
+            staleServedCount.increment();
+        }
+        if (entry.isPrefetched() && entry.markServed()) {
+            coldFetchAvoidedCount.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * 캐시 조회 (갱신 시각 이전 항목만)
+     *
+     * @param key 캐시 키
+     * @return OpenApiPayload 캐시된 응답 원본 (없거나 stale 인 경우 null)
+     */
+    public OpenApiPayload get(OpenApiCacheKey key) {
+        OpenApiCacheEntry entry = cache.getIfPresent(key);
+        if (entry == null || !entry.isFresh()) {
+            return null;
+        }
+        if (entry.isPrefetched() && entry.markServed()) {
+            coldFetchAvoidedCount.increment();
+        }
+        return entry.getPayload();
+    }
+
+    /**
+     * 캐시 조회 (통계 미기록)
+     *
+     * 병합된 호출 내부에서 재확인할 때 사용하여 적중/미적중 통계가 중복 집계되지 않도록 함
+     *
+     * @param key 캐시 키
+     * @return OpenApiPayload 캐시된 응답 원본 (없거나 stale 인 경우 null)
+     */
+    public OpenApiPayload peek(OpenApiCacheKey key) {
+        OpenApiCacheEntry entry = cache.asMap().get(key);
+        return entry == null || !entry.isFresh() ? null : entry.getPayload();
+    }
+
+    /**
+     * 캐시 항목 조회 (stale 항목 포함, 통계 미기록)
+     *
+     * HTTP 조건부 요청의 ETag 비교에 사용 (본문 파싱/직렬화 없음)
+     *
+     * @param key 캐시 키
+     * @return OpenApiCacheEntry 캐시 항목 (없거나 만료된 경우 null)
+     */
+    public OpenApiCacheEntry peekEntry(OpenApiCacheKey key) {
+        return cache.asMap().get(key);
+    }
+
+    /**
+     * 캐시 저장
+     *
+     * 만료 시각은 flag 별 모델 갱신 주기에 맞춰 계산
+     *
+     * @param key 캐시 키
+     * @param payload 업스트림 응답 원본
+     */
+    public void put(OpenApiCacheKey key, OpenApiPayload payload) {
+        put(key, payload, false);
+    }
+
+    /**
+     * 캐시 저장 (선조회 여부 지정)
+     *
+     * @param key 캐시 키
+     * @param payload 업스트림 응답 원본
+     * @param prefetched 백그라운드 선조회로 저장하는 경우 true
+     */
+    public void put(OpenApiCacheKey key, OpenApiPayload payload, boolean prefetched) {
+        long now = System.currentTimeMillis();
+        long freshUntil = properties.region(key.getFlag()).nextRefreshAt(now);
+        long expiresAt = freshUntil + properties.getStaleTtl().toMillis();
+        cache.put(key, new OpenApiCacheEntry(payload, now, freshUntil, expiresAt, prefetched));
+        if (prefetched) {
+            prefetchCount.increment();
+        }
+    }
+
+    /**
+     * 캐시 통계 조회 (적중/미적중/제거 건수)
+     */
+    public OpenApiCacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return OpenApiCacheStatsDto.builder()
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .prefetchCount(prefetchCount.sum())
+                .coldFetchAvoidedCount(coldFetchAvoidedCount.sum())
+                .staleServedCount(staleServedCount.sum())
+                .build();
+    }
+
+    /**
+     * 캐시 메트릭 등록 (Caffeine 적중/미적중/제거 + 선조회/stale 응답 건수)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "openmeteo");
+        FunctionCounter.builder("openmeteo.cache.prefetch", prefetchCount, LongAdder::sum)
+                .description("선조회로 저장된 건수").register(registry);
+        FunctionCounter.builder("openmeteo.cache.cold.fetch.avoided", coldFetchAvoidedCount, LongAdder::sum)
+                .description("선조회 항목이 사용자 요청에 처음 응답한 건수").register(registry);
+        FunctionCounter.builder("openmeteo.cache.stale.served", staleServedCount, LongAdder::sum)
+                .description("갱신 시각이 지난 응답을 제공한 건수").register(registry);
+    }
+
+    /**
+     * 항목별 만료 정책 - 저장 시 계산된 expiresAt 까지 유지, 조회는 만료 시각에 영향 없음
+     */
+    private static class EntryExpiry implements Expiry<OpenApiCacheKey, OpenApiCacheEntry> {
+
+        @Override
+        public long expireAfterCreate(OpenApiCacheKey key, OpenApiCacheEntry value, long currentTime) {
+            long remainingMillis = Math.max(0, value.getExpiresAt() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(OpenApiCacheKey key, OpenApiCacheEntry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(OpenApiCacheKey key, OpenApiCacheEntry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Open-Meteo 응답 집계(요약) 결과 캐시
+ *
+ * 격자 단위로 집계한 요약을 보관하여 요청마다 시간별 배열을 다시 집계하지 않음 (도메인별 캐시가 상속하여 사용)
+ *
+ * 동작 방식:
+ * - 조회: 캐시에 있으면 반환, 없으면 캐시 밖에서 loader 로 집계 후 저장
+ *   (loader 는 업스트림 호출로 오래 걸릴 수 있어 캐시 내부 잠금을 잡은 채 실행하지 않음 → 같은 키 동시 요청은 각자 집계하지만
+ *    업스트림 호출은 OpenApiManager 에서 한 번으로 합쳐지고 집계는 배열 순회뿐이라 비용이 작음)
+ * - 만료: 항목별 expiresAt (다음 정시와 원본 응답의 갱신 시각 중 이른 시각 → 현재 시간/원본 갱신 시 다시 집계)
+ *   원본이 stale 응답(stale-while-revalidate)이었으면 저장하지 않아, 백그라운드 갱신 후 새 응답으로 다시 집계
+ * - 통계: 적중/미적중/제거 건수를 cache={metricName} 메트릭으로 노출
+ *
+ * @param <K> 캐시 키
+ * @param <V> 요약 타입
+ * @since 2026-10-18
+ */
+public abstract class OpenApiSummaryCache<K, V> implements MeterBinder {
+
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    private final boolean enabled;
+    private final String metricName;
+    private final Cache<K, Entry<V>> cache;
+
+    protected OpenApiSummaryCache(boolean enabled, long maximumSize, String metricName) {
+        this.enabled = enabled;
+        this.metricName = metricName;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EntryExpiry<K, V>())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 요약 조회 (없으면 loader 로 집계 후 저장)
+     *
+     * @param key 캐시 키 (cacheable 이 아니면 캐시 없이 loader 호출)
+     * @param loader 집계 함수 (이미 만료된 항목을 돌려주면 저장하지 않음)
+     * @return V 요약
+     */
+    public V get(K key, Function<K, Entry<V>> loader) {
+        if (!enabled || !cacheable(key)) {
+            return loader.apply(key).summary();
+        }
+        Entry<V> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.summary();
+        }
+        Entry<V> loaded = loader.apply(key);
+        if (loaded.expiresAt() > System.currentTimeMillis()) {
+            cache.put(key, loaded);
+        }
+        return loaded.summary();
+    }
+
+    /**
+     * 요약 만료 시각 (다음 정시와 원본 응답 갱신 시각 중 이른 시각)
+     *
+     * @param now 집계 시각 (epoch millis)
+     * @param sourceFreshUntil 집계에 사용한 원본 캐시 항목의 갱신 시각 (OpenApiManager.refreshDueAt, 0 이하면 응답 캐시 미사용)
+     *                         이미 지났으면(stale 응답) now 를 반환 → 저장하지 않음
+     * @param fallback 응답 캐시를 사용하지 않을 때의 갱신 시각 (다음 모델 갱신 시각)
+     * @return long 만료 시각 (epoch millis)
+     */
+    public static long expiresAt(long now, long sourceFreshUntil, long fallback) {
+        long nextHour = (now / MILLIS_PER_HOUR + 1) * MILLIS_PER_HOUR;
+        if (sourceFreshUntil <= 0) {
+            return Math.min(nextHour, fallback);
+        }
+        return Math.max(now, Math.min(nextHour, sourceFreshUntil));
+    }
+
+    /**
+     * 캐시 대상 키 여부 (격자로 스냅할 수 없는 키는 캐시하지 않음)
+     *
+     * @param key 캐시 키
+     * @return boolean 캐시 대상이면 true
+     */
+    protected boolean cacheable(K key) {
+        return key != null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, metricName);
+    }
+
+    /**
+     * 캐시 항목 (요약 + 만료 시각)
+     *
+     * @param summary 요약
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    public record Entry<V>(V summary, long expiresAt) {
+    }
+
+    // 항목별 expiresAt 까지 보관
+    private static class EntryExpiry<K, V> implements Expiry<K, Entry<V>> {
+
+        @Override
+        public long expireAfterCreate(K key, Entry<V> value, long currentTime) {
+            long remainingMillis = Math.max(0, value.expiresAt() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Entry<V> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, Entry<V> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,15 +1,30 @@
 package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.controller;
 
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamUnavailableException;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenApiBatchRequestDto;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenApiCacheStatsDto;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
 import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.service.OpenApiService;
+import com.server.KH_StudyProjects_WeatherServer.common.util.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,11 +34,16 @@ public class OpenApiController {
 
     @SuppressWarnings("finally")
     @PostMapping("/api/weather")
-    public ResponseEntity<?> executeModule(@RequestBody Map<String, Object> params) {
+    public ResponseEntity<?> executeModule(@RequestBody Map<String, Object> params,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info(">>>> mathod  /api/executeModule param : {}", params);
         ResponseEntity<?> retMap = null;
         try {
-            retMap = openApiService.executeApi(params, "weather"); //2025.04.13 이수연 flag로 분기처리
+            retMap = openApiService.executeApi(params, "weather", accept, acceptEncoding); //2025.04.13 이수연 flag로 분기처리
+        } catch (UpstreamUnavailableException e) {
+            log.warn(">> upstream unavailable : {}", e.getMessage());
+            retMap = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (Exception e) {
             log.error(">> ActionController executeModule e : {}", e.toString());
         } finally
@@ -36,11 +56,16 @@ public class OpenApiController {
     //2025.04.13 이수연 추가
     @SuppressWarnings("finally")
     @PostMapping("/api/airPollution")
-    public ResponseEntity<?> executeModuleAirPollution(@RequestBody Map<String, Object> params) {
+    public ResponseEntity<?> executeModuleAirPollution(@RequestBody Map<String, Object> params,
+                                                       @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info(">>>> method  /api/executeModuleAirPollution param : {}", params);
         ResponseEntity<?> retMap = null;
         try {
-            retMap = openApiService.executeApi(params,"airPollution");//2025.04.13 이수연 flag로 분기처리
+            retMap = openApiService.executeApi(params,"airPollution", accept, acceptEncoding);//2025.04.13 이수연 flag로 분기처리
+        } catch (UpstreamUnavailableException e) {
+            log.warn(">> upstream unavailable : {}", e.getMessage());
+            retMap = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (Exception e) {
             log.error(">> ActionController executeModule e : {}", e.toString());
         } finally
@@ -50,4 +75,78 @@ public class OpenApiController {
         }
     }
 
+    /**
+     * 날씨 조회 (GET, HTTP 캐시 가능)
+     *
+     * latitude/longitude 외의 쿼리 파라미터는 Open-Meteo 파라미터로 그대로 전달 (이름순 정렬 → 같은 요청은 같은 캐시 키)
+     * 응답에 ETag / Cache-Control 을 포함하며, If-None-Match 가 일치하면 304
+     */
+    @GetMapping("/api/weather")
+    public ResponseEntity<?> getWeather(@RequestParam Map<String, String> query,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
+        log.info(">>>> method  GET /api/weather param : {}", query);
+        return executeConditional(query, "weather", accept, acceptEncoding, ifNoneMatch);
+    }
+
+    /**
+     * 대기질 조회 (GET, HTTP 캐시 가능)
+     */
+    @GetMapping("/api/airPollution")
+    public ResponseEntity<?> getAirPollution(@RequestParam Map<String, String> query,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
+        log.info(">>>> method  GET /api/airPollution param : {}", query);
+        return executeConditional(query, "airPollution", accept, acceptEncoding, ifNoneMatch);
+    }
+
+    // GET 쿼리 → POST 와 같은 요청 파라미터 (latitude, longitude, queryParam)
+    // 예외는 GlobalExceptionHandler 에서 처리 (업스트림 장애 503, 그 외 오류를 404 로 감추지 않음)
+    private ResponseEntity<?> executeConditional(Map<String, String> query, String flag, String accept,
+                                                 String acceptEncoding, String ifNoneMatch) throws Exception {
+        if (query.get("latitude") == null || query.get("longitude") == null) {
+            throw new RuntimeException("위도/경도는 필수입니다.");
+        }
+        Map<String, String> rest = new TreeMap<>(query);
+        Map<String, Object> params = new HashMap<>();
+        params.put("latitude", rest.remove("latitude"));
+        params.put("longitude", rest.remove("longitude"));
+        params.put("queryParam", toQueryParam(rest));
+        return openApiService.executeApiConditional(params, flag, accept, acceptEncoding, ifNoneMatch);
+    }
+
+    // 디코딩된 쿼리 값 → 업스트림 URL 에 그대로 붙일 queryParam (POST 의 queryParam 과 같은 인코딩)
+    // 값 안의 & = # 등이 파라미터 구분자로 해석되지 않도록 인코딩하되, 변수 목록 구분자(,)는 그대로 유지
+    static String toQueryParam(Map<String, String> query) {
+        return query.entrySet().stream()
+                .map(entry -> encode(entry.getKey()) + "=" + encode(entry.getValue()))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("%2C", ",");
+    }
+
+    /**
+     * 여러 지역 날씨 일괄 조회 (사이드메뉴 즐겨찾기 등)
+     *
+     * 좌표 목록 또는 deviceId(즐겨찾기 목록)를 받아 Open-Meteo 다중 좌표 호출로 한 번에 조회
+     * 응답 data 는 요청 좌표("위도,경도")별 예보 (조회 실패 좌표는 null)
+     */
+    @PostMapping("/api/weather/batch")
+    public ResponseEntity<ApiResponse<Map<String, OpenMeteoResponse>>> executeBatchModule(@RequestBody OpenApiBatchRequestDto requestDto) throws Exception {
+        log.info(">>>> method  /api/weather/batch param : {}", requestDto);
+        Map<String, OpenMeteoResponse> results = openApiService.executeBatchApi(requestDto, "weather");
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
+    /**
+     * Open-Meteo 응답 캐시 통계 조회 (캐시 크기/TTL 튜닝용)
+     */
+    @GetMapping("/api/openmeteo/cache/stats")
+    public ResponseEntity<ApiResponse<OpenApiCacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(openApiService.getCacheStats()));
+    }
 }
@@ -0,0 +1,27 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 지역 날씨 일괄 조회 요청 DTO
+ *
+ * 사이드메뉴 즐겨찾기처럼 여러 지역의 날씨를 한 번에 조회할 때 사용
+ * locations 가 비어 있으면 deviceId 의 즐겨찾기 목록을 좌표로 사용
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenApiBatchRequestDto {
+
+    private String deviceId;                       // 디바이스식별번호 (locations 미지정 시 즐겨찾기 조회용)
+    private List<OpenApiCoordinateDto> locations;  // 조회할 좌표 목록
+    private String queryParam;                     // Open-Meteo 쿼리 파라미터 (예: current=temperature_2m)
+}
@@ -0,0 +1,38 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Open-Meteo 응답 캐시 통계 응답 DTO
+ *
+ * 캐시 크기/TTL 튜닝을 위해 적중/미적중/제거 건수와 동시 호출 병합 건수, 선조회 효과를 전달
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenApiCacheStatsDto {
+
+    private long size;           // 현재 보관 건수 (추정치)
+    private long hitCount;       // 캐시 적중 건수
+    private long missCount;      // 캐시 미적중 건수
+    private long evictionCount;  // 만료/용량 초과로 제거된 건수
+    private double hitRate;      // 적중률 (0.0 ~ 1.0)
+    private long collapsedCount;        // 진행 중 업스트림 호출에 병합된 건수
+    private long coalesceTimeoutCount;  // 병합 대기 시간 초과 건수
+    private int inFlightCount;          // 현재 진행 중인 업스트림 호출 수
+    private long prefetchCount;         // 백그라운드 선조회로 저장된 건수
+    private long coldFetchAvoidedCount; // 선조회 덕분에 사용자 요청이 업스트림 호출 없이 응답된 건수
+    private long staleServedCount;      // 갱신 시각이 지난 응답을 즉시 제공하고 백그라운드 갱신한 건수
+    private long hedgeCount;            // 헤지 요청 발송 건수
+    private Map<String, String> circuitStates; // 업스트림 호스트별 서킷 브레이커 상태
+    private Map<String, Long> quotaRemaining;      // 단위 시간(minute/hour/day)별 남은 호출 한도
+    private Map<String, Long> quotaRejectedCounts; // 우선순위별 호출 한도 초과 거절 건수
+}
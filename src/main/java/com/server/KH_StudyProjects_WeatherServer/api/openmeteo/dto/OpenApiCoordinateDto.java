@@ -0,0 +1,30 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 위도/경도 좌표 DTO
+ *
+ * 여러 지역을 한 번에 조회하는 배치 요청에서 각 지역의 좌표를 전달할 때 사용
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenApiCoordinateDto {
+
+    private Double latitude;   // 위도
+    private Double longitude;  // 경도
+
+    /**
+     * 응답 맵의 키로 사용하는 좌표 문자열 ("위도,경도")
+     */
+    public String toKey() {
+        return latitude + "," + longitude;
+    }
+}
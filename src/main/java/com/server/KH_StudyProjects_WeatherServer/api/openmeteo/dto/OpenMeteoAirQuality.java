@@ -0,0 +1,38 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+/**
+ * Open-Meteo 대기질 응답 (/v1/air-quality)
+ *
+ * @since 2026-10-18
+ */
+public class OpenMeteoAirQuality extends OpenMeteoResponse {
+
+    public float[] hourlyPm10() {
+        return hourlyValues("pm10");
+    }
+
+    public float[] hourlyPm25() {
+        return hourlyValues("pm2_5");
+    }
+
+    public float[] hourlyOzone() {
+        return hourlyValues("ozone");
+    }
+
+    public float[] hourlyNitrogenDioxide() {
+        return hourlyValues("nitrogen_dioxide");
+    }
+
+    public float[] hourlyCarbonMonoxide() {
+        return hourlyValues("carbon_monoxide");
+    }
+
+    public float[] hourlySulphurDioxide() {
+        return hourlyValues("sulphur_dioxide");
+    }
+
+    @Override
+    protected OpenMeteoResponse newInstance() {
+        return new OpenMeteoAirQuality();
+    }
+}
@@ -0,0 +1,80 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+/**
+ * Open-Meteo 변수 1개의 값 열(column)
+ *
+ * 시계열 값을 박싱된 객체 리스트 대신 기본형 배열 하나로 보관
+ * - 수치 변수: float[] values (값 없음 → NaN)
+ * - 시각 변수(time, sunrise 등): long[] times, epoch seconds UTC (값 없음 → Long.MIN_VALUE)
+ *
+ * @since 2026-10-18
+ */
+public class OpenMeteoColumn {
+
+    public static final long NO_TIME = Long.MIN_VALUE; // 시각 값 없음
+
+    private final String name;                    // 변수명 (예: temperature_2m)
+    private final float[] values;                 // 수치 값 (시각 열이면 null)
+    private final long[] times;                   // 시각 값 (수치 열이면 null)
+    private final boolean integral;               // 모든 값이 정수인지 여부 (weather_code 등, 직렬화 시 정수로 출력)
+    private final OpenMeteoTimeFormat timeFormat; // 시각 열의 원래 표기 형식
+
+    private OpenMeteoColumn(String name, float[] values, long[] times, boolean integral, OpenMeteoTimeFormat timeFormat) {
+        this.name = name;
+        this.values = values;
+        this.times = times;
+        this.integral = integral;
+        this.timeFormat = timeFormat;
+    }
+
+    public static OpenMeteoColumn ofValues(String name, float[] values, boolean integral) {
+        return new OpenMeteoColumn(name, values, null, integral, null);
+    }
+
+    public static OpenMeteoColumn ofTimes(String name, long[] times, OpenMeteoTimeFormat timeFormat) {
+        return new OpenMeteoColumn(name, null, times, true, timeFormat);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public float[] getValues() {
+        return values;
+    }
+
+    public long[] getTimes() {
+        return times;
+    }
+
+    public boolean isIntegral() {
+        return integral;
+    }
+
+    public OpenMeteoTimeFormat getTimeFormat() {
+        return timeFormat;
+    }
+
+    public boolean isTime() {
+        return times != null;
+    }
+
+    public int size() {
+        return times != null ? times.length : values.length;
+    }
+
+    /**
+     * 일부 구간만 잘라낸 열 (배열 복사)
+     *
+     * @param from 시작 인덱스 (포함)
+     * @param to 끝 인덱스 (제외)
+     */
+    public OpenMeteoColumn slice(int from, int to) {
+        if (from == 0 && to == size()) {
+            return this;
+        }
+        return times != null
+                ? new OpenMeteoColumn(name, null, java.util.Arrays.copyOfRange(times, from, to), integral, timeFormat)
+                : new OpenMeteoColumn(name, java.util.Arrays.copyOfRange(values, from, to), null, integral, null);
+    }
+}
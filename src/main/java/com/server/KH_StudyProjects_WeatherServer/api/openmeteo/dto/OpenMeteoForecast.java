@@ -0,0 +1,30 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+/**
+ * Open-Meteo 날씨 예보 응답 (/v1/forecast)
+ *
+ * @since 2026-10-18
+ */
+public class OpenMeteoForecast extends OpenMeteoResponse {
+
+    public float[] hourlyTemperature2m() {
+        return hourlyValues("temperature_2m");
+    }
+
+    public float[] hourlyPrecipitation() {
+        return hourlyValues("precipitation");
+    }
+
+    public float[] hourlyPrecipitationProbability() {
+        return hourlyValues("precipitation_probability");
+    }
+
+    public float[] hourlyWeatherCode() {
+        return hourlyValues("weather_code");
+    }
+
+    @Override
+    protected OpenMeteoResponse newInstance() {
+        return new OpenMeteoForecast();
+    }
+}
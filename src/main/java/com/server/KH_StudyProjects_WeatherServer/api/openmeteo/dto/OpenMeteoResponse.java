@@ -0,0 +1,164 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Open-Meteo 응답 공통 모델 (좌표 1건)
+ *
+ * 위치/시간대 메타데이터와 데이터 블록(current, hourly, daily 등)을 열 단위로 보관
+ * 클라이언트에 응답할 때는 OpenMeteoResponseSerializer 가 Open-Meteo 원래 JSON 형태로 다시 직렬화
+ *
+ * @since 2026-10-18
+ */
+@JsonSerialize(using = OpenMeteoResponseSerializer.class)
+public class OpenMeteoResponse {
+
+    public static final String CURRENT = "current";
+    public static final String HOURLY = "hourly";
+    public static final String DAILY = "daily";
+    public static final String MINUTELY_15 = "minutely_15";
+
+    private double latitude;             // 실제 조회된 격자 위도
+    private double longitude;            // 실제 조회된 격자 경도
+    private Double elevation;            // 고도 (m)
+    private double generationTimeMs;     // 업스트림 생성 소요 시간
+    private int utcOffsetSeconds;        // 요청 timezone 의 UTC 오프셋
+    private String timezone;             // 요청 timezone (예: Asia/Seoul)
+    private String timezoneAbbreviation; // timezone 약어 (예: KST)
+    private final Map<String, OpenMeteoSeries> sections = new LinkedHashMap<>(); // 데이터 블록 (응답 순서 유지)
+    private final Map<String, Object> extras = new LinkedHashMap<>();            // 모델에 없는 기타 필드 (그대로 전달)
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(double latitude) {
+        this.latitude = latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Double getElevation() {
+        return elevation;
+    }
+
+    public void setElevation(Double elevation) {
+        this.elevation = elevation;
+    }
+
+    public double getGenerationTimeMs() {
+        return generationTimeMs;
+    }
+
+    public void setGenerationTimeMs(double generationTimeMs) {
+        this.generationTimeMs = generationTimeMs;
+    }
+
+    public int getUtcOffsetSeconds() {
+        return utcOffsetSeconds;
+    }
+
+    public void setUtcOffsetSeconds(int utcOffsetSeconds) {
+        this.utcOffsetSeconds = utcOffsetSeconds;
+    }
+
+    public String getTimezone() {
+        return timezone;
+    }
+
+    public void setTimezone(String timezone) {
+        this.timezone = timezone;
+    }
+
+    public String getTimezoneAbbreviation() {
+        return timezoneAbbreviation;
+    }
+
+    public void setTimezoneAbbreviation(String timezoneAbbreviation) {
+        this.timezoneAbbreviation = timezoneAbbreviation;
+    }
+
+    public Map<String, OpenMeteoSeries> getSections() {
+        return sections;
+    }
+
+    public Map<String, Object> getExtras() {
+        return extras;
+    }
+
+    public OpenMeteoSeries section(String name) {
+        return sections.get(name);
+    }
+
+    public OpenMeteoSeries current() {
+        return sections.get(CURRENT);
+    }
+
+    public OpenMeteoSeries hourly() {
+        return sections.get(HOURLY);
+    }
+
+    public OpenMeteoSeries daily() {
+        return sections.get(DAILY);
+    }
+
+    /**
+     * 요청한 블록/변수/기간만 잘라낸 응답 (상위 집합 캐시에서 요청별 응답 생성 시 사용)
+     *
+     * @param variables 블록 이름 → 포함할 변수 (요청에 없는 블록은 제외)
+     * @param days forecast_days (0 이하이면 전체)
+     * @return OpenMeteoResponse 같은 타입의 새 응답 (값 배열은 필요한 구간만 복사)
+     */
+    public OpenMeteoResponse select(Map<String, List<String>> variables, int days) {
+        OpenMeteoResponse selected = newInstance();
+        selected.latitude = latitude;
+        selected.longitude = longitude;
+        selected.elevation = elevation;
+        selected.generationTimeMs = generationTimeMs;
+        selected.utcOffsetSeconds = utcOffsetSeconds;
+        selected.timezone = timezone;
+        selected.timezoneAbbreviation = timezoneAbbreviation;
+        selected.extras.putAll(extras);
+        sections.forEach((name, series) -> {
+            List<String> requested = variables.get(name);
+            if (requested != null) {
+                selected.sections.put(name, series.select(requested, days));
+            }
+        });
+        return selected;
+    }
+
+    /**
+     * select 결과를 담을 같은 타입의 빈 응답
+     */
+    protected OpenMeteoResponse newInstance() {
+        return new OpenMeteoResponse();
+    }
+
+    /**
+     * hourly 블록의 수치 변수 값 배열 (없으면 null)
+     */
+    protected float[] hourlyValues(String variable) {
+        OpenMeteoSeries hourly = hourly();
+        return hourly == null ? null : hourly.values(variable);
+    }
+
+    /**
+     * current 블록의 수치 변수 값 (없으면 NaN)
+     */
+    public float currentValue(String variable) {
+        OpenMeteoSeries current = current();
+        float[] values = current == null ? null : current.values(variable);
+        return values == null || values.length == 0 ? Float.NaN : values[0];
+    }
+}
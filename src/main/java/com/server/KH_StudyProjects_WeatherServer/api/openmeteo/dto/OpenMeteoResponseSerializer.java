@@ -0,0 +1,136 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+
+/**
+ * OpenMeteoResponse → Open-Meteo 원래 JSON 형태 직렬화
+ *
+ * 열 단위로 보관한 값을 다시 "hourly": {"time": [...], "temperature_2m": [...]} 형태로 출력하여
+ * 기존 클라이언트가 받던 응답 구조를 그대로 유지
+ *
+ * CBOR(Accept: application/cbor) 로 직렬화할 때는 배열 값을 원소 단위가 아닌 RFC 8746 typed array 로 압축
+ * - 수치 열: tag 85 (float32, little-endian) 바이트 문자열, 값 없음은 NaN
+ * - 시각 열: tag 79 (sint64, little-endian) epoch seconds(UTC), 단위는 "unixtime" 으로 표기
+ *
+ * @since 2026-10-18
+ */
+public class OpenMeteoResponseSerializer extends StdSerializer<OpenMeteoResponse> {
+
+    private static final int TAG_SINT64_LE = 79;  // RFC 8746 typed array: sint64 little-endian
+    private static final int TAG_FLOAT32_LE = 85; // RFC 8746 typed array: float32 little-endian
+
+    public OpenMeteoResponseSerializer() {
+        super(OpenMeteoResponse.class);
+    }
+
+    @Override
+    public void serialize(OpenMeteoResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("latitude", response.getLatitude());
+        gen.writeNumberField("longitude", response.getLongitude());
+        gen.writeNumberField("generationtime_ms", response.getGenerationTimeMs());
+        gen.writeNumberField("utc_offset_seconds", response.getUtcOffsetSeconds());
+        if (response.getTimezone() != null) {
+            gen.writeStringField("timezone", response.getTimezone());
+        }
+        if (response.getTimezoneAbbreviation() != null) {
+            gen.writeStringField("timezone_abbreviation", response.getTimezoneAbbreviation());
+        }
+        if (response.getElevation() != null) {
+            gen.writeNumberField("elevation", response.getElevation());
+        }
+        for (Map.Entry<String, Object> extra : response.getExtras().entrySet()) {
+            provider.defaultSerializeField(extra.getKey(), extra.getValue(), gen);
+        }
+        boolean packed = gen instanceof CBORGenerator;
+        for (OpenMeteoSeries series : response.getSections().values()) {
+            writeSeries(series, response.getUtcOffsetSeconds(), packed, gen);
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeSeries(OpenMeteoSeries series, int utcOffsetSeconds, boolean packed, JsonGenerator gen) throws IOException {
+        if (!series.getUnits().isEmpty()) {
+            gen.writeObjectFieldStart(series.getName() + "_units");
+            for (Map.Entry<String, String> unit : series.getUnits().entrySet()) {
+                OpenMeteoColumn column = "time".equals(unit.getKey()) ? series.getTime() : series.column(unit.getKey());
+                boolean epoch = packed && column != null && column.isTime(); // 압축 시 시각은 epoch seconds 로 전달
+                gen.writeStringField(unit.getKey(), epoch ? "unixtime" : unit.getValue());
+            }
+            gen.writeEndObject();
+        }
+
+        gen.writeObjectFieldStart(series.getName());
+        if (series.getTime() != null) {
+            writeColumn(series.getTime(), series.isScalar(), utcOffsetSeconds, packed, gen);
+        }
+        for (OpenMeteoColumn column : series.getColumns()) {
+            writeColumn(column, series.isScalar(), utcOffsetSeconds, packed, gen);
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeColumn(OpenMeteoColumn column, boolean scalar, int utcOffsetSeconds, boolean packed, JsonGenerator gen) throws IOException {
+        gen.writeFieldName(column.getName());
+        if (scalar) {
+            writeValue(column, 0, utcOffsetSeconds, packed, gen);
+            return;
+        }
+        if (packed) {
+            writePacked(column, (CBORGenerator) gen);
+            return;
+        }
+        int size = column.size();
+        gen.writeStartArray(column, size);
+        for (int i = 0; i < size; i++) {
+            writeValue(column, i, utcOffsetSeconds, false, gen);
+        }
+        gen.writeEndArray();
+    }
+
+    // 열 전체를 typed array 바이트 문자열 하나로 기록
+    private void writePacked(OpenMeteoColumn column, CBORGenerator gen) throws IOException {
+        int size = column.size();
+        if (column.isTime()) {
+            ByteBuffer buffer = ByteBuffer.allocate(size * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asLongBuffer().put(column.getTimes());
+            gen.writeTag(TAG_SINT64_LE);
+            gen.writeBinary(buffer.array());
+        } else {
+            ByteBuffer buffer = ByteBuffer.allocate(size * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asFloatBuffer().put(column.getValues());
+            gen.writeTag(TAG_FLOAT32_LE);
+            gen.writeBinary(buffer.array());
+        }
+    }
+
+    private void writeValue(OpenMeteoColumn column, int index, int utcOffsetSeconds, boolean packed, JsonGenerator gen) throws IOException {
+        if (column.isTime()) {
+            long time = column.getTimes()[index];
+            if (time == OpenMeteoColumn.NO_TIME) {
+                gen.writeNull();
+            } else if (packed || column.getTimeFormat() == OpenMeteoTimeFormat.UNIX) {
+                gen.writeNumber(time);
+            } else {
+                gen.writeString(column.getTimeFormat().format(time, utcOffsetSeconds));
+            }
+            return;
+        }
+        float value = column.getValues()[index];
+        if (Float.isNaN(value)) {
+            gen.writeNull();
+        } else if (column.isIntegral()) {
+            gen.writeNumber((long) value);
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
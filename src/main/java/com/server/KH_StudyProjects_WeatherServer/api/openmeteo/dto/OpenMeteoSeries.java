@@ -0,0 +1,132 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Open-Meteo 응답의 데이터 블록 (current / hourly / daily / minutely_15)
+ *
+ * 공통 시각 축(time)과 변수별 값 열(OpenMeteoColumn), 단위 테이블을 보관
+ * current 블록은 값이 1개인 블록(scalar)으로 표현
+ *
+ * @since 2026-10-18
+ */
+public class OpenMeteoSeries {
+
+    private final String name;                  // 블록 이름 (current, hourly, daily, minutely_15)
+    private final boolean scalar;               // current 처럼 배열이 아닌 단일 값 블록인지 여부
+    private final OpenMeteoColumn time;         // 시각 축
+    private final List<OpenMeteoColumn> columns; // time 을 제외한 변수 열 (응답 순서 유지)
+    private final Map<String, String> units;    // 변수별 단위 (OpenMeteoUnits 로 공유되는 테이블)
+
+    public OpenMeteoSeries(String name, boolean scalar, OpenMeteoColumn time, List<OpenMeteoColumn> columns, Map<String, String> units) {
+        this.name = name;
+        this.scalar = scalar;
+        this.time = time;
+        this.columns = columns;
+        this.units = units;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isScalar() {
+        return scalar;
+    }
+
+    public OpenMeteoColumn getTime() {
+        return time;
+    }
+
+    public List<OpenMeteoColumn> getColumns() {
+        return columns;
+    }
+
+    public Map<String, String> getUnits() {
+        return units;
+    }
+
+    /**
+     * 시각 축 (epoch seconds, UTC)
+     */
+    public long[] times() {
+        return time == null ? new long[0] : time.getTimes();
+    }
+
+    public int size() {
+        return time == null ? (columns.isEmpty() ? 0 : columns.get(0).size()) : time.size();
+    }
+
+    /**
+     * 변수 열 조회
+     *
+     * @param variable 변수명 (예: temperature_2m)
+     * @return OpenMeteoColumn 해당 열 (없으면 null)
+     */
+    public OpenMeteoColumn column(String variable) {
+        for (OpenMeteoColumn column : columns) {
+            if (column.getName().equals(variable)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요청 변수와 기간만 잘라낸 블록
+     *
+     * @param variables 포함할 변수 (요청 순서, 없는 변수는 제외)
+     * @param days 시작 시각부터 포함할 일수 (0 이하이면 전체, current 블록은 기간 무관)
+     * @return OpenMeteoSeries 잘라낸 블록
+     */
+    public OpenMeteoSeries select(List<String> variables, int days) {
+        int to = size();
+        if (!scalar && time != null && to > 0 && days > 0) {
+            long[] times = time.getTimes();
+            long cutoff = times[0] + days * 86_400L;
+            to = 0;
+            while (to < times.length && times[to] < cutoff) {
+                to++;
+            }
+        }
+
+        List<OpenMeteoColumn> selected = new ArrayList<>(variables.size());
+        Map<String, String> selectedUnits = new LinkedHashMap<>();
+        if (time != null && units.containsKey(time.getName())) {
+            selectedUnits.put(time.getName(), units.get(time.getName()));
+        }
+        for (String variable : variables) {
+            OpenMeteoColumn column = column(variable);
+            if (column != null) {
+                selected.add(column.slice(0, to));
+                if (units.containsKey(variable)) {
+                    selectedUnits.put(variable, units.get(variable));
+                }
+            }
+        }
+        // current 의 interval 처럼 시각 축에 딸린 값은 항상 포함
+        OpenMeteoColumn interval = scalar ? column("interval") : null;
+        if (interval != null && !variables.contains("interval")) {
+            selected.add(0, interval);
+            if (units.containsKey("interval")) {
+                selectedUnits.put("interval", units.get("interval"));
+            }
+        }
+        return new OpenMeteoSeries(name, scalar, time == null ? null : time.slice(0, to),
+                List.copyOf(selected), OpenMeteoUnits.intern(selectedUnits));
+    }
+
+    /**
+     * 수치 변수 값 배열 조회
+     *
+     * @param variable 변수명
+     * @return float[] 값 배열 (없거나 시각 변수면 null)
+     */
+    public float[] values(String variable) {
+        OpenMeteoColumn column = column(variable);
+        return column == null ? null : column.getValues();
+    }
+}
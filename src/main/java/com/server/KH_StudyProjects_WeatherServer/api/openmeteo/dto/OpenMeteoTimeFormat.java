@@ -0,0 +1,53 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Open-Meteo 시각 값 표기 형식
+ *
+ * 시각 값은 모두 epoch seconds(UTC) 로 보관하고, 응답을 다시 만들 때 원래 표기 형식으로 되돌림
+ * - ISO_DATE_TIME: "2025-04-13T09:00" (요청 timezone 기준 현지 시각)
+ * - ISO_DATE: "2025-04-13" (daily 시각 축)
+ * - UNIX: 1744502400 (timeformat=unixtime)
+ *
+ * @since 2026-10-18
+ */
+public enum OpenMeteoTimeFormat {
+
+    ISO_DATE_TIME,
+    ISO_DATE,
+    UNIX;
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+
+    /**
+     * ISO 문자열의 표기 형식 판별
+     */
+    public static OpenMeteoTimeFormat ofIso(String text) {
+        return text.length() == 10 ? ISO_DATE : ISO_DATE_TIME;
+    }
+
+    /**
+     * ISO 현지 시각 문자열을 "현지 기준" epoch seconds 로 변환 (UTC 보정은 호출 측에서 utc_offset 으로 수행)
+     */
+    public static long parseLocal(String text) {
+        if (text.length() == 10) {
+            return LocalDate.parse(text).toEpochDay() * 86_400L;
+        }
+        return LocalDateTime.parse(text).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * epoch seconds(UTC) 를 원래 표기 형식의 문자열로 변환 (UNIX 형식은 null)
+     */
+    public String format(long epochSecond, int utcOffsetSeconds) {
+        return switch (this) {
+            case ISO_DATE -> LocalDate.ofEpochDay(Math.floorDiv(epochSecond + utcOffsetSeconds, 86_400L)).toString();
+            case ISO_DATE_TIME -> LocalDateTime.ofEpochSecond(epochSecond + utcOffsetSeconds, 0, ZoneOffset.UTC).format(DATE_TIME);
+            case UNIX -> null;
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Open-Meteo 단위/변수명 공유 테이블
+ *
+ * 같은 변수 조합을 요청한 응답은 단위 정보(hourly_units 등)가 모두 동일하므로,
+ * 응답마다 새 Map/문자열을 보관하지 않고 하나의 불변 인스턴스를 공유
+ * 클라이언트가 임의 조합을 보내더라도 테이블이 무한히 커지지 않도록 최대 크기를 제한
+ *
+ * @since 2026-10-18
+ */
+public final class OpenMeteoUnits {
+
+    private static final int MAX_TABLES = 1_024;   // 최대 공유 단위 테이블 수
+    private static final int MAX_STRINGS = 8_192;  // 최대 공유 문자열 수
+
+    private static final Map<Map<String, String>, Map<String, String>> TABLES = new ConcurrentHashMap<>();
+    private static final Map<String, String> STRINGS = new ConcurrentHashMap<>();
+
+    private OpenMeteoUnits() {
+    }
+
+    /**
+     * 변수명/단위 문자열 공유
+     */
+    public static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = STRINGS.get(value);
+        if (shared != null) {
+            return shared;
+        }
+        if (STRINGS.size() >= MAX_STRINGS) {
+            return value;
+        }
+        shared = STRINGS.putIfAbsent(value, value);
+        return shared == null ? value : shared;
+    }
+
+    /**
+     * 단위 테이블 공유 (동일한 내용이면 같은 불변 인스턴스 반환)
+     */
+    public static Map<String, String> intern(Map<String, String> units) {
+        if (units == null || units.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> shared = TABLES.get(units);
+        if (shared != null) {
+            return shared;
+        }
+        Map<String, String> copy = new LinkedHashMap<>();
+        units.forEach((variable, unit) -> copy.put(intern(variable), intern(unit)));
+        Map<String, String> immutable = Collections.unmodifiableMap(copy);
+        if (TABLES.size() >= MAX_TABLES) {
+            return immutable;
+        }
+        shared = TABLES.putIfAbsent(immutable, immutable);
+        return shared == null ? immutable : shared;
+    }
+}
@@ -0,0 +1,21 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Open-Meteo 다중 좌표 일괄 조회 설정
+ *
+ * application.yml 의 openmeteo.batch 블록과 바인딩
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "openmeteo.batch")
+public class OpenApiBatchProperties {
+
+    private int chunkSize = 50;      // 업스트림 1회 호출에 담을 최대 좌표 수 (URL 길이 제한 고려)
+    private int maxLocations = 100;  // 배치 요청 1건당 최대 좌표 수
+}
@@ -0,0 +1,22 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Open-Meteo API 주소 설정
+ *
+ * application.yml 의 openmeteo.endpoint 블록과 바인딩
+ * 부하 테스트(loadtest 프로파일)에서는 로컬 스텁 서버 주소로 교체
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "openmeteo.endpoint")
+public class OpenApiEndpointProperties {
+
+    private String weatherBaseUrl = "https://api.open-meteo.com/v1";                   // 날씨 API
+    private String airPollutionBaseUrl = "https://air-quality-api.open-meteo.com/v1";  // 미세먼지 API
+}
@@ -1,50 +1,435 @@
 package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.KH_StudyProjects_WeatherServer.api.common.SingleFlight;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamHttpClient;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamHttpProperties;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamPriority;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamQuotaExceededException;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamQuotaGovernor;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamTaskExecutor;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamUnavailableException;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheEntry;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheKey;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiPayload;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiResponseCache;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenApiCoordinateDto;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.ResponseEntity;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class OpenApiManager {
 
-    private final String BASE_URL_WEATHER = "https://api.open-meteo.com/v1"; // 날씨 API
-    private final String BASE_URL_AIR_POLLUTION = "https://air-quality-api.open-meteo.com/v1"; // 미세먼지 API
+    private final UpstreamHttpClient upstreamHttpClient; // 커넥션 풀을 공유하는 업스트림 클라이언트
+    private final UpstreamHttpProperties upstreamHttpProperties;
+    private final UpstreamTaskExecutor upstreamTaskExecutor; // stale 응답 백그라운드 갱신 실행기
+    private final UpstreamQuotaGovernor upstreamQuotaGovernor; // 우선순위별 호출 한도 관리
+    private final OpenApiEndpointProperties openApiEndpointProperties; // Open-Meteo API 주소
+    private final OpenApiBatchProperties openApiBatchProperties;
+    private final OpenApiSupersetProperties openApiSupersetProperties;
+    private final OpenApiResponseCache openApiResponseCache; // 격자 단위 응답 캐시
+    private final OpenMeteoResponseParser openMeteoResponseParser; // 열 단위 모델 스트리밍 파서
+    private final ObjectMapper objectMapper;
+    private final ObservationRegistry observationRegistry; // 업스트림 호출 지연 시간/트레이스 기록
+    private final SingleFlight<String, Optional<OpenApiPayload>> singleFlight = new SingleFlight<>(); // 동일 URL 동시 호출 병합
+    private final Set<OpenApiCacheKey> revalidating = ConcurrentHashMap.newKeySet(); // 백그라운드 갱신 중인 캐시 키
 
+    // 캐시 조회 후 미적중 시 업스트림 API 호출 메서드
+    // 상위 집합 조회 대상이면 격자별 상위 집합 응답에서 요청 변수/기간만 잘라서 반환
+    public Optional<OpenMeteoResponse> executeContext(Map<String, Object> params,String flag) throws URISyntaxException, UnsupportedEncodingException {
+        OpenApiSelection selection = planSuperset(params, flag);
+        if (selection != null) {
+            return executeSliced(params, flag, selection);
+        }
+        return executePayload(params, flag).flatMap(this::toResponse);
+    }
+
+    // 상위 집합에서 잘라낼 수 있는 요청이면 선택 정보 반환 (대상이 아니면 null)
+    public OpenApiSelection planSuperset(Map<String, Object> params, String flag) {
+        OpenApiSupersetProperties.Superset superset = openApiSupersetProperties.superset(flag);
+        if (!openApiSupersetProperties.isEnabled() || superset == null) {
+            return null;
+        }
+        OpenApiSelection selection = OpenApiSelection.parse(String.valueOf(params.getOrDefault("queryParam", "")));
+        return selection != null && superset.covers(selection) ? selection : null;
+    }
+
+    // 상위 집합 조회(캐시/병합 공유) 후 요청 변수/기간만 잘라냄
+    private Optional<OpenMeteoResponse> executeSliced(Map<String, Object> params, String flag, OpenApiSelection selection) throws UnsupportedEncodingException {
+        int days = selection.forecastDaysOr(openApiSupersetProperties.superset(flag).getDefaultForecastDays());
+        return executePayload(supersetParams(params, flag, selection), flag)
+                .flatMap(this::toResponse)
+                .map(response -> response.select(selection.getSections(), days));
+    }
 
-    // RestTemplate을 사용하여 API 호출 메서드
-    public Optional<Map<String, Object>> executeContext(Map<String, Object> params,String flag) throws URISyntaxException, UnsupportedEncodingException {
-        String apiUri = makeUrl(params,flag); // 동적으로 URL 생성
-        RestTemplate restTemplate = new RestTemplate();
+    // 요청 좌표 + 상위 집합 queryParam
+    private Map<String, Object> supersetParams(Map<String, Object> params, String flag, OpenApiSelection selection) {
+        Map<String, Object> supersetParams = new HashMap<>(params);
+        supersetParams.put("queryParam", openApiSupersetProperties.superset(flag).toQueryParam(selection.getShapeQuery()));
+        return supersetParams;
+    }
 
+    // 백그라운드 선조회 메서드 - 이미 캐시에 있으면 호출하지 않고, 없으면 조회 후 선조회 항목으로 저장
+    // 상위 집합 조회 대상이면 상위 집합을 선조회 (요청별 응답은 캐시에서 잘라냄)
+    public PrefetchResult prefetch(Map<String, Object> params, String flag) throws UnsupportedEncodingException {
+        OpenApiCacheKey cacheKey = prefetchKey(params, flag);
+        if (cacheKey == null) {
+            return PrefetchResult.FAILED; // 캐시 비활성화 또는 좌표 오류
+        }
+        if (openApiResponseCache.peek(cacheKey) != null) {
+            return PrefetchResult.WARM;
+        }
         try {
-            // API 호출
-            ResponseEntity<Map> response = restTemplate.getForEntity(new URI(apiUri), Map.class);
-            return Optional.ofNullable(response.getBody());
+            return fetchCoalesced(makeUrl(cacheKey.toParams(), flag), flag, cacheKey, UpstreamPriority.PREFETCH, true).isPresent()
+                    ? PrefetchResult.FETCHED
+                    : PrefetchResult.FAILED;
+        } catch (UpstreamUnavailableException e) {
+            return PrefetchResult.FAILED;
+        }
+    }
+
+    // 요청이 사용하는 캐시 항목의 갱신 시각 (epoch millis, 통계 미기록) - 선조회 주기와 요약 캐시 만료에 사용
+    // 캐시에 없으면 0(즉시), 있으면 갱신 시각(freshUntil), 캐시 비활성화/좌표 오류 시 -1
+    public long refreshDueAt(Map<String, Object> params, String flag) {
+        OpenApiCacheKey cacheKey = prefetchKey(params, flag);
+        if (cacheKey == null) {
+            return -1;
+        }
+        OpenApiCacheEntry entry = openApiResponseCache.peekEntry(cacheKey);
+        return entry == null ? 0 : entry.getFreshUntil();
+    }
+
+    // 요청의 응답 근거가 되는 캐시 항목 (HTTP 조건부 요청 검증용, 통계 미기록)
+    // stale 항목이면 백그라운드 갱신을 시작하고 그대로 반환 (응답도 같은 항목으로 처리되므로 ETag 일치)
+    public OpenApiCacheEntry validator(Map<String, Object> params, String flag) {
+        OpenApiCacheKey cacheKey = prefetchKey(params, flag);
+        if (cacheKey == null) {
+            return null;
+        }
+        OpenApiCacheEntry entry = openApiResponseCache.peekEntry(cacheKey);
+        if (entry != null && !entry.isFresh()) {
+            revalidate(cacheKey);
+        }
+        return entry;
+    }
+
+    // 요청이 사용하는 캐시 키 (상위 집합 조회 대상이면 상위 집합 키)
+    private OpenApiCacheKey prefetchKey(Map<String, Object> params, String flag) {
+        OpenApiSelection selection = planSuperset(params, flag);
+        return openApiResponseCache.keyOf(selection == null ? params : supersetParams(params, flag, selection), flag);
+    }
+
+    // 응답 원본(파싱 전 바이트) 조회 메서드 - pass-through 응답에서 사용
+    // 갱신 시각이 지난(stale) 캐시 항목은 즉시 응답하고 백그라운드에서 갱신 (stale-while-revalidate)
+    // 캐시 항목 없이 업스트림 장애/차단 시 UpstreamUnavailableException
+    public Optional<OpenApiPayload> executePayload(Map<String, Object> params, String flag) throws UnsupportedEncodingException {
+        OpenApiCacheKey cacheKey = openApiResponseCache.keyOf(params, flag);
+        if (cacheKey == null) {
+            return fetchCoalesced(makeUrl(params, flag), flag, null, UpstreamPriority.INTERACTIVE, false); // 캐시 대상이 아닌 요청은 그대로 호출
+        }
+
+        OpenApiCacheEntry cached = openApiResponseCache.lookup(cacheKey);
+        if (cached != null) {
+            if (!cached.isFresh()) {
+                revalidate(cacheKey);
+            }
+            return Optional.of(cached.getPayload());
+        }
+
+        // 스냅된 좌표 + 정규화된 파라미터로 호출하여 캐시 키와 응답을 일치시킴
+        return fetchCoalesced(makeUrl(cacheKey.toParams(), flag), flag, cacheKey, UpstreamPriority.INTERACTIVE, false);
+    }
+
+    // stale 항목 백그라운드 갱신 (키당 동시에 하나만, 실패 시 기존 항목을 staleTtl 까지 계속 사용)
+    private void revalidate(OpenApiCacheKey cacheKey) {
+        if (!revalidating.add(cacheKey)) {
+            return;
+        }
+        upstreamTaskExecutor.supplyAsync(() -> fetchCoalesced(makeUrl(cacheKey.toParams(), cacheKey.getFlag()), cacheKey.getFlag(), cacheKey, UpstreamPriority.PREFETCH, false))
+                .whenComplete((result, error) -> {
+                    revalidating.remove(cacheKey);
+                    if (error != null) {
+                        log.warn("Background revalidation failed: {}", error.getMessage());
+                    }
+                });
+    }
+
+    // 동일 URL 로 진행 중인 호출이 있으면 그 결과를 공유, 없으면 직접 호출 후 캐시에 저장
+    // priority: 호출 한도 우선순위, prefetched: 백그라운드 선조회로 저장하는 경우 true
+    // 낮은 우선순위 leader(선조회/갱신)가 호출 한도로 거절되면, 함께 기다리던 높은 우선순위 호출은 거절을 공유하지 않고
+    // 같은 우선순위끼리만 병합하여 자신의 우선순위로 다시 호출
+    private Optional<OpenApiPayload> fetchCoalesced(String apiUri, String flag, OpenApiCacheKey cacheKey, UpstreamPriority priority, boolean prefetched) {
+        try {
+            return fetchCoalesced(apiUri, apiUri, flag, cacheKey, priority, prefetched);
+        } catch (UpstreamQuotaExceededException e) {
+            if (e.getPriority().compareTo(priority) <= 0) {
+                throw e;
+            }
+            log.debug("Retrying with own priority after coalesced {} call was rejected by quota: {}", e.getPriority(), apiUri);
+            return fetchCoalesced(priority + " " + apiUri, apiUri, flag, cacheKey, priority, prefetched);
+        }
+    }
+
+    // flightKey: 병합 기준 키 (기본은 URL)
+    private Optional<OpenApiPayload> fetchCoalesced(String flightKey, String apiUri, String flag, OpenApiCacheKey cacheKey, UpstreamPriority priority, boolean prefetched) {
+        try {
+            return singleFlight.execute(flightKey, upstreamHttpProperties.getCoalesceWaitTimeout(), () -> {
+                // 직전 leader 가 방금 캐시를 채웠다면 재호출하지 않음
+                OpenApiPayload cached = cacheKey == null ? null : openApiResponseCache.peek(cacheKey);
+                if (cached != null) {
+                    return Optional.of(cached);
+                }
+                Optional<OpenApiPayload> fetched = fetch(apiUri, flag, priority, 1);
+                if (cacheKey != null) {
+                    fetched.ifPresent(payload -> openApiResponseCache.put(cacheKey, payload, prefetched));
+                }
+                return fetched;
+            });
+        } catch (UpstreamUnavailableException e) {
+            throw e;
+        } catch (TimeoutException e) {
+            log.error("Timed out waiting for in-flight API call: {}", apiUri);
+            throw new UpstreamUnavailableException("업스트림 응답 대기 시간 초과", e);
+        } catch (Exception e) {
+            log.error("Error occurred while waiting for in-flight API call: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 여러 좌표 일괄 조회 메서드 (응답 키: 요청 좌표 "위도,경도", 조회 실패 좌표는 null)
+    // 캐시에 있는 좌표는 캐시에서 응답하고, 나머지만 Open-Meteo 다중 좌표(쉼표 구분) 호출로 chunkSize 단위로 묶어 조회
+    public Map<String, OpenMeteoResponse> executeBatchContext(List<OpenApiCoordinateDto> locations, String queryParam, String flag) throws UnsupportedEncodingException {
+        Map<String, OpenMeteoResponse> results = new LinkedHashMap<>();
+        Map<OpenApiCacheKey, List<String>> pending = new LinkedHashMap<>(); // 미적중 격자 → 해당 격자의 요청 좌표들
+        Set<OpenApiCacheKey> cacheable = new HashSet<>();
+
+        for (OpenApiCoordinateDto location : locations) {
+            String label = location.toKey();
+            results.put(label, null);
+
+            Map<String, Object> params = new HashMap<>();
+            params.put("latitude", location.getLatitude());
+            params.put("longitude", location.getLongitude());
+            params.put("queryParam", queryParam == null ? "" : queryParam);
+
+            OpenApiCacheKey cacheKey = openApiResponseCache.keyOf(params, flag);
+            if (cacheKey != null) {
+                OpenApiPayload cached = openApiResponseCache.get(cacheKey);
+                Optional<OpenMeteoResponse> body = cached == null ? Optional.empty() : toResponse(cached);
+                if (body.isPresent()) {
+                    results.put(label, body.get());
+                    continue;
+                }
+                cacheable.add(cacheKey);
+            } else {
+                cacheKey = OpenApiCacheKey.of(params, flag, 0); // 캐시 미사용 시 좌표 그대로 묶음
+                if (cacheKey == null) {
+                    continue; // 좌표 형식 오류
+                }
+            }
+            pending.computeIfAbsent(cacheKey, key -> new ArrayList<>()).add(label);
+        }
+
+        List<OpenApiCacheKey> targets = new ArrayList<>(pending.keySet());
+        int chunkSize = Math.max(1, openApiBatchProperties.getChunkSize());
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<OpenApiCacheKey> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            List<OpenMeteoResponse> bodies = fetchChunk(chunk, flag);
+            for (int i = 0; i < chunk.size() && i < bodies.size(); i++) {
+                OpenMeteoResponse body = bodies.get(i);
+                if (body == null) {
+                    continue;
+                }
+                OpenApiCacheKey cacheKey = chunk.get(i);
+                if (cacheable.contains(cacheKey)) {
+                    cacheBatchResult(cacheKey, body, flag);
+                }
+                pending.get(cacheKey).forEach(label -> results.put(label, body));
+            }
+        }
+        return results;
+    }
+
+    // 좌표 묶음 1회 호출 (응답 배열 순서 = 요청 좌표 순서)
+    private List<OpenMeteoResponse> fetchChunk(List<OpenApiCacheKey> chunk, String flag) throws UnsupportedEncodingException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("latitude", chunk.stream().map(key -> String.valueOf(key.getLatitude())).collect(Collectors.joining(",")));
+        params.put("longitude", chunk.stream().map(key -> String.valueOf(key.getLongitude())).collect(Collectors.joining(",")));
+        params.put("queryParam", chunk.get(0).getQueryParam());
+
+        Optional<OpenApiPayload> fetched;
+        try {
+            fetched = fetch(makeUrl(params, flag), flag, UpstreamPriority.BATCH, chunk.size()); // 다중 좌표 호출은 좌표 수만큼 차감
+        } catch (UpstreamUnavailableException e) {
+            log.error("Upstream unavailable for batch API call: {}", e.getMessage());
+            return List.of();
+        }
+        if (fetched.isEmpty()) {
+            return List.of();
+        }
+        try (InputStream in = fetched.get().openBody()) {
+            // 좌표가 1개인 경우 배열이 아닌 단일 객체로 응답
+            return openMeteoResponseParser.parseList(in, flag);
+        } catch (IOException e) {
+            log.error("Error occurred while parsing the batch API response: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    // 다중 좌표 응답의 좌표별 결과를 단건 조회와 같은 캐시 항목으로 저장
+    private void cacheBatchResult(OpenApiCacheKey cacheKey, OpenMeteoResponse body, String flag) {
+        try {
+            openApiResponseCache.put(cacheKey, OpenApiPayload.ofParsed(objectMapper.writeValueAsBytes(body), body, flag));
+        } catch (IOException e) {
+            log.error("Error occurred while caching the batch API response: {}", e.getMessage());
+        }
+    }
+
+    // 응답 원본을 열 단위 모델로 변환 (최초 1회만 파싱)
+    private Optional<OpenMeteoResponse> toResponse(OpenApiPayload payload) {
+        try {
+            return Optional.ofNullable(payload.asResponse(openMeteoResponseParser));
+        } catch (IOException e) {
+            log.error("Error occurred while parsing the API response: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 공용 UpstreamHttpClient를 사용하여 API 호출 메서드 (본문은 파싱하지 않고 원본 그대로 보관)
+    // 4xx(잘못된 요청)는 빈 결과, 5xx/429/연결 실패/타임아웃/서킷 차단/호출 한도 초과는 UpstreamUnavailableException
+    // cost: 호출 한도에서 차감할 호출 수
+    private Optional<OpenApiPayload> fetch(String apiUri, String flag, UpstreamPriority priority, int cost) {
+        try {
+            // 호출 한도 확보 후 API 호출
+            upstreamQuotaGovernor.acquire(priority, cost);
+            UpstreamResponse response = observedGet(apiUri, flag, priority);
+            if (response.getStatusCode() >= 500 || response.getStatusCode() == 429) {
+                log.error("Upstream error while calling the API: status={}, uri={}", response.getStatusCode(), apiUri);
+                throw new UpstreamUnavailableException("업스트림 API 오류: status=" + response.getStatusCode());
+            }
+            if (!response.isSuccessful()) {
+                log.error("Error occurred while calling the API: status={}, uri={}", response.getStatusCode(), apiUri);
+                return Optional.empty();
+            }
+            return Optional.of(OpenApiPayload.of(response, flag));
+        } catch (UpstreamUnavailableException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while calling the API: {}", apiUri);
+            return Optional.empty();
+        } catch (IOException e) {
+            log.error("Error occurred while calling the API: {}", e.getMessage());
+            throw new UpstreamUnavailableException("업스트림 API 호출 실패", e);
         } catch (Exception e) {
             log.error("Error occurred while calling the API: {}", e.getMessage());
             return Optional.empty();
         }
     }
 
+    // 업스트림 호출 관측 - openmeteo.upstream 타이머(flag/priority/status 별 히스토그램) + 요청 트레이스의 하위 스팬
+    private UpstreamResponse observedGet(String apiUri, String flag, UpstreamPriority priority) throws IOException, InterruptedException, URISyntaxException {
+        Observation observation = Observation.createNotStarted("openmeteo.upstream", observationRegistry)
+                .contextualName("openmeteo " + flag)
+                .lowCardinalityKeyValue("flag", flag)
+                .lowCardinalityKeyValue("priority", priority.name())
+                .highCardinalityKeyValue("uri", apiUri)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            UpstreamResponse response = upstreamHttpClient.get(new URI(apiUri));
+            observation.lowCardinalityKeyValue("status", String.valueOf(response.getStatusCode()));
+            return response;
+        } catch (IOException | InterruptedException | URISyntaxException | RuntimeException e) {
+            // 서킷 차단은 UNAVAILABLE, 연결 실패/타임아웃 등은 IO_ERROR
+            observation.lowCardinalityKeyValue("status", e instanceof UpstreamUnavailableException ? "UNAVAILABLE" : "IO_ERROR");
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    // 진행 중 호출에 병합되어 대기한 건수
+    public long getCollapsedCount() {
+        return singleFlight.getCollapsedCount();
+    }
+
+    // 병합 대기 시간 초과 건수
+    public long getCoalesceTimeoutCount() {
+        return singleFlight.getTimeoutCount();
+    }
+
+    // 업스트림 호스트별 서킷 브레이커 상태
+    public Map<String, String> getCircuitStates() {
+        return upstreamHttpClient.getCircuitStates();
+    }
+
+    // 헤지 요청 발송 건수
+    public long getHedgeCount() {
+        return upstreamHttpClient.getHedgeCount();
+    }
+
+    // 단위 시간별 남은 호출 한도
+    public Map<String, Long> getQuotaRemaining() {
+        return upstreamQuotaGovernor.getRemaining();
+    }
+
+    // 우선순위별 호출 한도 초과 거절 건수
+    public Map<String, Long> getQuotaRejectedCounts() {
+        return upstreamQuotaGovernor.getRejectedCounts();
+    }
+
+    // 현재 진행 중인 업스트림 호출 수
+    public int getInFlightCount() {
+        return singleFlight.getInFlightCount();
+    }
+
+    // 선조회 결과 (WARM: 이미 캐시에 있음, FETCHED: 조회 후 저장, FAILED: 조회 실패)
+    public enum PrefetchResult {
+        WARM, FETCHED, FAILED
+    }
+
+    // 설정된 API 주소로 요청 URL 생성
+    private String makeUrl(Map<String, Object> params, String flag) throws UnsupportedEncodingException {
+        return makeUrl(params, flag, openApiEndpointProperties);
+    }
+
     // BASE_URL에 쿼리 파라미터 추가
     //2025.04.13 이수연 flag로 분기처리
-    private String makeUrl(Map<String, Object> params,String flag) throws UnsupportedEncodingException {
+    // 설정 외 인스턴스 상태를 사용하지 않음 (JMH 벤치마크에서 직접 호출하므로 package-private)
+    static String makeUrl(Map<String, Object> params, String flag, OpenApiEndpointProperties endpoints) throws UnsupportedEncodingException {
         StringBuilder url = new StringBuilder();
         if(flag.equals("weather")){
-            url.append(BASE_URL_WEATHER);
+            url.append(endpoints.getWeatherBaseUrl());
             url.append("/forecast"); // 원하는 경로 추가
 
         
         } else if(flag.equals("airPollution")) {
             //2025.04.13 이수연 추가
-            url.append(BASE_URL_AIR_POLLUTION);
+            url.append(endpoints.getAirPollutionBaseUrl());
             url.append("/air-quality");
 
         }
@@ -0,0 +1,21 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Open-Meteo 응답 pass-through 설정
+ *
+ * application.yml 의 openmeteo.passthrough 블록과 바인딩
+ * 활성화 시 /api/weather, /api/airPollution 응답을 파싱/재직렬화 없이 업스트림 바이트 그대로 전달
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "openmeteo.passthrough")
+public class OpenApiPassthroughProperties {
+
+    private boolean enabled = true; // pass-through 응답 사용 여부 (false: Map 파싱 후 Jackson 재직렬화)
+}
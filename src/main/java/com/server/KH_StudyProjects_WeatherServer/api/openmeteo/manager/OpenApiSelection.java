@@ -0,0 +1,89 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
+
+import lombok.Getter;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * 클라이언트 queryParam 의 변수/기간 선택 정보
+ *
+ * queryParam 을 아래 두 부분으로 나눔
+ * - 선택: current / hourly / daily / minutely_15 변수 목록, forecast_days
+ * - 형태: timezone, 단위, timeformat 등 응답 값 자체를 바꾸는 나머지 파라미터 (상위 집합 조회에 그대로 사용)
+ *
+ * @since 2026-10-18
+ */
+@Getter
+public class OpenApiSelection {
+
+    private static final Set<String> SECTIONS = Set.of("current", "hourly", "daily", "minutely_15");
+    // 상위 집합에서 잘라낼 수 없는 기간 지정 파라미터 (요청 그대로 조회)
+    private static final Set<String> UNSUPPORTED = Set.of(
+            "past_days", "forecast_hours", "past_hours", "forecast_minutely_15", "past_minutely_15",
+            "start_date", "end_date", "start_hour", "end_hour", "start_minutely_15", "end_minutely_15");
+
+    private final Map<String, List<String>> sections; // 블록 → 요청 변수 (요청 순서)
+    private final Integer forecastDays;               // 요청 forecast_days (없으면 null)
+    private final String shapeQuery;                  // 선택 외 파라미터
+
+    private OpenApiSelection(Map<String, List<String>> sections, Integer forecastDays, String shapeQuery) {
+        this.sections = sections;
+        this.forecastDays = forecastDays;
+        this.shapeQuery = shapeQuery;
+    }
+
+    /**
+     * queryParam 해석
+     *
+     * @param queryParam 클라이언트 queryParam
+     * @return OpenApiSelection 선택 정보 (상위 집합에서 잘라낼 수 없는 요청이면 null)
+     */
+    public static OpenApiSelection parse(String queryParam) {
+        Map<String, List<String>> sections = new LinkedHashMap<>();
+        Integer forecastDays = null;
+        List<String> shape = new ArrayList<>();
+
+        for (String pair : (queryParam == null ? "" : queryParam).split("&")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            if (UNSUPPORTED.contains(name)) {
+                return null;
+            } else if (SECTIONS.contains(name)) {
+                List<String> variables = sections.computeIfAbsent(name, key -> new ArrayList<>());
+                Arrays.stream(value.split(",")).map(String::trim).filter(v -> !v.isEmpty()).forEach(variables::add);
+            } else if ("forecast_days".equals(name)) {
+                try {
+                    forecastDays = Integer.parseInt(value.trim());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            } else {
+                shape.add(pair);
+            }
+        }
+        sections.values().removeIf(List::isEmpty);
+        if (sections.isEmpty()) {
+            return null;
+        }
+
+        StringJoiner shapeQuery = new StringJoiner("&");
+        shape.stream().sorted().forEach(shapeQuery::add);
+        return new OpenApiSelection(sections, forecastDays, shapeQuery.toString());
+    }
+
+    public int forecastDaysOr(int defaultDays) {
+        return forecastDays == null ? defaultDays : forecastDays;
+    }
+}
@@ -0,0 +1,105 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Open-Meteo 변수 상위 집합(superset) 조회 설정
+ *
+ * application.yml 의 openmeteo.superset 블록과 바인딩
+ * 활성화 시 격자마다 설정된 변수 전체를 한 번만 조회하고, 요청별 hourly/daily/current 변수와
+ * forecast_days 기간은 캐시된 상위 집합에서 잘라서 응답 (클라이언트 쿼리 조합 수와 무관하게 업스트림 호출 수 유지)
+ * 상위 집합에 없는 변수나 기간을 요청하면 기존처럼 요청 그대로 조회
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "openmeteo.superset")
+public class OpenApiSupersetProperties {
+
+    private boolean enabled = false;                // 상위 집합 조회 사용 여부
+    private Superset weather = new Superset(7);      // 날씨 API 기본 forecast_days 7일
+    private Superset airPollution = new Superset(5); // 대기질 API 기본 forecast_days 5일
+
+    /**
+     * flag 에 해당하는 상위 집합 설정
+     *
+     * @param flag "weather" 또는 "airPollution"
+     * @return Superset 해당 설정 (알 수 없는 flag 는 null)
+     */
+    public Superset superset(String flag) {
+        if ("weather".equals(flag)) {
+            return weather;
+        } else if ("airPollution".equals(flag)) {
+            return airPollution;
+        }
+        return null;
+    }
+
+    /**
+     * flag 별 상위 집합 변수/기간
+     */
+    @Data
+    public static class Superset {
+
+        private List<String> current = new ArrayList<>();    // current 변수
+        private List<String> hourly = new ArrayList<>();     // hourly 변수
+        private List<String> daily = new ArrayList<>();      // daily 변수
+        private List<String> minutely15 = new ArrayList<>(); // minutely_15 변수
+        private int forecastDays;                            // 조회 기간 (요청 가능한 최대 forecast_days)
+        private int defaultForecastDays;                     // 요청에 forecast_days 가 없을 때 업스트림 기본값
+
+        public Superset() {
+        }
+
+        public Superset(int forecastDays) {
+            this.forecastDays = forecastDays;
+            this.defaultForecastDays = forecastDays;
+        }
+
+        /**
+         * 블록 이름(current/hourly/daily/minutely_15)별 변수 목록
+         */
+        public Map<String, List<String>> sections() {
+            return Map.of("current", current, "hourly", hourly, "daily", daily, "minutely_15", minutely15);
+        }
+
+        /**
+         * 요청을 이 상위 집합에서 잘라낼 수 있는지 확인
+         */
+        public boolean covers(OpenApiSelection selection) {
+            int days = selection.forecastDaysOr(defaultForecastDays);
+            if (days < 1 || days > forecastDays) {
+                return false;
+            }
+            Map<String, List<String>> sections = sections();
+            return selection.getSections().entrySet().stream()
+                    .allMatch(entry -> sections.get(entry.getKey()).containsAll(entry.getValue()));
+        }
+
+        /**
+         * 상위 집합 조회용 queryParam (요청의 timezone 등 형태 파라미터 + 상위 집합 변수/기간)
+         *
+         * @param shapeQuery 변수/기간 외 요청 파라미터
+         */
+        public String toQueryParam(String shapeQuery) {
+            StringJoiner query = new StringJoiner("&");
+            if (!shapeQuery.isEmpty()) {
+                query.add(shapeQuery);
+            }
+            sections().forEach((section, variables) -> {
+                if (!variables.isEmpty()) {
+                    query.add(section + "=" + String.join(",", variables));
+                }
+            });
+            return query.add("forecast_days=" + forecastDays).toString();
+        }
+    }
+}
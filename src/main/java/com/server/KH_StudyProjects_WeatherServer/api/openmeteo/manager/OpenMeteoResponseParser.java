@@ -0,0 +1,268 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoAirQuality;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoColumn;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoForecast;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoSeries;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoTimeFormat;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoUnits;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Open-Meteo 응답 스트리밍 파서
+ *
+ * JSON 을 Map/List 트리로 만들지 않고 토큰 단위로 읽어 OpenMeteoResponse 의 기본형 배열 열에 바로 채움
+ * - 수치 값은 float[] (null → NaN), 시각 값은 epoch seconds(UTC) long[]
+ * - 단위 정보는 OpenMeteoUnits 공유 테이블 사용
+ * - 알 수 없는 필드는 extras 로 보관하여 응답 구조를 유지
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class OpenMeteoResponseParser {
+
+    private static final Set<String> SECTION_NAMES = Set.of(
+            OpenMeteoResponse.CURRENT, OpenMeteoResponse.HOURLY, OpenMeteoResponse.DAILY, OpenMeteoResponse.MINUTELY_15);
+    private static final Set<String> TIME_UNITS = Set.of("iso8601", "unixtime"); // 시각 변수의 단위 표기
+
+    private final ObjectMapper objectMapper;
+
+    public OpenMeteoResponseParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 좌표 1건 응답 파싱
+     *
+     * @param in 압축이 해제된 JSON 스트림
+     * @param flag weather / airPollution
+     * @return OpenMeteoResponse 응답 모델
+     * @throws IOException JSON 형식 오류 시
+     */
+    public OpenMeteoResponse parse(InputStream in, String flag) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Open-Meteo 응답 형식이 올바르지 않습니다.");
+            }
+            return readResponse(parser, flag);
+        }
+    }
+
+    /**
+     * 다중 좌표 응답 파싱 (좌표가 1개면 단일 객체로 응답되므로 배열/객체 모두 처리)
+     *
+     * @param in 압축이 해제된 JSON 스트림
+     * @param flag weather / airPollution
+     * @return List<OpenMeteoResponse> 요청 좌표 순서의 응답 목록
+     * @throws IOException JSON 형식 오류 시
+     */
+    public List<OpenMeteoResponse> parseList(InputStream in, String flag) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                return List.of(readResponse(parser, flag));
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("Open-Meteo 응답 형식이 올바르지 않습니다.");
+            }
+            List<OpenMeteoResponse> responses = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                responses.add(readResponse(parser, flag));
+            }
+            return responses;
+        }
+    }
+
+    // START_OBJECT 다음부터 END_OBJECT 까지 읽음
+    private OpenMeteoResponse readResponse(JsonParser parser, String flag) throws IOException {
+        OpenMeteoResponse response = "airPollution".equals(flag) ? new OpenMeteoAirQuality() : new OpenMeteoForecast();
+        Map<String, Map<String, String>> units = new HashMap<>();
+        Map<String, SeriesBuilder> sections = new LinkedHashMap<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "latitude" -> response.setLatitude(parser.getDoubleValue());
+                case "longitude" -> response.setLongitude(parser.getDoubleValue());
+                case "elevation" -> response.setElevation(token == JsonToken.VALUE_NULL ? null : parser.getDoubleValue());
+                case "generationtime_ms" -> response.setGenerationTimeMs(parser.getDoubleValue());
+                case "utc_offset_seconds" -> response.setUtcOffsetSeconds(parser.getIntValue());
+                case "timezone" -> response.setTimezone(OpenMeteoUnits.intern(parser.getText()));
+                case "timezone_abbreviation" -> response.setTimezoneAbbreviation(OpenMeteoUnits.intern(parser.getText()));
+                default -> {
+                    String section = field.endsWith("_units") ? field.substring(0, field.length() - "_units".length()) : null;
+                    if (token == JsonToken.START_OBJECT && section != null && SECTION_NAMES.contains(section)) {
+                        units.put(section, readUnits(parser));
+                    } else if (token == JsonToken.START_OBJECT && SECTION_NAMES.contains(field)) {
+                        sections.put(field, readSeries(parser, field));
+                    } else {
+                        response.getExtras().put(field, parser.readValueAs(Object.class));
+                    }
+                }
+            }
+        }
+
+        // 시각 값은 utc_offset 을 알아야 UTC 로 보정할 수 있으므로 모든 필드를 읽은 뒤 열을 완성
+        for (SeriesBuilder builder : sections.values()) {
+            Map<String, String> sectionUnits = units.getOrDefault(builder.name, Map.of());
+            response.getSections().put(builder.name, builder.build(sectionUnits, response.getUtcOffsetSeconds()));
+        }
+        return response;
+    }
+
+    private Map<String, String> readUnits(JsonParser parser) throws IOException {
+        Map<String, String> units = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String variable = parser.currentName();
+            parser.nextToken();
+            units.put(variable, parser.getValueAsString());
+        }
+        return OpenMeteoUnits.intern(units);
+    }
+
+    private SeriesBuilder readSeries(JsonParser parser, String name) throws IOException {
+        SeriesBuilder series = new SeriesBuilder(name);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            ColumnBuilder column = new ColumnBuilder(OpenMeteoUnits.intern(parser.currentName()));
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    column.add(parser, token);
+                }
+            } else {
+                series.scalar = true; // current 블록: 변수당 단일 값
+                column.add(parser, token);
+            }
+            series.columns.add(column);
+        }
+        return series;
+    }
+
+    // 데이터 블록 조립용 임시 버퍼
+    private static class SeriesBuilder {
+
+        private final String name;
+        private final List<ColumnBuilder> columns = new ArrayList<>();
+        private boolean scalar;
+
+        private SeriesBuilder(String name) {
+            this.name = name;
+        }
+
+        private OpenMeteoSeries build(Map<String, String> units, int utcOffsetSeconds) {
+            OpenMeteoColumn time = null;
+            List<OpenMeteoColumn> values = new ArrayList<>(columns.size());
+            for (ColumnBuilder column : columns) {
+                OpenMeteoColumn built = column.build(units.get(column.name), utcOffsetSeconds);
+                if (time == null && "time".equals(column.name) && built.isTime()) {
+                    time = built;
+                } else {
+                    values.add(built);
+                }
+            }
+            return new OpenMeteoSeries(name, scalar, time, List.copyOf(values), units);
+        }
+    }
+
+    // 변수 1개의 값을 박싱 없이 누적하는 버퍼 (정수만 나오는 동안은 long, 소수가 나오면 float 로 전환)
+    private static class ColumnBuilder {
+
+        private final String name;
+        private long[] longs = new long[32];
+        private float[] floats;
+        private final BitSet nulls = new BitSet();
+        private OpenMeteoTimeFormat isoFormat; // 문자열 시각 값의 표기 형식
+        private int size;
+
+        private ColumnBuilder(String name) {
+            this.name = name;
+        }
+
+        private void add(JsonParser parser, JsonToken token) throws IOException {
+            ensureCapacity();
+            switch (token) {
+                case VALUE_NUMBER_INT -> {
+                    if (floats == null) {
+                        longs[size] = parser.getLongValue();
+                    } else {
+                        floats[size] = parser.getFloatValue();
+                    }
+                }
+                case VALUE_NUMBER_FLOAT -> {
+                    toFloats();
+                    floats[size] = parser.getFloatValue();
+                }
+                case VALUE_STRING -> {
+                    if (floats != null) {
+                        nulls.set(size); // 수치 열에 섞인 문자열은 값 없음으로 처리
+                        break;
+                    }
+                    String text = parser.getText();
+                    if (isoFormat == null) {
+                        isoFormat = OpenMeteoTimeFormat.ofIso(text);
+                    }
+                    longs[size] = OpenMeteoTimeFormat.parseLocal(text);
+                }
+                default -> nulls.set(size); // null 및 예상 외 값
+            }
+            size++;
+        }
+
+        private void ensureCapacity() {
+            if (floats != null) {
+                if (size == floats.length) {
+                    floats = Arrays.copyOf(floats, size * 2);
+                }
+            } else if (size == longs.length) {
+                longs = Arrays.copyOf(longs, size * 2);
+            }
+        }
+
+        private void toFloats() {
+            if (floats != null) {
+                return;
+            }
+            floats = new float[Math.max(longs.length, 32)];
+            for (int i = 0; i < size; i++) {
+                floats[i] = longs[i];
+            }
+            longs = null;
+        }
+
+        private OpenMeteoColumn build(String unit, int utcOffsetSeconds) {
+            boolean time = isoFormat != null || (floats == null && ("time".equals(name) || TIME_UNITS.contains(unit)));
+            if (time && floats == null) {
+                long[] times = Arrays.copyOf(longs, size);
+                long offset = isoFormat == null ? 0 : utcOffsetSeconds; // ISO 는 현지 시각이므로 UTC 로 보정
+                for (int i = 0; i < size; i++) {
+                    times[i] = nulls.get(i) ? OpenMeteoColumn.NO_TIME : times[i] - offset;
+                }
+                return OpenMeteoColumn.ofTimes(name, times, isoFormat == null ? OpenMeteoTimeFormat.UNIX : isoFormat);
+            }
+
+            boolean integral = floats == null;
+            toFloats();
+            float[] values = Arrays.copyOf(floats, size);
+            for (int i = nulls.nextSetBit(0); i >= 0 && i < size; i = nulls.nextSetBit(i + 1)) {
+                values[i] = Float.NaN;
+            }
+            return OpenMeteoColumn.ofValues(name, values, integral);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.prefetch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Open-Meteo 즐겨찾기 좌표 선조회 설정
+ *
+ * application.yml 의 openmeteo.prefetch 블록과 바인딩
+ *
+ * 설정 예시:
+ * openmeteo:
+ *   prefetch:
+ *     enabled: true
+ *     interval: 5m
+ *     spread: 2m
+ *     refresh-ahead: 5m
+ *     budget-per-cycle: 200
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "openmeteo.prefetch")
+public class OpenApiPrefetchProperties {
+
+    private boolean enabled = false;                            // 선조회 사용 여부
+    private Duration initialDelay = Duration.ofSeconds(30);     // 기동 후 첫 주기까지 대기 시간
+    private Duration interval = Duration.ofMinutes(5);          // 주기 종료 ~ 다음 주기 시작 간격
+    private Duration spread = Duration.ofMinutes(2);            // 한 주기의 업스트림 호출을 분산할 시간
+    private Duration refreshAhead = Duration.ofMinutes(5);      // 갱신 시각이 이 시간 안에 도래하는 항목도 선정 (interval 이상 권장)
+    private int budgetPerCycle = 200;                           // 한 주기에 허용하는 최대 업스트림 호출 수
+    private List<String> weatherQueryParams = new ArrayList<>();      // 날씨 선조회 queryParam 목록
+    private List<String> airPollutionQueryParams = new ArrayList<>(); // 대기질 선조회 queryParam 목록
+
+    /**
+     * flag 에 해당하는 선조회 queryParam 목록
+     *
+     * @param flag "weather" 또는 "airPollution"
+     * @return List<String> queryParam 목록 (알 수 없는 flag 는 빈 목록)
+     */
+    public List<String> queryParams(String flag) {
+        if ("weather".equals(flag)) {
+            return weatherQueryParams;
+        } else if ("airPollution".equals(flag)) {
+            return airPollutionQueryParams;
+        }
+        return List.of();
+    }
+}
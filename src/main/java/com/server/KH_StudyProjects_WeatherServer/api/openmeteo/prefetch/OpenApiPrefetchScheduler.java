@@ -0,0 +1,178 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.prefetch;
+
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamTaskExecutor;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheProperties;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenApiManager;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteGridDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.mapper.SmFavoriteLocationMapper;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service.SmFavoriteSpatialIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open-Meteo 즐겨찾기 좌표 선조회 스케줄러
+ *
+ * 사용자가 실제로 조회하는 좌표(COM_FAVORITE_LOCATIONS)의 날씨/대기질을 캐시 만료 후 첫 요청보다 먼저 조회하여
+ * 사용자 요청 경로에서 업스트림 호출이 발생하지 않도록 함
+ *
+ * 처리 과정 (주기마다):
+ * 1. 전체 즐겨찾기 좌표를 flag 별 캐시 격자 단위로 집계 (즐겨찾기 디바이스 수가 많은 격자 우선)
+ * 2. 캐시에 없는 격자 + 갱신 시각(freshUntil)이 refresh-ahead 안에 도래하는 격자를 budget-per-cycle 건까지 선정
+ * 3. 대상별 기준 시각(캐시에 없으면 지금, 있으면 갱신 시각)부터 spread 시간 안의 균등 간격 + 무작위 지연(jitter) 시각에
+ *    TaskScheduler 로 예약하고, 예약 시각이 되면 UpstreamTaskExecutor 에서 조회
+ *
+ * 주기 메서드는 예약만 하고 바로 반환 (스케줄러 스레드에서 대기/join 하지 않아 다른 @Scheduled 작업을 막지 않음)
+ * 예약 후 아직 조회되지 않은 대상은 다음 주기에서 다시 선정하지 않음
+ * 캐시는 모델 갱신 시각에 일제히 만료되므로, 만료 직후의 호출이 한 번에 몰리지 않도록 분산
+ *
+ * @since 2026-10-18
+ */
+@Component
+@ConditionalOnProperty(prefix = "openmeteo.prefetch", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OpenApiPrefetchScheduler {
+
+    private static final List<String> FLAGS = List.of("weather", "airPollution");
+
+    private final OpenApiPrefetchProperties properties;
+    private final OpenApiCacheProperties openApiCacheProperties;
+    private final SmFavoriteLocationMapper smFavoriteLocationMapper;
+    private final SmFavoriteSpatialIndex smFavoriteSpatialIndex;
+    private final OpenApiManager openApiManager;
+    private final UpstreamTaskExecutor upstreamTaskExecutor;
+    private final TaskScheduler taskScheduler;
+    private final Set<Map.Entry<String, Map<String, Object>>> scheduled = ConcurrentHashMap.newKeySet(); // 예약 후 조회 전인 대상
+
+    /**
+     * 선조회 주기 실행 (대상 선정 후 조회를 예약하고 반환, interval 마다 다시 실행)
+     */
+    @Scheduled(initialDelayString = "${openmeteo.prefetch.initial-delay:30s}",
+               fixedDelayString = "${openmeteo.prefetch.interval:5m}")
+    public void prefetchFavorites() {
+        long now = System.currentTimeMillis();
+        List<Target> targets = selectDueTargets(now);
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Cycle cycle = new Cycle(targets.size());
+        long slot = properties.getSpread().toMillis() / targets.size();
+        for (int i = 0; i < targets.size(); i++) {
+            Target target = targets.get(i);
+            // 기준 시각 이후 i 번째 구간 안의 무작위 시각에 호출
+            long at = Math.max(now, target.dueAt()) + i * slot + (slot > 0 ? ThreadLocalRandom.current().nextLong(slot) : 0);
+            scheduled.add(target.key());
+            try {
+                taskScheduler.schedule(() -> prefetch(target, cycle), Instant.ofEpochMilli(at));
+            } catch (TaskRejectedException e) {
+                scheduled.remove(target.key());
+                cycle.complete(OpenApiManager.PrefetchResult.FAILED);
+            }
+        }
+        log.info("Open-Meteo 선조회 예약: targets={}, scheduled={}", targets.size(), scheduled.size());
+    }
+
+    // 예약 시각에 실행 - 업스트림 실행기에 조회를 넘기고 완료 시 집계
+    private void prefetch(Target target, Cycle cycle) {
+        upstreamTaskExecutor.supplyAsync(() -> openApiManager.prefetch(target.params(), target.flag()))
+                .whenComplete((result, error) -> {
+                    scheduled.remove(target.key());
+                    cycle.complete(error != null ? OpenApiManager.PrefetchResult.FAILED : result);
+                });
+    }
+
+    // 선조회 대상 선정 (캐시에 없거나 곧 갱신 시각이 되는 격자, 즐겨찾기 디바이스 수 내림차순, 최대 budget-per-cycle 건)
+    private List<Target> selectDueTargets(long now) {
+        List<Target> candidates = new ArrayList<>();
+        for (String flag : FLAGS) {
+            List<String> queryParams = properties.queryParams(flag);
+            OpenApiCacheProperties.Region region = openApiCacheProperties.region(flag);
+            if (queryParams.isEmpty() || region == null) {
+                continue;
+            }
+            for (SmFavoriteGridDto grid : favoriteGrids(region.getGridResolution())) {
+                for (String queryParam : queryParams) {
+                    Map<String, Object> params = new HashMap<>();
+                    params.put("latitude", grid.getLatitude());
+                    params.put("longitude", grid.getLongitude());
+                    params.put("queryParam", queryParam);
+                    candidates.add(new Target(flag, params, grid.getDeviceCount() == null ? 0 : grid.getDeviceCount(), 0));
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingInt(Target::deviceCount).reversed());
+
+        int budget = Math.max(0, properties.getBudgetPerCycle());
+        long horizon = now + properties.getRefreshAhead().toMillis();
+        List<Target> due = new ArrayList<>();
+        for (Target candidate : candidates) {
+            if (due.size() >= budget) {
+                log.info("Open-Meteo 선조회 예산 소진: budget={}, candidates={}", budget, candidates.size());
+                break;
+            }
+            if (scheduled.contains(candidate.key())) {
+                continue;
+            }
+            long dueAt = openApiManager.refreshDueAt(candidate.params(), candidate.flag());
+            if (dueAt >= 0 && dueAt <= horizon) {
+                due.add(new Target(candidate.flag(), candidate.params(), candidate.deviceCount(), dueAt));
+            }
+        }
+        return due;
+    }
+
+    // 격자별 즐겨찾기 디바이스 수 (공간 색인 구성 후에는 DB 집계 대신 색인에서 계산)
+    private List<SmFavoriteGridDto> favoriteGrids(double gridResolution) {
+        if (smFavoriteSpatialIndex.isReady()) {
+            return smFavoriteSpatialIndex.gridCells(gridResolution);
+        }
+        return smFavoriteLocationMapper.selectFavoriteGridCoordinates(gridResolution);
+    }
+
+    // 선조회 대상 (flag + 격자 좌표 파라미터, dueAt: 조회 기준 시각 epoch millis - 캐시에 없으면 0)
+    private record Target(String flag, Map<String, Object> params, int deviceCount, long dueAt) {
+
+        private Map.Entry<String, Map<String, Object>> key() {
+            return Map.entry(flag, params);
+        }
+    }
+
+    // 한 주기의 선조회 결과 집계 (마지막 대상이 끝나면 로그 1건)
+    private static final class Cycle {
+
+        private final int total;
+        private final long startedAt = System.nanoTime();
+        private final Map<OpenApiManager.PrefetchResult, Integer> results = new EnumMap<>(OpenApiManager.PrefetchResult.class);
+        private int completed;
+
+        private Cycle(int total) {
+            this.total = total;
+        }
+
+        private synchronized void complete(OpenApiManager.PrefetchResult result) {
+            results.merge(result, 1, Integer::sum);
+            if (++completed == total) {
+                log.info("Open-Meteo 선조회 완료: targets={}, results={}, elapsed={}ms",
+                        total, results, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            }
+        }
+    }
+}
@@ -1,11 +1,30 @@
 package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.service;
 
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheEntry;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiPayload;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiResponseCache;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenApiBatchRequestDto;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenApiCacheStatsDto;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenApiCoordinateDto;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenApiBatchProperties;
 import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenApiManager;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenApiPassthroughProperties;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.mapper.SmFavoriteLocationMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.Map;
 import java.util.Optional;
 
@@ -14,16 +33,165 @@ import java.util.Optional;
 public class OpenApiService {
 
     private final OpenApiManager openApiManager;
+    private final OpenApiResponseCache openApiResponseCache;
+    private final OpenApiBatchProperties openApiBatchProperties;
+    private final SmFavoriteLocationMapper smFavoriteLocationMapper;
+    private final OpenApiPassthroughProperties openApiPassthroughProperties;
 
     @Autowired
-    public OpenApiService(OpenApiManager openApiManager) {
+    public OpenApiService(OpenApiManager openApiManager, OpenApiResponseCache openApiResponseCache,
+                          OpenApiBatchProperties openApiBatchProperties, SmFavoriteLocationMapper smFavoriteLocationMapper,
+                          OpenApiPassthroughProperties openApiPassthroughProperties) {
         this.openApiManager = openApiManager;
+        this.openApiResponseCache = openApiResponseCache;
+        this.openApiBatchProperties = openApiBatchProperties;
+        this.smFavoriteLocationMapper = smFavoriteLocationMapper;
+        this.openApiPassthroughProperties = openApiPassthroughProperties;
     }
 
-    public ResponseEntity<?> executeApi(Map<String, Object> params,String flag) throws Exception {
+    // accept: 클라이언트 Accept 헤더 (CBOR 요청 시 pass-through 대신 모델을 CBOR 로 직렬화)
+    // acceptEncoding: 클라이언트 Accept-Encoding 헤더 (pass-through 시 gzip 그대로 전달 여부 판단)
+    public ResponseEntity<?> executeApi(Map<String, Object> params, String flag, String accept, String acceptEncoding) throws Exception {
         log.info(">> ActionService executeAction : {}", params);
 
-        Optional<Map<String, Object>> oData = openApiManager.executeContext(params,flag);
+        // 상위 집합에서 잘라서 응답하는 요청은 원본 바이트가 요청과 다르므로 pass-through 하지 않음
+        if (openApiPassthroughProperties.isEnabled() && !prefersCbor(accept) && openApiManager.planSuperset(params, flag) == null) {
+            Optional<OpenApiPayload> oPayload = openApiManager.executePayload(params, flag);
+            if (oPayload.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            return passthrough(oPayload.get(), acceptEncoding);
+        }
+
+        Optional<OpenMeteoResponse> oData = openApiManager.executeContext(params,flag);
         return oData.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
+
+    // GET 조회 (HTTP 캐시 검증자 포함)
+    // 응답의 근거가 되는 캐시 항목의 ETag 가 If-None-Match 와 일치하면 본문 파싱/직렬화 없이 304
+    // 그 외에는 executeApi 응답에 ETag / Cache-Control(다음 모델 갱신까지 max-age) / Vary 를 추가 (304 도 같은 헤더)
+    public ResponseEntity<?> executeApiConditional(Map<String, Object> params, String flag, String accept,
+                                                   String acceptEncoding, String ifNoneMatch) throws Exception {
+        OpenApiCacheEntry validator = openApiManager.validator(params, flag);
+        if (validator != null && matchesETag(ifNoneMatch, validator.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(cacheHeaders(validator)).build();
+        }
+
+        ResponseEntity<?> response = executeApi(params, flag, accept, acceptEncoding);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            return response;
+        }
+        // 조회 전에 있던 항목이 응답에 사용됨 (stale 이어도 그대로 응답) → 없던 경우만 새로 저장된 항목 사용
+        if (validator == null) {
+            validator = openApiManager.validator(params, flag);
+            if (validator == null) {
+                return response;
+            }
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        headers.putAll(cacheHeaders(validator)); // pass-through 응답의 Vary 를 교체
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+
+    // ETag + Cache-Control (다음 모델 갱신 시각까지 캐시 허용) + Vary
+    // 304 응답도 200 응답과 같은 헤더를 보내야 중간 캐시가 저장된 응답의 헤더를 올바르게 갱신
+    private HttpHeaders cacheHeaders(OpenApiCacheEntry entry) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(entry.getETag());
+        headers.setCacheControl(CacheControl.maxAge(entry.secondsUntilRefresh(), TimeUnit.SECONDS).cachePublic());
+        headers.setVary(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+        return headers;
+    }
+
+    // If-None-Match 약한 비교 (W/ 접두어 무시, 여러 값 또는 * 허용)
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(opaque));
+    }
+
+    // 업스트림 응답 바이트를 파싱 없이 그대로 전달
+    // 클라이언트가 gzip 을 받을 수 있으면 압축된 바이트를 그대로, 아니면 압축을 풀면서 스트리밍
+    private ResponseEntity<?> passthrough(OpenApiPayload payload, String acceptEncoding) throws IOException {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (!payload.isGzip()) {
+            return response.contentLength(payload.getRawBody().length).body(payload.getRawBody());
+        }
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(payload.getRawBody().length)
+                    .body(payload.getRawBody());
+        }
+        return response.body(new InputStreamResource(payload.openBody()));
+    }
+
+    // Accept 에 application/cbor 가 명시되어 있고 application/json 보다 우선순위(q)가 낮지 않은지 확인
+    private boolean prefersCbor(String accept) {
+        if (accept == null || !accept.toLowerCase().contains("cbor")) {
+            return false;
+        }
+        double cbor = 0;
+        double json = 0;
+        for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                cbor = Math.max(cbor, mediaType.getQualityValue());
+            } else if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, mediaType.getQualityValue());
+            }
+        }
+        return cbor > 0 && cbor >= json;
+    }
+
+    // Accept-Encoding 에 gzip 이 포함되어 있고 q=0 으로 거부되지 않았는지 확인
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(token -> token.trim().toLowerCase())
+                .anyMatch(token -> (token.equals("gzip") || token.startsWith("gzip;"))
+                        && !token.replace(" ", "").matches("gzip;q=0(\\.0*)?"));
+    }
+
+    // 여러 지역 일괄 조회 (locations 미지정 시 deviceId 의 즐겨찾기 좌표 사용)
+    public Map<String, OpenMeteoResponse> executeBatchApi(OpenApiBatchRequestDto requestDto, String flag) throws Exception {
+        log.info(">> ActionService executeBatchApi : {}", requestDto);
+
+        List<OpenApiCoordinateDto> locations = requestDto.getLocations();
+        if ((locations == null || locations.isEmpty()) && requestDto.getDeviceId() != null) {
+            locations = smFavoriteLocationMapper.selectFavoriteLocationsByUserId(requestDto.getDeviceId()).stream()
+                    .map(favorite -> new OpenApiCoordinateDto(favorite.getLatitude(), favorite.getLongitude()))
+                    .toList();
+        }
+        if (locations == null || locations.isEmpty()) {
+            throw new RuntimeException("조회할 좌표가 없습니다.");
+        }
+        if (locations.size() > openApiBatchProperties.getMaxLocations()) {
+            throw new RuntimeException("한 번에 조회할 수 있는 지역은 최대 " + openApiBatchProperties.getMaxLocations() + "개입니다.");
+        }
+
+        return openApiManager.executeBatchContext(locations, requestDto.getQueryParam(), flag);
+    }
+
+    // 응답 캐시 적중/미적중/제거 통계 + 동시 호출 병합 통계
+    public OpenApiCacheStatsDto getCacheStats() {
+        OpenApiCacheStatsDto stats = openApiResponseCache.stats();
+        stats.setCollapsedCount(openApiManager.getCollapsedCount());
+        stats.setCoalesceTimeoutCount(openApiManager.getCoalesceTimeoutCount());
+        stats.setInFlightCount(openApiManager.getInFlightCount());
+        stats.setHedgeCount(openApiManager.getHedgeCount());
+        stats.setCircuitStates(openApiManager.getCircuitStates());
+        stats.setQuotaRemaining(openApiManager.getQuotaRemaining());
+        stats.setQuotaRejectedCounts(openApiManager.getQuotaRejectedCounts());
+        return stats;
+    }
 }
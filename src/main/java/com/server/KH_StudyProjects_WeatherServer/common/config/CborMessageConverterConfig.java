@@ -0,0 +1,28 @@
+package com.server.KH_StudyProjects_WeatherServer.common.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * CBOR 응답 변환기 설정
+ *
+ * Accept: application/cbor 요청에 JSON 대신 CBOR(RFC 8949) 바이너리로 응답
+ * spring.jackson.* 설정이 적용된 ObjectMapper 빌더를 그대로 사용하여 JSON 응답과 같은 필드 구성을 유지
+ * Open-Meteo 응답의 배열 값은 OpenMeteoResponseSerializer 가 typed array 로 압축
+ *
+ * 요청 예시:
+ * curl -X POST -H "Accept: application/cbor" -H "Content-Type: application/json" -d '{...}' /api/weather
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+public class CborMessageConverterConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,35 @@
+package com.server.KH_StudyProjects_WeatherServer.common.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청 관측 규칙 (http.server.requests)
+ *
+ * 기본 태그(method, uri, status, outcome, exception)에 처리한 컨트롤러 메서드(handler) 태그를 추가
+ * 같은 URI 를 GET/POST 가 나누어 처리하는 경우에도 컨트롤러 메서드별 지연 시간을 구분
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class HandlerServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(KeyValue.of("handler", handler(context)));
+    }
+
+    // "컨트롤러.메서드" (컨트롤러를 거치지 않은 요청은 none)
+    private String handler(ServerRequestObservationContext context) {
+        if (context.getCarrier() != null
+                && context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return "none";
+    }
+}
@@ -0,0 +1,105 @@
+package com.server.KH_StudyProjects_WeatherServer.common.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JDBC 동시 사용 제한 DataSource
+ *
+ * 가상 스레드 모드에서 커넥션을 빌리는 스레드 수를 커넥션 풀 크기로 제한
+ * JDBC 드라이버 내부의 synchronized 구간은 가상 스레드를 캐리어 스레드에 고정(pinning)시키므로,
+ * 제한 없이 수천 개의 가상 스레드가 DB 호출에 진입하면 캐리어 스레드가 고갈되고 Hikari 대기열이 무한정 늘어남
+ *
+ * 동작 방식:
+ * - getConnection 전에 세마포어 허가를 획득 (가상 스레드는 세마포어 대기 중에는 고정되지 않음)
+ * - acquireTimeout 안에 허가를 얻지 못하면 SQLTransientConnectionException
+ * - 반환된 커넥션의 close() 시 허가를 반납 (중복 close 는 한 번만 반납)
+ *
+ * @since 2026-10-18
+ */
+public class JdbcConcurrencyGuardDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public JdbcConcurrencyGuardDataSource(DataSource targetDataSource, int maxConcurrency, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 사용 가능한 허가 수
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("DB 커넥션 대기 시간 초과 (" + acquireTimeout.toMillis() + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    // close() 호출 시 허가를 반납하는 커넥션 프록시
+    private Connection guard(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
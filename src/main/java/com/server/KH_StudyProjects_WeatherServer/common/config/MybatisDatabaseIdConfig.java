@@ -0,0 +1,31 @@
+package com.server.KH_StudyProjects_WeatherServer.common.config;
+
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * MyBatis DB 종류 식별 설정
+ *
+ * 매퍼 XML 에서 DB 별로 다른 SQL 이 필요한 구문만 databaseId 로 분기 (databaseId 가 없는 구문은 공통 사용)
+ * - oracle: 운영 DB
+ * - h2: 부하 테스트(loadtest 프로파일)용 인메모리 DB (Oracle 호환 모드)
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+public class MybatisDatabaseIdConfig {
+
+    @Bean
+    public DatabaseIdProvider databaseIdProvider() {
+        Properties vendors = new Properties();
+        vendors.setProperty("Oracle", "oracle");
+        vendors.setProperty("H2", "h2");
+        VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+        provider.setProperties(vendors);
+        return provider;
+    }
+}
@@ -0,0 +1,68 @@
+package com.server.KH_StudyProjects_WeatherServer.common.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatis 매퍼 구문 관측 인터셉터
+ *
+ * 모든 매퍼 메서드 실행을 mybatis.statement 관측으로 감싸서 구문별 실행 시간(타이머)과 트레이스 스팬을 기록
+ * mybatis-spring-boot 자동 설정이 Interceptor 빈을 SqlSessionFactory 에 등록
+ *
+ * 태그:
+ * - statement: 매퍼 인터페이스 단순 이름 + 메서드 (예: SmFavoriteLocationMapper.selectFavoriteLocationsByUserId)
+ * - command: SELECT / INSERT / UPDATE / DELETE
+ *
+ * 커넥션은 구문 실행 시점에 빌리므로 Hikari 대기 시간도 구문 시간에 포함 (대기만 따로 보려면 hikaricp.connections.acquire)
+ *
+ * @since 2026-10-18
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})
+})
+public class MybatisObservationInterceptor implements Interceptor {
+
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        String name = statementName(statement.getId());
+        Observation observation = Observation.createNotStarted("mybatis.statement", observationRegistry)
+                .contextualName(name)
+                .lowCardinalityKeyValue("statement", name)
+                .lowCardinalityKeyValue("command", statement.getSqlCommandType().name())
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    // "패키지.매퍼.메서드" → "매퍼.메서드"
+    static String statementName(String id) {
+        int method = id.lastIndexOf('.');
+        int mapper = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return id.substring(mapper + 1);
+    }
+}
@@ -0,0 +1,18 @@
+package com.server.KH_StudyProjects_WeatherServer.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄러 설정
+ *
+ * @Scheduled 작업 활성화 (Open-Meteo 즐겨찾기 선조회 등)
+ * 작업 스레드 수는 spring.task.scheduling.pool.size (한 작업이 길어져도 다른 작업이 밀리지 않도록 2 이상)
+ * 실제 작업 빈은 각 기능의 enabled 설정에 따라 등록
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
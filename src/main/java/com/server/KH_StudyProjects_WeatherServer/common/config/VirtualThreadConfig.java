@@ -0,0 +1,54 @@
+package com.server.KH_StudyProjects_WeatherServer.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 설정
+ *
+ * spring.threads.virtual.enabled=true (또는 virtual 프로파일) 일 때만 활성화
+ * Tomcat 요청 처리 스레드는 Spring Boot 가 가상 스레드로 전환하고,
+ * 여기서는 가상 스레드 환경에서 DB 접근이 과도하게 몰리지 않도록 DataSource 에 동시 사용 제한을 적용
+ *
+ * 설정:
+ * - jdbc.guard.max-concurrency: 동시 커넥션 사용 스레드 수 (기본값: Hikari maximum-pool-size)
+ * - jdbc.guard.acquire-timeout: 허가 대기 최대 시간 (기본값: 30s)
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    /**
+     * DataSource 를 JdbcConcurrencyGuardDataSource 로 감싸는 후처리기
+     *
+     * static 으로 선언하여 다른 빈보다 먼저 등록되도록 함
+     */
+    @Bean
+    public static BeanPostProcessor jdbcConcurrencyGuardPostProcessor(Environment environment) {
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        int maxConcurrency = environment.getProperty("jdbc.guard.max-concurrency", Integer.class, poolSize);
+        Duration acquireTimeout = environment.getProperty("jdbc.guard.acquire-timeout", Duration.class, Duration.ofSeconds(30));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof JdbcConcurrencyGuardDataSource)) {
+                    log.info("가상 스레드 모드 DB 동시 사용 제한 적용: bean={}, maxConcurrency={}", beanName, maxConcurrency);
+                    return new JdbcConcurrencyGuardDataSource(dataSource, maxConcurrency, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,6 +1,10 @@
 package com.server.KH_StudyProjects_WeatherServer.common.exception;
 
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamUnavailableException;
 import com.server.KH_StudyProjects_WeatherServer.common.util.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +18,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * @RestControllerAdvice를 사용하여 모든 컨트롤러의 예외를 자동으로 캐치
  * 
  * 처리하는 예외 유형:
+ * - UpstreamUnavailableException: 외부 API 장애/차단 (503 Service Unavailable)
  * - RuntimeException: 비즈니스 로직 관련 예외 (400 Bad Request)
  * - Exception: 일반적인 시스템 예외 (500 Internal Server Error)
  * 
@@ -21,13 +26,35 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * - 모든 에러 응답은 ApiResponse 형식으로 표준화
  * - 적절한 HTTP 상태 코드와 함께 에러 메시지 전달
  * - 로그를 통한 에러 추적 및 디버깅 지원
+ * - 처리한 예외는 api.exceptions 카운터로 집계 (exception: 예외 클래스, status: 응답 상태 코드)
  * 
  * @author 김효동
  * @since 2025-08-27
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
+
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * UpstreamUnavailableException 처리 (외부 API 장애)
+     * 
+     * 업스트림 5xx/타임아웃/서킷 차단으로 응답할 캐시 데이터도 없는 경우
+     * 클라이언트가 잠시 후 재시도할 수 있도록 503 으로 응답
+     * 
+     * @param e 발생한 UpstreamUnavailableException
+     * @return ResponseEntity<ApiResponse<Void>> 503 Service Unavailable 응답
+     */
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUpstreamUnavailableException(UpstreamUnavailableException e) {
+        log.warn("UpstreamUnavailableException 발생: {}", e.getMessage());
+        count(e, HttpStatus.SERVICE_UNAVAILABLE);
+        
+        ApiResponse<Void> response = ApiResponse.error("외부 날씨 서비스를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
     
     /**
      * RuntimeException 처리 (비즈니스 로직 예외)
@@ -46,6 +73,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<Void>> handleRuntimeException(RuntimeException e) {
         log.error("RuntimeException 발생: {}", e.getMessage(), e);
+        count(e, HttpStatus.BAD_REQUEST);
         
         ApiResponse<Void> response = ApiResponse.error(e.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
@@ -68,8 +96,19 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
         log.error("Exception 발생: {}", e.getMessage(), e);
+        count(e, HttpStatus.INTERNAL_SERVER_ERROR);
         
         ApiResponse<Void> response = ApiResponse.error("서버 내부 오류가 발생했습니다.");
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
+
+    // 예외 클래스/응답 상태별 처리 건수 집계
+    private void count(Exception e, HttpStatus status) {
+        Counter.builder("api.exceptions")
+                .description("GlobalExceptionHandler 가 처리한 예외 건수")
+                .tag("exception", e.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+    }
 }
@@ -1,11 +1,18 @@
 package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.controller;
 
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmDashboardResponseDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteGridDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationDeltaDto;
 import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationRequestDto;
 import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationSortOrderRequestDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service.SmDashboardService;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service.SmFavoriteLocationCache;
 import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service.SmFavoriteLocationService;
 import com.server.KH_StudyProjects_WeatherServer.common.util.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,10 +28,15 @@ import java.util.List;
      * 
      * 주요 기능:
      * - POST /locations: 새로운 즐겨찾기 위치 추가
-     * - GET /locations: 사용자별 즐겨찾기 목록 조회
+     * - GET /locations: 사용자별 즐겨찾기 목록 조회 (ETag / If-None-Match 지원)
+     * - GET /locations/changes: 목록 버전 이후 변경분 조회
      * - DELETE /locations: 즐겨찾기 위치 삭제 (위도/경도 기반)
      * - PATCH /locations/sort-order: 정렬 순서 변경
+     * - PUT /locations/sort-order: 전체 정렬 순서 일괄 변경
      * - GET /locations/check-duplicate: 중복 위치 체크
+     * - GET /locations/nearby: 현재 위치 주변 즐겨찾기 조회 (가까운 순)
+     * - GET /cells/popular: 즐겨찾기가 많은 격자 조회
+     * - GET /dashboard: 즐겨찾기 목록 + 지역별 현재 날씨 일괄 조회
      * 
      * 보안: 디바이스ID 기반 권한 체크로 사용자별 데이터 격리
      * 
@@ -39,6 +51,7 @@ import java.util.List;
 public class SmFavoriteLocationController {
     
     private final SmFavoriteLocationService smFavoriteLocationService;
+    private final SmDashboardService smDashboardService;
     
     /**
      * 사이드메뉴 즐겨찾기 위치 추가 (사이드메뉴 검색 아이템 클릭시 호출)
@@ -68,12 +81,35 @@ public class SmFavoriteLocationController {
      */
     @GetMapping("/locations")
     public ResponseEntity<ApiResponse<List<SmFavoriteLocationResponseDto>>> getSmFavoriteLocations(
-            @RequestParam String deviceId) {
+            @RequestParam String deviceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("사이드메뉴 즐겨찾기 목록 조회 요청: deviceId={}", deviceId);
         
-        List<SmFavoriteLocationResponseDto> locations = smFavoriteLocationService.getSmFavoriteLocations(deviceId);
-        ApiResponse<List<SmFavoriteLocationResponseDto>> apiResponse = ApiResponse.success("즐겨찾기 목록을 성공적으로 조회했습니다", locations);
-        return ResponseEntity.ok(apiResponse);
+        // DB 목록 버전을 강한 ETag 로 사용 (변경이 없으면 목록 조회 없이 304, 서버별 캐시와 무관하게 판단)
+        long version = smFavoriteLocationService.getSmFavoriteLocationVersion(deviceId);
+        String eTag = "\"" + version + "\"";
+        if (matchesETag(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        
+        SmFavoriteLocationCache.Snapshot snapshot = smFavoriteLocationService.getSmFavoriteLocationSnapshot(deviceId, version);
+        ApiResponse<List<SmFavoriteLocationResponseDto>> apiResponse = ApiResponse.success("즐겨찾기 목록을 성공적으로 조회했습니다", snapshot.getLocations());
+        return ResponseEntity.ok().eTag("\"" + snapshot.getVersion() + "\"").body(apiResponse);
+    }
+    
+    /**
+     * 사용자의 사이드메뉴 즐겨찾기 변경분 조회 (since: 클라이언트가 가진 목록 버전 = 마지막 ETag 값)
+     */
+    @GetMapping("/locations/changes")
+    public ResponseEntity<ApiResponse<SmFavoriteLocationDeltaDto>> getSmFavoriteLocationChanges(
+            @RequestParam String deviceId,
+            @RequestParam long since) {
+        log.info("사이드메뉴 즐겨찾기 변경분 조회 요청: deviceId={}, since={}", deviceId, since);
+        
+        SmFavoriteLocationDeltaDto delta = smFavoriteLocationService.getSmFavoriteLocationChanges(deviceId, since);
+        return ResponseEntity.ok()
+                .eTag("\"" + delta.getVersion() + "\"")
+                .body(ApiResponse.success("즐겨찾기 변경분을 성공적으로 조회했습니다", delta));
     }
     
     /**
@@ -111,6 +147,24 @@ public class SmFavoriteLocationController {
         return ResponseEntity.ok(apiResponse);
     }
     
+    /**
+     * 사이드메뉴 즐겨찾기 정렬 순서 일괄 변경 (드래그앤드롭 완료 시 전체 순서 전달)
+     */
+    @PutMapping("/locations/sort-order")
+    public ResponseEntity<ApiResponse<Void>> updateSmFavoriteLocationSortOrders(
+            @RequestBody SmFavoriteLocationSortOrderRequestDto requestDto) {
+        log.info("정렬 순서 일괄 변경 요청: {}", requestDto);
+        
+        // 필수 값 검증
+        if (requestDto.getDeviceId() == null || requestDto.getSeqNos() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        smFavoriteLocationService.updateSmFavoriteLocationSortOrders(requestDto);
+        ApiResponse<Void> apiResponse = ApiResponse.success("정렬 순서가 성공적으로 변경되었습니다", null);
+        return ResponseEntity.ok(apiResponse);
+    }
+    
     /**
      * 사이드메뉴 즐겨찾기 중복 체크
      */
@@ -124,4 +178,57 @@ public class SmFavoriteLocationController {
         boolean isDuplicate = smFavoriteLocationService.checkDuplicateLocation(latitude, longitude, deviceId);
         return ResponseEntity.ok(isDuplicate);
     }
+    
+    /**
+     * 현재 위치 주변 즐겨찾기 조회 (radius 생략 시 기본 반경)
+     */
+    @GetMapping("/locations/nearby")
+    public ResponseEntity<ApiResponse<List<SmFavoriteLocationResponseDto>>> getNearbySmFavoriteLocations(
+            @RequestParam String deviceId,
+            @RequestParam Double latitude,
+            @RequestParam Double longitude,
+            @RequestParam(required = false) Double radius) {
+        log.info("주변 즐겨찾기 조회 요청: deviceId={}, lat={}, lng={}, radius={}", deviceId, latitude, longitude, radius);
+        
+        List<SmFavoriteLocationResponseDto> locations = smFavoriteLocationService.getNearbySmFavoriteLocations(deviceId, latitude, longitude, radius);
+        return ResponseEntity.ok(ApiResponse.success("주변 즐겨찾기를 성공적으로 조회했습니다", locations));
+    }
+    
+    /**
+     * 즐겨찾기 디바이스 수가 많은 격자 조회
+     */
+    @GetMapping("/cells/popular")
+    public ResponseEntity<ApiResponse<List<SmFavoriteGridDto>>> getPopularFavoriteCells(
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("인기 즐겨찾기 격자 조회 요청: limit={}", limit);
+        
+        List<SmFavoriteGridDto> cells = smFavoriteLocationService.getPopularFavoriteCells(limit);
+        return ResponseEntity.ok(ApiResponse.success("인기 격자를 성공적으로 조회했습니다", cells));
+    }
+    
+    /**
+     * 사이드메뉴 대시보드 조회 (즐겨찾기 목록 + 지역별 현재 날씨, 앱 실행 시 호출)
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<ApiResponse<SmDashboardResponseDto>> getSmDashboard(@RequestParam String deviceId) {
+        log.info("사이드메뉴 대시보드 조회 요청: deviceId={}", deviceId);
+        
+        SmDashboardResponseDto dashboard = smDashboardService.getSmDashboard(deviceId);
+        String message = dashboard.isPartial() ? "일부 지역의 날씨를 불러오지 못했습니다" : "대시보드를 성공적으로 조회했습니다";
+        return ResponseEntity.ok(ApiResponse.success(message, dashboard));
+    }
+    
+    // If-None-Match 헤더(쉼표 구분 목록 또는 *)에 현재 ETag 가 포함되는지 확인 (강한 비교)
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
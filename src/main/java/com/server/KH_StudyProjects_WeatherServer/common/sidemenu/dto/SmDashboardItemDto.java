@@ -0,0 +1,30 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto;
+
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사이드메뉴 대시보드 항목 DTO
+ *
+ * 즐겨찾기 위치 1건과 해당 위치의 현재 날씨를 함께 전달
+ * 날씨 조회에 실패하거나 제한 시간을 넘긴 경우 weather 는 null, status 로 원인 구분
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmDashboardItemDto {
+
+    public static final String STATUS_OK = "OK";           // 날씨 조회 성공
+    public static final String STATUS_FAILED = "FAILED";   // 업스트림 호출 실패
+    public static final String STATUS_TIMEOUT = "TIMEOUT"; // 제한 시간 초과
+
+    private SmFavoriteLocationResponseDto location; // 즐겨찾기 위치
+    private OpenMeteoResponse weather;              // Open-Meteo 현재 날씨 응답
+    private String status;                          // OK / FAILED / TIMEOUT
+}
@@ -0,0 +1,27 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사이드메뉴 대시보드 응답 DTO
+ *
+ * 앱 실행 시 즐겨찾기 목록 조회 + 지역별 날씨 조회를 한 번의 요청으로 처리한 결과
+ * 일부 지역의 날씨 조회가 실패해도 나머지 결과는 그대로 전달 (partial = true)
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmDashboardResponseDto {
+
+    private List<SmDashboardItemDto> items; // 즐겨찾기 정렬 순서대로의 항목
+    private int failedCount;                // 날씨 조회 실패/시간 초과 건수
+    private boolean partial;                // 일부 항목 실패 여부
+}
@@ -0,0 +1,25 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 즐겨찾기 격자 좌표 DTO
+ *
+ * 전체 디바이스의 즐겨찾기 좌표를 격자 단위로 묶은 집계 결과
+ * 날씨/대기질 백그라운드 선조회 대상 선정에 사용
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmFavoriteGridDto {
+
+    private Double latitude;     // 격자 위도 (스냅된 값)
+    private Double longitude;    // 격자 경도 (스냅된 값)
+    private Integer deviceCount; // 해당 격자를 즐겨찾기한 디바이스 수
+}
@@ -0,0 +1,25 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제된 사이드메뉴 즐겨찾기 위치 DTO
+ *
+ * COM_FAVORITE_TOMBSTONES 에서 조회되어 변경분 응답의 삭제 항목으로 전달
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmFavoriteLocationDeletedDto {
+
+    private Long seqNo;
+    private Double latitude;        // 위도
+    private Double longitude;       // 경도
+    private Long version;           // 삭제된 목록 버전
+}
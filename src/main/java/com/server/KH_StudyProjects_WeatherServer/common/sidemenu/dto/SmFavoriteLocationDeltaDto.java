@@ -0,0 +1,30 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사이드메뉴 즐겨찾기 변경분 응답 DTO
+ *
+ * 클라이언트가 가진 목록 버전(since) 이후 변경된 항목만 전달
+ * 클라이언트는 deleted 를 먼저 반영한 뒤 upserted 를 SEQ_NO 기준으로 추가/갱신하고, version 을 저장
+ * full 이 true 이면 upserted 가 전체 목록이므로 기존 목록을 교체
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmFavoriteLocationDeltaDto {
+
+    private long since;                                     // 요청 기준 버전
+    private long version;                                   // 현재 목록 버전
+    private boolean full;                                   // 전체 목록 응답 여부 (기준 버전이 현재보다 크거나 삭제 기록 보관 기간이 지난 경우 등)
+    private List<SmFavoriteLocationResponseDto> upserted;   // 추가/변경된 항목
+    private List<SmFavoriteLocationDeletedDto> deleted;     // 삭제된 항목
+}
@@ -32,5 +32,6 @@ public class SmFavoriteLocationResponseDto {
     private String region3DepthName; // 동/읍/면
     private String region3DepthHName; // 동/읍/면 한글명
     private Integer sortOrder;       // 정렬순서
+    private Long rowVersion;         // 마지막으로 변경된 목록 버전
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,26 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사이드메뉴 즐겨찾기 일괄 정렬 순서 변경 요청 DTO
+ *
+ * Android 앱에서 드래그앤드롭으로 순서를 바꾼 뒤 변경된 전체 목록을 한 번에 전달할 때 사용
+ * seqNos 의 순서가 곧 새 정렬 순서 (첫 번째 항목이 SORT_ORDER 1)
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmFavoriteLocationSortOrderRequestDto {
+
+    private String deviceId;        // 디바이스식별번호
+    private List<Long> seqNos;      // 새 순서대로의 즐겨찾기 SEQ_NO 전체 목록
+}
@@ -0,0 +1,23 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 디바이스별 즐겨찾기 목록 버전 DTO
+ *
+ * COM_FAVORITE_VERSIONS 버전 증가 프로시저 호출 시 파라미터/결과(OUT) 전달용
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmFavoriteVersionDto {
+
+    private String deviceId;        // 디바이스식별번호
+    private Long version;           // 증가된 목록 버전 (호출 후 채워짐)
+}
@@ -1,10 +1,13 @@
 package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.mapper;
 
-import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationRequestDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteGridDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationDeletedDto;
 import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteVersionDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
     /**
@@ -18,7 +21,8 @@ import java.util.List;
      * - 사용자별 즐겨찾기 목록 조회 (SELECT)
      * - 중복 위치 체크 (SELECT COUNT)
      * - 즐겨찾기 위치 삭제 (DELETE)
-     * - 즐겨찾기 위치 정렬 순서 수정 (UPDATE)
+     * - 즐겨찾기 위치 정렬 순서 수정 (UPDATE, 전체 목록 일괄 MERGE)
+     * - 디바이스별 목록 버전 관리 및 변경분 조회
      * 
      * @author 김효동
      * @since 2025-08-27
@@ -27,15 +31,22 @@ import java.util.List;
 public interface SmFavoriteLocationMapper {
     
     /**
-     * 즐겨찾기 위치 추가
+     * 즐겨찾기 위치 추가 (생성된 SEQ_NO, SORT_ORDER 를 location 에 채움)
      */
-    int insertFavoriteLocation(SmFavoriteLocationRequestDto requestDto);
+    int insertFavoriteLocation(SmFavoriteLocationResponseDto location);
     
     /**
      * 사용자별 즐겨찾기 목록 조회
      */
     List<SmFavoriteLocationResponseDto> selectFavoriteLocationsByUserId(@Param("deviceId") String deviceId);
     
+    /**
+     * 디바이스+좌표로 즐겨찾기 1건 조회 (없으면 null)
+     */
+    SmFavoriteLocationResponseDto selectFavoriteLocationByCoordinates(@Param("deviceId") String deviceId,
+                                                                      @Param("latitude") Double latitude,
+                                                                      @Param("longitude") Double longitude);
+    
         /**
      * 중복 위치 체크
      */
@@ -48,6 +59,14 @@ public interface SmFavoriteLocationMapper {
      */
     int countFavoriteLocationsByDeviceId(@Param("deviceId") String deviceId);
     
+    /**
+     * 삭제 대상 행을 삭제 기록(tombstone)으로 저장 (삭제 전에 호출)
+     */
+    int insertFavoriteTombstone(@Param("deviceId") String deviceId,
+                                @Param("latitude") Double latitude,
+                                @Param("longitude") Double longitude,
+                                @Param("version") long version);
+    
     /**
      * 즐겨찾기 위치 삭제
      */
@@ -61,5 +80,60 @@ public interface SmFavoriteLocationMapper {
     int updateFavoriteLocationSortOrder(@Param("deviceId") String deviceId,
                                       @Param("latitude") Double latitude,
                                       @Param("longitude") Double longitude,
-                                      @Param("sortOrder") Integer sortOrder);
+                                      @Param("sortOrder") Integer sortOrder,
+                                      @Param("rowVersion") long rowVersion);
+
+    /**
+     * 즐겨찾기 정렬 순서 일괄 수정 (seqNos 순서대로 1부터 부여, 반영된 행 수 반환)
+     */
+    int mergeFavoriteLocationSortOrders(@Param("deviceId") String deviceId,
+                                        @Param("seqNos") List<Long> seqNos,
+                                        @Param("rowVersion") long rowVersion);
+
+    /**
+     * 디바이스 목록 버전 1 증가 후 증가된 버전을 versionDto.version 에 채움 (커밋 전까지 디바이스 행 잠금)
+     */
+    void bumpFavoriteVersion(SmFavoriteVersionDto versionDto);
+
+    /**
+     * 디바이스 목록 버전 조회 (변경 이력이 없으면 0)
+     */
+    long selectFavoriteVersion(@Param("deviceId") String deviceId);
+
+    /**
+     * since 버전 이후 추가/변경된 즐겨찾기 조회
+     */
+    List<SmFavoriteLocationResponseDto> selectFavoriteLocationsChangedSince(@Param("deviceId") String deviceId,
+                                                                           @Param("since") long since);
+
+    /**
+     * since 버전 이후 삭제된 즐겨찾기 조회
+     */
+    List<SmFavoriteLocationDeletedDto> selectFavoriteTombstonesSince(@Param("deviceId") String deviceId,
+                                                                    @Param("since") long since);
+
+    /**
+     * 보관 기간이 지나 정리된 삭제 기록 중 가장 큰 목록 버전 조회 (정리된 기록이 없으면 0)
+     */
+    long selectFavoriteTombstonePrunedVersion(@Param("deviceId") String deviceId);
+
+    /**
+     * cutoff 이전 삭제 기록의 디바이스별 최대 버전을 TOMBSTONE_PRUNED_VERSION 에 기록 (삭제 기록 정리 전 호출)
+     */
+    int markFavoriteTombstonesPruned(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * cutoff 이전 삭제 기록 정리
+     */
+    int deleteFavoriteTombstonesBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 전체 디바이스 즐겨찾기 좌표 (SEQ_NO, DEVICE_ID, LATITUDE, LONGITUDE 만 조회, 공간 색인 구성용)
+     */
+    List<SmFavoriteLocationResponseDto> selectAllFavoriteCoordinates();
+
+    /**
+     * 전체 디바이스 즐겨찾기 좌표를 격자 단위로 집계 (즐겨찾기 디바이스 수 내림차순)
+     */
+    List<SmFavoriteGridDto> selectFavoriteGridCoordinates(@Param("gridResolution") double gridResolution);
 }
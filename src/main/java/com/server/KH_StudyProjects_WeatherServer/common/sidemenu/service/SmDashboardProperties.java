@@ -0,0 +1,24 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사이드메뉴 대시보드 설정
+ *
+ * application.yml 의 sidemenu.dashboard 블록과 바인딩
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sidemenu.dashboard")
+public class SmDashboardProperties {
+
+    // 지역별 현재 날씨 조회에 사용할 Open-Meteo 쿼리 파라미터
+    private String queryParam = "current=temperature_2m,relative_humidity_2m,apparent_temperature,precipitation,weather_code,wind_speed_10m&timezone=auto";
+    private Duration deadline = Duration.ofSeconds(3); // 대시보드 요청 전체의 날씨 조회 제한 시간
+}
@@ -0,0 +1,113 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamTaskExecutor;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenApiManager;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmDashboardItemDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmDashboardResponseDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 사이드메뉴 대시보드 서비스
+ *
+ * 앱 실행 시 필요한 즐겨찾기 목록과 지역별 현재 날씨를 서버에서 한 번에 조회
+ * 모바일 환경에서 즐겨찾기 조회 후 지역 수만큼 날씨를 다시 요청하던 왕복을 하나로 줄임
+ *
+ * 처리 과정:
+ * 1. SmFavoriteLocationService 로 디바이스의 즐겨찾기 목록 조회
+ * 2. 지역별 현재 날씨를 UpstreamTaskExecutor 에서 병렬 조회 (동시 호출 수 제한)
+ * 3. 요청 전체 제한 시간(deadline)까지 기다린 뒤, 완료되지 않은 지역은 TIMEOUT 으로 처리
+ * 4. 실패한 지역이 있어도 나머지 결과를 그대로 반환 (부분 응답)
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SmDashboardService {
+
+    private final SmFavoriteLocationService smFavoriteLocationService;
+    private final OpenApiManager openApiManager;
+    private final UpstreamTaskExecutor upstreamTaskExecutor;
+    private final SmDashboardProperties smDashboardProperties;
+
+    /**
+     * 즐겨찾기 목록 + 지역별 현재 날씨 조회
+     *
+     * @param deviceId 디바이스 고유 식별자
+     * @return SmDashboardResponseDto 즐겨찾기 정렬 순서대로의 위치/날씨 목록
+     */
+    public SmDashboardResponseDto getSmDashboard(String deviceId) {
+        log.info("사이드메뉴 대시보드 조회: deviceId={}", deviceId);
+
+        List<SmFavoriteLocationResponseDto> favorites = smFavoriteLocationService.getSmFavoriteLocations(deviceId);
+        List<CompletableFuture<OpenMeteoResponse>> futures = new ArrayList<>(favorites.size());
+        for (SmFavoriteLocationResponseDto favorite : favorites) {
+            futures.add(upstreamTaskExecutor.supplyAsync(() -> fetchCurrentWeather(favorite)));
+        }
+
+        // 모든 지역이 같은 마감 시각을 공유 (지역 수와 무관하게 응답 시간 상한 보장)
+        long deadline = System.nanoTime() + smDashboardProperties.getDeadline().toNanos();
+        List<SmDashboardItemDto> items = new ArrayList<>(favorites.size());
+        int failedCount = 0;
+        for (int i = 0; i < favorites.size(); i++) {
+            SmDashboardItemDto item = await(favorites.get(i), futures.get(i), deadline);
+            if (!SmDashboardItemDto.STATUS_OK.equals(item.getStatus())) {
+                failedCount++;
+            }
+            items.add(item);
+        }
+
+        if (failedCount > 0) {
+            log.warn("사이드메뉴 대시보드 일부 날씨 조회 실패: deviceId={}, failed={}/{}", deviceId, failedCount, favorites.size());
+        }
+        return SmDashboardResponseDto.builder()
+                .items(items)
+                .failedCount(failedCount)
+                .partial(failedCount > 0)
+                .build();
+    }
+
+    private OpenMeteoResponse fetchCurrentWeather(SmFavoriteLocationResponseDto favorite) throws Exception {
+        Map<String, Object> params = new HashMap<>();
+        params.put("latitude", favorite.getLatitude());
+        params.put("longitude", favorite.getLongitude());
+        params.put("queryParam", smDashboardProperties.getQueryParam());
+        return openApiManager.executeContext(params, "weather").orElse(null);
+    }
+
+    private SmDashboardItemDto await(SmFavoriteLocationResponseDto favorite, CompletableFuture<OpenMeteoResponse> future, long deadline) {
+        String status;
+        OpenMeteoResponse weather = null;
+        try {
+            weather = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            status = weather != null ? SmDashboardItemDto.STATUS_OK : SmDashboardItemDto.STATUS_FAILED;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            status = SmDashboardItemDto.STATUS_TIMEOUT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = SmDashboardItemDto.STATUS_FAILED;
+        } catch (ExecutionException e) {
+            log.error("대시보드 날씨 조회 실패: lat={}, lng={}, e={}", favorite.getLatitude(), favorite.getLongitude(), e.getCause().toString());
+            status = SmDashboardItemDto.STATUS_FAILED;
+        }
+        return SmDashboardItemDto.builder()
+                .location(favorite)
+                .weather(weather)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteGridDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 즐겨찾기 좌표 격자 색인 (인메모리)
+ *
+ * 위도/경도를 cellSize(도) 격자로 나누어 격자 → 좌표 목록으로 보관
+ * 격자 번호는 Math.round(좌표 / cellSize) 로, Open-Meteo 응답 캐시 키(OpenApiCacheKey)와 같은 방식으로 스냅
+ *
+ * 조회:
+ * - cellOf: 좌표 → 격자 (O(1), 계산만)
+ * - findWithin: 반경이 걸치는 주변 격자만 확인 후 실제 거리(haversine)로 필터
+ * - popularCells / gridCells: 격자별 즐겨찾기 디바이스 수 집계
+ *
+ * 스레드 안전 (격자 맵/격자 내부 모두 ConcurrentHashMap)
+ *
+ * @since 2026-10-18
+ */
+public class SmFavoriteCellGrid {
+
+    private static final double METERS_PER_DEGREE = 111_320.0; // 위도 1도 거리 (경도는 cos(위도) 배)
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+
+    private final double cellSize;
+    private final Map<Long, Map<String, Point>> cells = new ConcurrentHashMap<>(); // 격자 키 → (디바이스+좌표 → 좌표)
+
+    public SmFavoriteCellGrid(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize 는 0보다 커야 합니다: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * 좌표가 속한 격자 (격자 중심 좌표 포함)
+     */
+    public Cell cellOf(double latitude, double longitude) {
+        long row = Math.round(latitude / cellSize);
+        long column = Math.round(longitude / cellSize);
+        return new Cell(key(row, column), center(row, cellSize), center(column, cellSize));
+    }
+
+    /**
+     * 즐겨찾기 좌표 추가 (같은 디바이스+좌표는 교체)
+     */
+    public void add(long seqNo, String deviceId, double latitude, double longitude) {
+        Point point = new Point(seqNo, deviceId, latitude, longitude);
+        cells.computeIfAbsent(cellOf(latitude, longitude).key(), key -> new ConcurrentHashMap<>()).put(point.id(), point);
+    }
+
+    /**
+     * 즐겨찾기 좌표 제거 (빈 격자는 함께 제거)
+     */
+    public void remove(String deviceId, double latitude, double longitude) {
+        cells.computeIfPresent(cellOf(latitude, longitude).key(), (key, points) -> {
+            points.remove(Point.id(deviceId, latitude, longitude));
+            return points.isEmpty() ? null : points;
+        });
+    }
+
+    /**
+     * 반경 안의 즐겨찾기 좌표 (가까운 순)
+     *
+     * @param deviceId 디바이스 식별자 (null 이면 전체 디바이스)
+     * @param radiusMeters 반경 (m)
+     */
+    public List<Match> findWithin(String deviceId, double latitude, double longitude, double radiusMeters) {
+        long row = Math.round(latitude / cellSize);
+        long column = Math.round(longitude / cellSize);
+        // 반경이 걸치는 격자 수 (경도 방향은 위도가 높을수록 1도 거리가 짧아짐)
+        long rowSpan = (long) Math.ceil(radiusMeters / METERS_PER_DEGREE / cellSize);
+        double cosLatitude = Math.max(Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + rowSpan * cellSize))), 1e-6);
+        long columnSpan = (long) Math.ceil(radiusMeters / (METERS_PER_DEGREE * cosLatitude) / cellSize);
+
+        List<Match> matches = new ArrayList<>();
+        for (long r = row - rowSpan; r <= row + rowSpan; r++) {
+            for (long c = column - columnSpan; c <= column + columnSpan; c++) {
+                Map<String, Point> points = cells.get(key(r, c));
+                if (points == null) {
+                    continue;
+                }
+                for (Point point : points.values()) {
+                    if (deviceId != null && !deviceId.equals(point.deviceId())) {
+                        continue;
+                    }
+                    double distance = distanceMeters(latitude, longitude, point.latitude(), point.longitude());
+                    if (distance <= radiusMeters) {
+                        matches.add(new Match(point.seqNo(), point.deviceId(), point.latitude(), point.longitude(), distance));
+                    }
+                }
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::distanceMeters));
+        return matches;
+    }
+
+    /**
+     * 즐겨찾기 디바이스 수가 많은 격자 (격자 중심 좌표, 디바이스 수 내림차순)
+     */
+    public List<SmFavoriteGridDto> popularCells(int limit) {
+        List<SmFavoriteGridDto> grids = new ArrayList<>();
+        cells.forEach((key, points) -> {
+            Set<String> devices = new HashSet<>();
+            points.values().forEach(point -> devices.add(point.deviceId()));
+            if (!devices.isEmpty()) {
+                Point any = points.values().iterator().next();
+                Cell cell = cellOf(any.latitude(), any.longitude());
+                grids.add(new SmFavoriteGridDto(cell.latitude(), cell.longitude(), devices.size()));
+            }
+        });
+        grids.sort(Comparator.comparing(SmFavoriteGridDto::getDeviceCount).reversed());
+        return grids.size() > limit ? new ArrayList<>(grids.subList(0, limit)) : grids;
+    }
+
+    /**
+     * 다른 격자 크기로 다시 묶은 격자별 디바이스 수 (선조회 대상 선정 등, 디바이스 수 내림차순)
+     */
+    public List<SmFavoriteGridDto> gridCells(double resolution) {
+        Map<Long, Set<String>> devicesByGrid = new HashMap<>();
+        Map<Long, double[]> centers = new HashMap<>();
+        cells.values().forEach(points -> points.values().forEach(point -> {
+            long row = Math.round(point.latitude() / resolution);
+            long column = Math.round(point.longitude() / resolution);
+            long key = key(row, column);
+            devicesByGrid.computeIfAbsent(key, k -> new HashSet<>()).add(point.deviceId());
+            centers.computeIfAbsent(key, k -> new double[]{center(row, resolution), center(column, resolution)});
+        }));
+        List<SmFavoriteGridDto> grids = new ArrayList<>(devicesByGrid.size());
+        devicesByGrid.forEach((key, devices) ->
+                grids.add(new SmFavoriteGridDto(centers.get(key)[0], centers.get(key)[1], devices.size())));
+        grids.sort(Comparator.comparing(SmFavoriteGridDto::getDeviceCount).reversed());
+        return grids;
+    }
+
+    /**
+     * 색인된 좌표 수
+     */
+    public int size() {
+        return cells.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * 두 좌표 사이 거리 (m, haversine)
+     */
+    public static double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLon = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 격자 행/열 → 맵 키 (상위 32비트 행, 하위 32비트 열)
+    private static long key(long row, long column) {
+        return (row << 32) | (column & 0xffffffffL);
+    }
+
+    // 격자 번호 → 중심 좌표 (부동소수점 오차 제거)
+    private static double center(long index, double resolution) {
+        return BigDecimal.valueOf(index * resolution).setScale(6, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    /**
+     * 격자 (키 + 중심 좌표)
+     */
+    public record Cell(long key, double latitude, double longitude) {
+    }
+
+    /**
+     * 반경 조회 결과
+     */
+    public record Match(long seqNo, String deviceId, double latitude, double longitude, double distanceMeters) {
+    }
+
+    // 색인된 즐겨찾기 좌표 1건
+    private record Point(long seqNo, String deviceId, double latitude, double longitude) {
+
+        private String id() {
+            return id(deviceId, latitude, longitude);
+        }
+
+        private static String id(String deviceId, double latitude, double longitude) {
+            return deviceId + '|' + latitude + '|' + longitude;
+        }
+    }
+}
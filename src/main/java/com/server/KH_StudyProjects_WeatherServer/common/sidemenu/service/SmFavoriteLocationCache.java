@@ -0,0 +1,151 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 디바이스별 사이드메뉴 즐겨찾기 목록 캐시
+ *
+ * 사이드메뉴를 열 때마다 DB 를 조회하던 즐겨찾기 목록을 디바이스 단위로 보관 (read-through)
+ * 목록과 함께 위도/경도 → 항목 맵과 목록 버전을 보관하여 좌표 조회/ETag 비교를 DB 조회 없이 처리
+ *
+ * 동작 방식:
+ * - 조회: 캐시에 없으면 loader 로 DB 조회 후 저장
+ * - 변경: 추가/삭제/정렬 변경 트랜잭션이 커밋된 뒤 해당 디바이스 항목 제거
+ *   (제거는 서버별로 이루어지므로, 다른 서버에서 변경된 항목은 조회 시 DB 목록 버전과 비교하여 다시 조회)
+ *   (커밋 전 제거 시 다른 요청이 변경 전 데이터를 다시 캐시에 올릴 수 있음)
+ * - 제거: maximumSize 초과 또는 expireAfterAccess 동안 조회가 없으면 제거
+ * - 통계: 적중/미적중/제거 건수를 cache=sidemenu.favorites 메트릭으로 노출
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class SmFavoriteLocationCache implements MeterBinder {
+
+    private final SmFavoriteLocationCacheProperties properties;
+    private final Cache<String, Snapshot> cache;
+
+    public SmFavoriteLocationCache(SmFavoriteLocationCacheProperties properties) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 디바이스의 즐겨찾기 스냅샷 조회 (없으면 loader 로 조회 후 저장)
+     *
+     * @param deviceId 디바이스 고유 식별자
+     * @param loader DB 조회 함수
+     * @return Snapshot 목록 버전 + 즐겨찾기 목록 + 좌표 맵
+     */
+    public Snapshot get(String deviceId, Function<String, Snapshot> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(deviceId);
+        }
+        return cache.get(deviceId, loader);
+    }
+
+    /**
+     * 디바이스 항목 즉시 제거 (다른 서버에서 변경되어 DB 버전보다 오래된 항목을 다시 조회할 때 사용)
+     *
+     * @param deviceId 디바이스 고유 식별자
+     */
+    public void evict(String deviceId) {
+        cache.invalidate(deviceId);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 디바이스 항목 제거 (트랜잭션 밖이면 즉시 제거)
+     *
+     * @param deviceId 디바이스 고유 식별자
+     */
+    public void evictAfterCommit(String deviceId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(deviceId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(deviceId);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "sidemenu.favorites");
+    }
+
+    /**
+     * 디바이스 1개의 즐겨찾기 스냅샷 (불변)
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final List<SmFavoriteLocationResponseDto> locations;
+        private final Map<Coordinate, SmFavoriteLocationResponseDto> byCoordinate;
+
+        private Snapshot(long version, List<SmFavoriteLocationResponseDto> locations) {
+            this.version = version;
+            this.locations = List.copyOf(locations);
+            this.byCoordinate = new HashMap<>();
+            for (SmFavoriteLocationResponseDto location : this.locations) {
+                if (location.getLatitude() != null && location.getLongitude() != null) {
+                    byCoordinate.putIfAbsent(new Coordinate(location.getLatitude(), location.getLongitude()), location);
+                }
+            }
+        }
+
+        /**
+         * @param version 목록 버전 (목록보다 먼저 조회한 값 → 목록이 버전보다 오래된 경우는 없음)
+         * @param locations 정렬 순서대로의 즐겨찾기 목록
+         */
+        public static Snapshot of(long version, List<SmFavoriteLocationResponseDto> locations) {
+            return new Snapshot(version, locations);
+        }
+
+        /**
+         * 목록 버전 (ETag)
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * 정렬 순서대로의 즐겨찾기 목록
+         */
+        public List<SmFavoriteLocationResponseDto> getLocations() {
+            return locations;
+        }
+
+        /**
+         * 위도/경도가 정확히 일치하는 항목 (없으면 null)
+         */
+        public SmFavoriteLocationResponseDto find(Double latitude, Double longitude) {
+            if (latitude == null || longitude == null) {
+                return null;
+            }
+            return byCoordinate.get(new Coordinate(latitude, longitude));
+        }
+    }
+
+    // 좌표 맵 키 (기존 Double.equals 비교와 같은 의미)
+    private record Coordinate(double latitude, double longitude) {
+    }
+}
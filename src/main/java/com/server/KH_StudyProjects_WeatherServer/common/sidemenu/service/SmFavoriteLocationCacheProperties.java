@@ -0,0 +1,24 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사이드메뉴 즐겨찾기 목록 캐시 설정
+ *
+ * application.yml 의 sidemenu.favorite-cache 블록과 바인딩
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sidemenu.favorite-cache")
+public class SmFavoriteLocationCacheProperties {
+
+    private boolean enabled = true;                            // 캐시 사용 여부
+    private long maximumSize = 10000;                          // 최대 보관 디바이스 수
+    private Duration expireAfterAccess = Duration.ofMinutes(30); // 마지막 조회 후 보관 시간
+}
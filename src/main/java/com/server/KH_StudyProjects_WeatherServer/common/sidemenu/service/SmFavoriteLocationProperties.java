@@ -0,0 +1,24 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사이드메뉴 즐겨찾기 요청 제한 / 삭제 기록 보관 설정
+ *
+ * application.yml 의 sidemenu.favorite 블록과 바인딩
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sidemenu.favorite")
+public class SmFavoriteLocationProperties {
+
+    private int maxSortOrderItems = 200;                           // 정렬 순서 일괄 변경 요청 1건의 최대 항목 수 (MERGE 원본 SELECT 수 제한)
+    private Duration tombstoneRetention = Duration.ofDays(30);     // 삭제 기록 보관 기간 (이보다 오래된 버전 기준 변경분 조회는 전체 목록 응답)
+    private Duration tombstonePruneInterval = Duration.ofHours(1); // 삭제 기록 정리 주기
+}
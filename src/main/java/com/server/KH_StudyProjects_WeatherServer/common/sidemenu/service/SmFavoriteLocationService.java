@@ -1,14 +1,27 @@
 package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
 
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteGridDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationDeltaDto;
 import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationRequestDto;
 import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationSortOrderRequestDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteVersionDto;
 import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.mapper.SmFavoriteLocationMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 사이드메뉴 즐겨찾기 위치 서비스
@@ -23,6 +36,10 @@ import java.util.List;
  * - 중복 위치 체크
  * - 위도/경도 기반 위치 조회
  * 
+ * 즐겨찾기 목록은 디바이스 단위로 SmFavoriteLocationCache 에 보관하고, 변경 트랜잭션 커밋 후 해당 디바이스 항목을 제거
+ * 추가/삭제/정렬 변경 시 디바이스 목록 버전(COM_FAVORITE_VERSIONS)을 1 증가시켜 ETag 및 변경분 동기화에 사용
+ * 전체 즐겨찾기 좌표는 SmFavoriteSpatialIndex 에도 반영하여 근접 중복 검사/주변 조회/인기 격자 집계에 사용
+ * 
  * @author 김효동
  * @since 2025-08-27
  */
@@ -33,6 +50,10 @@ import java.util.List;
 public class SmFavoriteLocationService {
     
     private final SmFavoriteLocationMapper smFavoriteLocationMapper;
+    private final SmFavoriteLocationCache smFavoriteLocationCache;
+    private final SmFavoriteSpatialIndex smFavoriteSpatialIndex;
+    private final SmFavoriteSpatialIndexProperties smFavoriteSpatialIndexProperties;
+    private final SmFavoriteLocationProperties smFavoriteLocationProperties;
     
     /**
      * 사이드메뉴 즐겨찾기 위치 추가
@@ -40,9 +61,12 @@ public class SmFavoriteLocationService {
      * Android 앱에서 사이드메뉴 검색 결과를 클릭하여 즐겨찾기로 저장할 때 호출
      * 
      * 처리 과정:
-     * 1. 위도/경도 기반 중복 위치 체크
-     * 2. 중복이 아닌 경우 DB에 저장
-     * 3. 저장 성공 시 저장된 데이터를 조회하여 반환
+     * 1. INSERT 1회로 저장하고 SEQ_NO, SORT_ORDER 를 같은 구문에서 돌려받음 (useGeneratedKeys)
+     * 2. 중복 위치는 (DEVICE_ID, LATITUDE, LONGITUDE) 유니크 제약으로 DB 에서 거절
+     *    (조회 후 저장 방식의 동시 요청 중복 저장 방지)
+     * 
+     * 저장 전에 공간 색인으로 같은 디바이스의 기존 즐겨찾기가 duplicateRadius 안에 있는지 확인
+     * (좌표가 몇 m 만 다른 같은 장소의 중복 등록 방지, 정확히 같은 좌표는 유니크 제약으로 처리)
      * 
      * @param requestDto 즐겨찾기 추가 요청 데이터 (주소명, 위도, 경도, 지역정보, 디바이스ID)
      * @return SmFavoriteLocationResponseDto 저장된 즐겨찾기 위치 정보
@@ -51,18 +75,35 @@ public class SmFavoriteLocationService {
     public SmFavoriteLocationResponseDto addSmFavoriteLocation(SmFavoriteLocationRequestDto requestDto) {
         log.info("사이드메뉴 즐겨찾기 위치 추가 요청: {}", requestDto);
         
-        // 1단계: 중복 체크 (동일한 위도/경도 + 디바이스ID 조합이 이미 존재하는지)
-        if (smFavoriteLocationMapper.existsByLatitudeAndLongitude(
-                requestDto.getLatitude(), requestDto.getLongitude(), requestDto.getDeviceId())) {
+        SmFavoriteLocationResponseDto location = SmFavoriteLocationResponseDto.builder()
+                .deviceId(requestDto.getDeviceId())
+                .latitude(requestDto.getLatitude())
+                .longitude(requestDto.getLongitude())
+                .addressName(requestDto.getAddressName())
+                .region1DepthName(requestDto.getRegion1DepthName())
+                .region2DepthName(requestDto.getRegion2DepthName())
+                .region3DepthName(requestDto.getRegion3DepthName())
+                .region3DepthHName(requestDto.getRegion3DepthHName())
+                .createdAt(LocalDateTime.now())
+                .build();
+        
+        // 0단계: 근접 중복 검사 (색인 구성 전이면 생략)
+        rejectNearDuplicate(requestDto);
+        
+        // 1단계: DB에 저장 (SEQ_NO, SORT_ORDER 는 location 에 채워짐)
+        int result;
+        try {
+            location.setRowVersion(nextVersion(requestDto.getDeviceId()));
+            result = smFavoriteLocationMapper.insertFavoriteLocation(location);
+        } catch (DuplicateKeyException e) {
+            // 2단계: 유니크 제약 위반 = 이미 등록된 위치
             throw new RuntimeException("이미 즐겨찾기에 등록된 지역입니다.");
         }
-        
-        // 2단계: DB에 저장
-        int result = smFavoriteLocationMapper.insertFavoriteLocation(requestDto);
         if (result > 0) {
-            log.info("사이드메뉴 즐겨찾기 위치 저장 완료");
-            // 3단계: 저장된 데이터 조회하여 반환 (SEQ_NO 포함된 완전한 정보)
-            return getSmFavoriteLocationByCoordinates(requestDto.getLatitude(), requestDto.getLongitude(), requestDto.getDeviceId());
+            log.info("사이드메뉴 즐겨찾기 위치 저장 완료: seqNo={}", location.getSeqNo());
+            smFavoriteLocationCache.evictAfterCommit(requestDto.getDeviceId());
+            smFavoriteSpatialIndex.addAfterCommit(location);
+            return location;
         } else {
             throw new RuntimeException("즐겨찾기 저장에 실패했습니다.");
         }
@@ -77,6 +118,9 @@ public class SmFavoriteLocationService {
      * 1. SORT_ORDER ASC (사용자가 지정한 순서)
      * 2. CREATED_AT DESC (생성 시간 역순, SORT_ORDER가 NULL인 경우)
      * 
+     * 목록 버전은 DB 에서 확인하고 (PK 조회 1회), 디바이스별 캐시가 그 버전 이상이면 목록은 DB 조회 없이 반환
+     * (다른 서버에서 변경되어 캐시가 오래되었으면 다시 조회, 반환 목록은 수정 불가)
+     * 
      * @param deviceId 디바이스 고유 식별자
      * @return List<SmFavoriteLocationResponseDto> 해당 디바이스의 즐겨찾기 위치 목록
      */
@@ -84,7 +128,91 @@ public class SmFavoriteLocationService {
     public List<SmFavoriteLocationResponseDto> getSmFavoriteLocations(String deviceId) {
         log.info("사용자 사이드메뉴 즐겨찾기 목록 조회: deviceId={}", deviceId);
 
-        return smFavoriteLocationMapper.selectFavoriteLocationsByUserId(deviceId);
+        return currentSnapshot(deviceId).getLocations();
+    }
+    
+    /**
+     * 사용자의 사이드메뉴 즐겨찾기 목록 버전 조회
+     * 
+     * 목록 조회 API 에서 ETag(목록 버전) 비교에 사용
+     * 캐시는 서버별로 보관되어 다른 서버의 변경을 모르므로, 버전은 항상 DB 에서 조회 (PK 조회 1회)
+     * 
+     * @param deviceId 디바이스 고유 식별자
+     * @return long 현재 목록 버전 (변경 이력이 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public long getSmFavoriteLocationVersion(String deviceId) {
+        return smFavoriteLocationMapper.selectFavoriteVersion(deviceId);
+    }
+    
+    /**
+     * 사용자의 사이드메뉴 즐겨찾기 목록 + 목록 버전 조회
+     * 
+     * 캐시의 목록이 주어진 버전보다 오래되었으면 (다른 서버에서 변경) 캐시 항목을 제거하고 다시 조회
+     * 
+     * @param deviceId 디바이스 고유 식별자
+     * @param version 직전에 조회한 DB 목록 버전
+     * @return SmFavoriteLocationCache.Snapshot 목록 버전 + 즐겨찾기 목록
+     */
+    @Transactional(readOnly = true)
+    public SmFavoriteLocationCache.Snapshot getSmFavoriteLocationSnapshot(String deviceId, long version) {
+        log.info("사용자 사이드메뉴 즐겨찾기 목록(버전) 조회: deviceId={}, version={}", deviceId, version);
+        
+        return snapshot(deviceId, version);
+    }
+    
+    /**
+     * 사용자의 사이드메뉴 즐겨찾기 변경분 조회
+     * 
+     * 클라이언트가 가진 목록 버전(since) 이후 추가/변경/삭제된 항목만 반환
+     * 
+     * 처리 과정:
+     * 1. 현재 목록 버전 확인 (DB) - since 와 같으면 빈 변경분 반환
+     * 2. since 가 현재 버전보다 크거나 음수이면 (다른 서버 DB 등) 전체 목록 반환
+     * 3. since 이후의 삭제 기록이 보관 기간이 지나 정리되었으면 전체 목록 반환
+     * 4. ROW_VERSION > since 인 행과 VERSION > since 인 삭제 기록 조회
+     * 
+     * @param deviceId 디바이스 고유 식별자
+     * @param since 클라이언트가 마지막으로 받은 목록 버전
+     * @return SmFavoriteLocationDeltaDto 변경분
+     */
+    @Transactional(readOnly = true)
+    public SmFavoriteLocationDeltaDto getSmFavoriteLocationChanges(String deviceId, long since) {
+        log.info("사용자 사이드메뉴 즐겨찾기 변경분 조회: deviceId={}, since={}", deviceId, since);
+        
+        long version = smFavoriteLocationMapper.selectFavoriteVersion(deviceId);
+        SmFavoriteLocationDeltaDto.SmFavoriteLocationDeltaDtoBuilder delta = SmFavoriteLocationDeltaDto.builder()
+                .since(since)
+                .version(version);
+        if (since == version) {
+            return delta.full(false).upserted(List.of()).deleted(List.of()).build();
+        }
+        if (since < 0 || since > version || since < smFavoriteLocationMapper.selectFavoriteTombstonePrunedVersion(deviceId)) {
+            SmFavoriteLocationCache.Snapshot current = snapshot(deviceId, version);
+            return delta.version(current.getVersion()).full(true).upserted(current.getLocations()).deleted(List.of()).build();
+        }
+        return delta.full(false)
+                .upserted(smFavoriteLocationMapper.selectFavoriteLocationsChangedSince(deviceId, since))
+                .deleted(smFavoriteLocationMapper.selectFavoriteTombstonesSince(deviceId, since))
+                .build();
+    }
+    
+    /**
+     * 보관 기간이 지난 즐겨찾기 삭제 기록 정리
+     * 
+     * 정리 전에 디바이스별로 정리되는 삭제 기록의 최대 버전을 기록하여,
+     * 그보다 오래된 버전 기준 변경분 조회는 삭제 항목을 빠뜨리지 않도록 전체 목록으로 응답
+     * (여러 서버에서 동시에 실행되어도 같은 결과)
+     */
+    @Scheduled(initialDelayString = "${sidemenu.favorite.tombstone-prune-interval:1h}",
+               fixedDelayString = "${sidemenu.favorite.tombstone-prune-interval:1h}")
+    public void pruneFavoriteTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(smFavoriteLocationProperties.getTombstoneRetention());
+        smFavoriteLocationMapper.markFavoriteTombstonesPruned(cutoff);
+        int pruned = smFavoriteLocationMapper.deleteFavoriteTombstonesBefore(cutoff);
+        if (pruned > 0) {
+            log.info("즐겨찾기 삭제 기록 정리: cutoff={}, pruned={}", cutoff, pruned);
+        }
     }
     
     /**
@@ -96,6 +224,9 @@ public class SmFavoriteLocationService {
      * 1. 디바이스ID 기반 권한 체크 (본인의 즐겨찾기만 삭제 가능)
      * 2. 위도/경도로 정확한 위치 식별 후 삭제
      * 
+     * 삭제 대상과 지역명은 서버별 캐시가 아닌 DB 행 기준으로 확인하고, 삭제 성공 여부는 DELETE 행 수로 판단
+     * (다른 서버에서 먼저 삭제되었으면 예외 → 트랜잭션 롤백으로 삭제 기록/버전 증가도 취소)
+     * 
      * @param latitude 삭제할 위치의 위도
      * @param longitude 삭제할 위치의 경도
      * @param deviceId 삭제 요청한 디바이스의 ID
@@ -105,18 +236,21 @@ public class SmFavoriteLocationService {
     public String deleteSmFavoriteLocation(Double latitude, Double longitude, String deviceId) {
         log.info("사이드메뉴 즐겨찾기 위치 삭제: lat={}, lng={}, deviceId={}", latitude, longitude, deviceId);
         
-        // 1단계: 삭제 전에 지역명 조회
-        SmFavoriteLocationResponseDto locationToDelete = getSmFavoriteLocationByCoordinates(latitude, longitude, deviceId);
+        // 1단계: 삭제 전에 지역명 조회 (DB 행)
+        SmFavoriteLocationResponseDto locationToDelete = smFavoriteLocationMapper.selectFavoriteLocationByCoordinates(deviceId, latitude, longitude);
         if (locationToDelete == null) {
             throw new RuntimeException("삭제할 즐겨찾기 위치를 찾을 수 없습니다.");
         }
         
         String addressName = locationToDelete.getAddressName();
         
-        // 2단계: 실제 삭제 수행 (디바이스ID + 위도/경도로 정확한 위치 식별)
+        // 2단계: 삭제 기록 저장 후 실제 삭제 수행 (디바이스ID + 위도/경도로 정확한 위치 식별)
+        smFavoriteLocationMapper.insertFavoriteTombstone(deviceId, latitude, longitude, nextVersion(deviceId));
         int result = smFavoriteLocationMapper.deleteFavoriteLocation(deviceId, latitude, longitude);
         if (result > 0) {
             log.info("사이드메뉴 즐겨찾기 위치 삭제 완료: lat={}, lng={}, addressName={}", latitude, longitude, addressName);
+            smFavoriteLocationCache.evictAfterCommit(deviceId);
+            smFavoriteSpatialIndex.removeAfterCommit(deviceId, latitude, longitude);
             return addressName;
         } else {
             throw new RuntimeException("즐겨찾기 삭제에 실패했습니다.");
@@ -134,6 +268,8 @@ public class SmFavoriteLocationService {
      * - 동일한 위도 + 동일한 경도 + 동일한 디바이스ID
      * - 정확한 위치 중복 방지 (약간의 오차도 허용하지 않음)
      * 
+     * DB 목록 버전으로 검증한 스냅샷에서 확인 (다른 서버에서 추가/삭제된 항목도 반영)
+     * 
      * @param latitude 위도 (Double)
      * @param longitude 경도 (Double)
      * @param deviceId 디바이스 고유 식별자
@@ -143,7 +279,7 @@ public class SmFavoriteLocationService {
     public boolean checkDuplicateLocation(Double latitude, Double longitude, String deviceId) {
         log.info("중복 위치 체크: lat={}, lng={}, deviceId={}", latitude, longitude, deviceId);
         
-        return smFavoriteLocationMapper.existsByLatitudeAndLongitude(latitude, longitude, deviceId);
+        return getSmFavoriteLocationByCoordinates(latitude, longitude, deviceId) != null;
     }
     
     /**
@@ -166,37 +302,186 @@ public class SmFavoriteLocationService {
                 latitude, longitude, deviceId, sortOrder);
         
         // 1단계: 실제 정렬 순서 변경 (디바이스ID + 위도/경도로 정확한 위치 식별)
-        int result = smFavoriteLocationMapper.updateFavoriteLocationSortOrder(deviceId, latitude, longitude, sortOrder);
+        int result = smFavoriteLocationMapper.updateFavoriteLocationSortOrder(deviceId, latitude, longitude, sortOrder, nextVersion(deviceId));
         if (result > 0) {
             log.info("사이드메뉴 즐겨찾기 위치 정렬 순서 변경 완료: lat={}, lng={}, sortOrder={}", 
                     latitude, longitude, sortOrder);
+            smFavoriteLocationCache.evictAfterCommit(deviceId);
         } else {
             throw new RuntimeException("즐겨찾기 정렬 순서 변경에 실패했습니다.");
         }
     }
     
+    /**
+     * 사이드메뉴 즐겨찾기 정렬 순서 일괄 변경
+     * 
+     * Android 앱에서 드래그앤드롭이 끝난 뒤 변경된 전체 순서를 한 번에 저장할 때 호출
+     * 항목마다 요청/트랜잭션을 나누지 않고 MERGE 한 번으로 전체 순서를 반영
+     * 
+     * 처리 과정:
+     * 1. 요청 목록 검증 (비어 있거나, maxSortOrderItems 를 넘거나, 중복된 SEQ_NO 가 있으면 거절)
+     * 2. MERGE 로 목록 순서대로 SORT_ORDER 1, 2, 3 ... 부여 (본인 디바이스 항목만 반영)
+     * 3. 반영된 행 수와 현재 즐겨찾기 수가 모두 요청 목록 크기와 같은지 확인
+     *    (다른 기기에서 추가/삭제되어 목록이 달라졌으면 예외 → 트랜잭션 롤백)
+     * 
+     * @param requestDto 디바이스ID + 새 순서대로의 SEQ_NO 전체 목록
+     * @throws RuntimeException 요청 목록이 올바르지 않거나 현재 즐겨찾기 목록과 다른 경우
+     */
+    public void updateSmFavoriteLocationSortOrders(SmFavoriteLocationSortOrderRequestDto requestDto) {
+        String deviceId = requestDto.getDeviceId();
+        List<Long> seqNos = requestDto.getSeqNos();
+        log.info("사이드메뉴 즐겨찾기 정렬 순서 일괄 변경: deviceId={}, seqNos={}", deviceId, seqNos);
+        
+        // 1단계: 요청 목록 검증
+        if (seqNos == null || seqNos.isEmpty() || seqNos.stream().anyMatch(Objects::isNull)) {
+            throw new RuntimeException("변경할 즐겨찾기 순서가 없습니다.");
+        }
+        if (seqNos.size() > smFavoriteLocationProperties.getMaxSortOrderItems()) {
+            throw new RuntimeException("즐겨찾기 순서는 한 번에 최대 " + smFavoriteLocationProperties.getMaxSortOrderItems() + "개까지 변경할 수 있습니다.");
+        }
+        if (new HashSet<>(seqNos).size() != seqNos.size()) {
+            throw new RuntimeException("즐겨찾기 순서에 중복된 항목이 있습니다.");
+        }
+        
+        // 2단계: 전체 순서 일괄 반영
+        int merged = smFavoriteLocationMapper.mergeFavoriteLocationSortOrders(deviceId, seqNos, nextVersion(deviceId));
+        
+        // 3단계: 오래된 목록 기준 요청 거절 (누락/삭제/타 디바이스 항목 포함)
+        int total = smFavoriteLocationMapper.countFavoriteLocationsByDeviceId(deviceId);
+        if (merged != seqNos.size() || total != seqNos.size()) {
+            log.warn("즐겨찾기 정렬 순서 일괄 변경 거절: deviceId={}, requested={}, merged={}, total={}", 
+                    deviceId, seqNos.size(), merged, total);
+            throw new RuntimeException("즐겨찾기 목록이 변경되었습니다. 목록을 새로고침한 뒤 다시 시도해주세요.");
+        }
+        
+        log.info("사이드메뉴 즐겨찾기 정렬 순서 일괄 변경 완료: deviceId={}, count={}", deviceId, merged);
+        smFavoriteLocationCache.evictAfterCommit(deviceId);
+    }
+    
+    /**
+     * 주변 즐겨찾기 조회
+     * 
+     * 현재 위치에서 반경 안에 있는 본인 즐겨찾기를 가까운 순으로 반환
+     * 공간 색인으로 반경 안의 항목을 찾고, 항목 정보는 DB 목록 버전으로 검증한 디바이스 스냅샷(캐시)에서 가져옴
+     * (목록 버전 PK 조회 외에 DB 전체 조회 없음, 색인 구성 전이면 디바이스 스냅샷 전체에서 거리 계산)
+     * 
+     * @param deviceId 디바이스 고유 식별자
+     * @param latitude 현재 위치 위도
+     * @param longitude 현재 위치 경도
+     * @param radius 반경(m), null 이면 nearbyRadius
+     * @return List<SmFavoriteLocationResponseDto> 반경 안의 즐겨찾기 (가까운 순)
+     * @throws RuntimeException 반경이 0 이하이거나 maxRadius 를 넘는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<SmFavoriteLocationResponseDto> getNearbySmFavoriteLocations(String deviceId, Double latitude, Double longitude, Double radius) {
+        log.info("주변 즐겨찾기 조회: deviceId={}, lat={}, lng={}, radius={}", deviceId, latitude, longitude, radius);
+        
+        double radiusMeters = radius == null ? smFavoriteSpatialIndexProperties.getNearbyRadius() : radius;
+        if (radiusMeters <= 0 || radiusMeters > smFavoriteSpatialIndexProperties.getMaxRadius()) {
+            throw new RuntimeException("조회 반경은 0보다 크고 " + (long) smFavoriteSpatialIndexProperties.getMaxRadius() + "m 이하여야 합니다.");
+        }
+        
+        List<SmFavoriteLocationResponseDto> locations = currentSnapshot(deviceId).getLocations();
+        if (!smFavoriteSpatialIndex.isReady()) {
+            return locations.stream()
+                    .filter(location -> distance(location, latitude, longitude) <= radiusMeters)
+                    .sorted(Comparator.comparingDouble(location -> distance(location, latitude, longitude)))
+                    .toList();
+        }
+        Map<Long, SmFavoriteLocationResponseDto> bySeqNo = locations.stream()
+                .collect(Collectors.toMap(SmFavoriteLocationResponseDto::getSeqNo, Function.identity(), (first, second) -> first));
+        return smFavoriteSpatialIndex.findWithin(deviceId, latitude, longitude, radiusMeters).stream()
+                .map(match -> bySeqNo.get(match.seqNo()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+    
+    /**
+     * 인기 격자 조회
+     * 
+     * 즐겨찾기한 디바이스 수가 많은 격자(격자 중심 좌표) 순으로 반환
+     * 공간 색인에서 집계하며, 색인 구성 전이면 DB 집계 결과 사용
+     * 
+     * @param limit 최대 건수 (maxPopularLimit 이하)
+     * @return List<SmFavoriteGridDto> 격자 중심 좌표 + 디바이스 수
+     */
+    @Transactional(readOnly = true)
+    public List<SmFavoriteGridDto> getPopularFavoriteCells(int limit) {
+        log.info("인기 즐겨찾기 격자 조회: limit={}", limit);
+        
+        int size = Math.max(1, Math.min(limit, smFavoriteSpatialIndexProperties.getMaxPopularLimit()));
+        if (smFavoriteSpatialIndex.isReady()) {
+            return smFavoriteSpatialIndex.popularCells(size);
+        }
+        return smFavoriteLocationMapper.selectFavoriteGridCoordinates(smFavoriteSpatialIndexProperties.getCellSize()).stream()
+                .limit(size)
+                .toList();
+    }
+    
     /**
      * 위도/경도로 사이드메뉴 즐겨찾기 위치 조회 (내부 메서드)
      * 
-     * 즐겨찾기 추가 후 저장된 데이터를 조회하여 반환할 때 사용
+     * 중복 위치 체크에 사용
      * 
      * 동작 방식:
-     * 1. 해당 디바이스의 모든 즐겨찾기 목록 조회
-     * 2. Stream API를 사용하여 위도/경도가 일치하는 항목 필터링
-     * 3. 첫 번째 일치 항목 반환 (없으면 null)
+     * 1. DB 목록 버전으로 검증한 디바이스 즐겨찾기 스냅샷 조회 (캐시에 없거나 오래되었으면 DB 조회)
+     * 2. 스냅샷의 위도/경도 맵에서 일치 항목 반환 (없으면 null)
      * 
      * @param latitude 위도 (Double)
      * @param longitude 경도 (Double)
      * @param deviceId 디바이스 고유 식별자
      * @return SmFavoriteLocationResponseDto 일치하는 위치 정보 또는 null
      */
-    @Transactional(readOnly = true)
     private SmFavoriteLocationResponseDto getSmFavoriteLocationByCoordinates(Double latitude, Double longitude, String deviceId) {
-        // 위도/경도로 해당 위치 조회
-        List<SmFavoriteLocationResponseDto> locations = smFavoriteLocationMapper.selectFavoriteLocationsByUserId(deviceId);
-        return locations.stream()
-                .filter(loc -> loc.getLatitude().equals(latitude) && loc.getLongitude().equals(longitude))
+        return currentSnapshot(deviceId).find(latitude, longitude);
+    }
+
+    // 현재 DB 목록 버전으로 검증한 스냅샷 (캐시는 서버별이라 다른 서버의 변경을 모름)
+    private SmFavoriteLocationCache.Snapshot currentSnapshot(String deviceId) {
+        return snapshot(deviceId, smFavoriteLocationMapper.selectFavoriteVersion(deviceId));
+    }
+
+    // 디바이스 즐겨찾기 스냅샷 (read-through, 버전을 목록보다 먼저 조회하여 목록이 버전보다 오래되지 않도록 함)
+    private SmFavoriteLocationCache.Snapshot snapshot(String deviceId) {
+        return smFavoriteLocationCache.get(deviceId, key -> {
+            long version = smFavoriteLocationMapper.selectFavoriteVersion(key);
+            return SmFavoriteLocationCache.Snapshot.of(version, smFavoriteLocationMapper.selectFavoriteLocationsByUserId(key));
+        });
+    }
+
+    // DB 목록 버전(version) 이상인 스냅샷 (캐시 항목이 더 오래되었으면 제거 후 다시 조회)
+    private SmFavoriteLocationCache.Snapshot snapshot(String deviceId, long version) {
+        SmFavoriteLocationCache.Snapshot snapshot = snapshot(deviceId);
+        if (snapshot.getVersion() < version) {
+            smFavoriteLocationCache.evict(deviceId);
+            snapshot = snapshot(deviceId);
+        }
+        return snapshot;
+    }
+
+    // 같은 디바이스의 기존 즐겨찾기가 duplicateRadius 안에 있으면 거절 (정확히 같은 좌표는 유니크 제약에서 처리)
+    private void rejectNearDuplicate(SmFavoriteLocationRequestDto requestDto) {
+        double radius = smFavoriteSpatialIndexProperties.getDuplicateRadius();
+        if (radius <= 0 || requestDto.getLatitude() == null || requestDto.getLongitude() == null) {
+            return;
+        }
+        smFavoriteSpatialIndex.findWithin(requestDto.getDeviceId(), requestDto.getLatitude(), requestDto.getLongitude(), radius).stream()
+                .filter(match -> match.distanceMeters() > 0)
                 .findFirst()
-                .orElse(null);
+                .ifPresent(match -> {
+                    throw new RuntimeException("이미 즐겨찾기에 등록된 지역과 가까운 위치입니다. (약 " + Math.round(match.distanceMeters()) + "m)");
+                });
+    }
+
+    // 즐겨찾기와 좌표 사이 거리(m)
+    private static double distance(SmFavoriteLocationResponseDto location, double latitude, double longitude) {
+        return SmFavoriteCellGrid.distanceMeters(location.getLatitude(), location.getLongitude(), latitude, longitude);
+    }
+
+    // 디바이스 목록 버전 1 증가 (커밋 전까지 같은 디바이스의 다른 변경은 대기)
+    private long nextVersion(String deviceId) {
+        SmFavoriteVersionDto versionDto = SmFavoriteVersionDto.builder().deviceId(deviceId).build();
+        smFavoriteLocationMapper.bumpFavoriteVersion(versionDto);
+        return versionDto.getVersion();
     }
 }
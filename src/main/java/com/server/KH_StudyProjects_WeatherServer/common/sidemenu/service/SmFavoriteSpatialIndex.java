@@ -0,0 +1,158 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteGridDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.mapper.SmFavoriteLocationMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 전체 즐겨찾기 좌표 공간 색인
+ *
+ * 모든 디바이스의 즐겨찾기 좌표를 SmFavoriteCellGrid 로 보관하여
+ * 근접 중복 검사, 주변 즐겨찾기 조회, 인기 격자 집계를 DB 조회 없이 처리
+ *
+ * 동기화:
+ * - 서버 기동 완료 시 DB 에서 전체 좌표를 읽어 구성, 이후 rebuildInterval 마다 다시 구성 (다른 서버 인스턴스의 변경 반영)
+ * - 추가/삭제 트랜잭션이 커밋된 뒤 해당 좌표를 색인에 반영 (롤백된 변경은 반영되지 않음)
+ *   재구성 중의 추가/삭제는 기록해 두었다가 새 색인으로 교체하기 전에 다시 적용 (DB 조회 시점 이후 변경 유실 방지)
+ * - 구성 전(또는 구성 실패 시)에는 isReady() == false → 호출 측에서 기존 방식으로 처리
+ *
+ * @since 2026-10-18
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SmFavoriteSpatialIndex {
+
+    private final SmFavoriteSpatialIndexProperties properties;
+    private final SmFavoriteLocationMapper smFavoriteLocationMapper;
+    private final Object mutationLock = new Object();
+    private volatile SmFavoriteCellGrid grid;
+    private List<Consumer<SmFavoriteCellGrid>> pendingMutations; // 재구성 중 반영된 추가/삭제 (재구성 중이 아니면 null, mutationLock 안에서만 접근)
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * DB 전체 좌표로 색인 재구성 (구성 중에도 기존 색인으로 조회, 완료 후 교체)
+     */
+    @Scheduled(initialDelayString = "${sidemenu.spatial-index.rebuild-interval:10m}",
+               fixedDelayString = "${sidemenu.spatial-index.rebuild-interval:10m}")
+    public synchronized void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        synchronized (mutationLock) {
+            pendingMutations = new ArrayList<>();
+        }
+        try {
+            long start = System.currentTimeMillis();
+            SmFavoriteCellGrid rebuilt = new SmFavoriteCellGrid(properties.getCellSize());
+            for (SmFavoriteLocationResponseDto location : smFavoriteLocationMapper.selectAllFavoriteCoordinates()) {
+                rebuilt.add(location.getSeqNo(), location.getDeviceId(), location.getLatitude(), location.getLongitude());
+            }
+            // 조회 중에 커밋되어 기존 색인에만 반영된 추가/삭제를 새 색인에 다시 적용한 뒤 교체 (같은 좌표 추가/없는 좌표 삭제는 영향 없음)
+            int replayed;
+            synchronized (mutationLock) {
+                replayed = pendingMutations.size();
+                pendingMutations.forEach(mutation -> mutation.accept(rebuilt));
+                grid = rebuilt;
+            }
+            log.info("즐겨찾기 공간 색인 구성 완료: locations={}, replayed={}, elapsed={}ms",
+                    rebuilt.size(), replayed, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 공간 색인 구성 실패: {}", e.getMessage());
+        } finally {
+            synchronized (mutationLock) {
+                pendingMutations = null;
+            }
+        }
+    }
+
+    /**
+     * 색인 사용 가능 여부
+     */
+    public boolean isReady() {
+        return properties.isEnabled() && grid != null;
+    }
+
+    /**
+     * 반경 안의 즐겨찾기 (가까운 순, 색인 구성 전이면 빈 목록)
+     *
+     * @param deviceId 디바이스 식별자 (null 이면 전체 디바이스)
+     */
+    public List<SmFavoriteCellGrid.Match> findWithin(String deviceId, double latitude, double longitude, double radiusMeters) {
+        SmFavoriteCellGrid current = grid;
+        return current == null ? List.of() : current.findWithin(deviceId, latitude, longitude, radiusMeters);
+    }
+
+    /**
+     * 즐겨찾기 디바이스 수가 많은 격자 (색인 구성 전이면 빈 목록)
+     */
+    public List<SmFavoriteGridDto> popularCells(int limit) {
+        SmFavoriteCellGrid current = grid;
+        return current == null ? List.of() : current.popularCells(limit);
+    }
+
+    /**
+     * 지정 격자 크기로 묶은 격자별 디바이스 수 (색인 구성 전이면 빈 목록)
+     */
+    public List<SmFavoriteGridDto> gridCells(double resolution) {
+        SmFavoriteCellGrid current = grid;
+        return current == null ? List.of() : current.gridCells(resolution);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 즐겨찾기 추가 반영
+     */
+    public void addAfterCommit(SmFavoriteLocationResponseDto location) {
+        afterCommit(() -> mutate(current -> current.add(location.getSeqNo(), location.getDeviceId(), location.getLatitude(), location.getLongitude())));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 즐겨찾기 삭제 반영
+     */
+    public void removeAfterCommit(String deviceId, double latitude, double longitude) {
+        afterCommit(() -> mutate(current -> current.remove(deviceId, latitude, longitude)));
+    }
+
+    // 현재 색인에 반영하고, 재구성 중이면 새 색인에 다시 적용하도록 기록
+    private void mutate(Consumer<SmFavoriteCellGrid> mutation) {
+        synchronized (mutationLock) {
+            SmFavoriteCellGrid current = grid;
+            if (current != null) {
+                mutation.accept(current);
+            }
+            if (pendingMutations != null) {
+                pendingMutations.add(mutation);
+            }
+        }
+    }
+
+    // 트랜잭션 밖이면 즉시 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 즐겨찾기 좌표 격자 색인 설정
+ *
+ * application.yml 의 sidemenu.spatial-index 블록과 바인딩
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sidemenu.spatial-index")
+public class SmFavoriteSpatialIndexProperties {
+
+    private boolean enabled = true;                           // 색인 사용 여부 (false 면 근접 중복 검사 생략, 조회는 DB/캐시 사용)
+    private double cellSize = 0.02;                           // 격자 크기(도) - 날씨 캐시 격자와 같게 두면 격자 = 업스트림 호출 단위
+    private double duplicateRadius = 50;                      // 같은 디바이스의 기존 즐겨찾기와 이 거리(m) 안이면 추가 거절 (0 이면 사용 안 함)
+    private double nearbyRadius = 1000;                       // 주변 즐겨찾기 조회 기본 반경(m)
+    private double maxRadius = 20000;                         // 주변 즐겨찾기 조회 최대 반경(m)
+    private int maxPopularLimit = 100;                        // 인기 격자 조회 최대 건수
+    private Duration rebuildInterval = Duration.ofMinutes(10); // DB 기준 전체 재구성 주기 (다른 서버 인스턴스의 변경 반영)
+}
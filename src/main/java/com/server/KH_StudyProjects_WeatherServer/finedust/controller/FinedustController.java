@@ -0,0 +1,42 @@
+package com.server.KH_StudyProjects_WeatherServer.finedust.controller;
+
+import com.server.KH_StudyProjects_WeatherServer.common.util.ApiResponse;
+import com.server.KH_StudyProjects_WeatherServer.finedust.dto.FinedustSummaryDto;
+import com.server.KH_StudyProjects_WeatherServer.finedust.service.FinedustService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 대기질(미세먼지) REST API 컨트롤러
+ *
+ * API 경로: /api/finedust
+ *
+ * 주요 기능:
+ * - GET /summary: 현재 등급 + 일별 최고/평균/최악 구간 요약 (시간별 원본 배열은 /api/airPollution)
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/finedust")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class FinedustController {
+
+    private final FinedustService finedustService;
+
+    /**
+     * 대기질 요약 조회
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<FinedustSummaryDto>> getFinedustSummary(
+            @RequestParam Double latitude,
+            @RequestParam Double longitude) {
+        log.info("대기질 요약 조회 요청: lat={}, lng={}", latitude, longitude);
+
+        FinedustSummaryDto summary = finedustService.getFinedustSummary(latitude, longitude);
+        return ResponseEntity.ok(ApiResponse.success("대기질 요약을 성공적으로 조회했습니다", summary));
+    }
+}
@@ -0,0 +1,32 @@
+package com.server.KH_StudyProjects_WeatherServer.finedust.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 대기질 요약 DTO
+ *
+ * 현지 날짜 하루 동안의 항목별 최고/평균 농도와 가장 나쁜 등급이 이어진 시간대
+ * (같은 최악 등급 구간이 여러 번이면 가장 긴 구간, 길이가 같으면 먼저 시작한 구간)
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinedustDailyDto {
+
+    private String date;            // 현지 날짜 (yyyy-MM-dd)
+    private Double pm10Max;         // 미세먼지 최고 (㎍/㎥)
+    private Double pm10Mean;        // 미세먼지 평균 (㎍/㎥)
+    private Double pm25Max;         // 초미세먼지 최고 (㎍/㎥)
+    private Double pm25Mean;        // 초미세먼지 평균 (㎍/㎥)
+    private Double ozoneMax;        // 오존 최고 (㎍/㎥)
+    private Double ozoneMean;       // 오존 평균 (㎍/㎥)
+    private FinedustGrade grade;    // 하루 중 가장 나쁜 시간별 통합 등급
+    private String worstFrom;       // 최악 등급 구간 시작 (현지 시각, yyyy-MM-ddTHH:mm)
+    private String worstTo;         // 최악 등급 구간 끝 (마지막 시간 + 1시간, 미포함)
+}
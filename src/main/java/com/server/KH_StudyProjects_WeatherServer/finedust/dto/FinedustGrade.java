@@ -0,0 +1,75 @@
+package com.server.KH_StudyProjects_WeatherServer.finedust.dto;
+
+/**
+ * 대기질 등급 (환경부 통합대기환경지수 4단계 기준)
+ *
+ * 항목별 1시간 농도 기준:
+ * - 미세먼지(PM10, ㎍/㎥): 좋음 0~30 / 보통 31~80 / 나쁨 81~150 / 매우나쁨 151~
+ * - 초미세먼지(PM2.5, ㎍/㎥): 좋음 0~15 / 보통 16~35 / 나쁨 36~75 / 매우나쁨 76~
+ * - 오존(O3, ppm): 좋음 0~0.030 / 보통 0.031~0.090 / 나쁨 0.091~0.150 / 매우나쁨 0.151~
+ *
+ * Open-Meteo 는 오존을 ㎍/㎥ 로 주므로 25℃, 1기압 기준(1 ppm = 1963 ㎍/㎥)으로 환산 후 판정
+ * 선언 순서가 곧 심각도 순서 (compareTo 로 더 나쁜 등급 비교)
+ *
+ * @since 2026-10-18
+ */
+public enum FinedustGrade {
+
+    GOOD("좋음"),
+    MODERATE("보통"),
+    BAD("나쁨"),
+    VERY_BAD("매우나쁨");
+
+    private static final double OZONE_UG_PER_PPM = 1963.0; // O3 분자량 48 / 몰부피 24.45L × 1000
+
+    private final String label;
+
+    FinedustGrade(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 미세먼지(PM10) 등급 (값이 없으면 null)
+     */
+    public static FinedustGrade ofPm10(float value) {
+        return Float.isNaN(value) ? null : of(Math.round(value), 30, 80, 150);
+    }
+
+    /**
+     * 초미세먼지(PM2.5) 등급 (값이 없으면 null)
+     */
+    public static FinedustGrade ofPm25(float value) {
+        return Float.isNaN(value) ? null : of(Math.round(value), 15, 35, 75);
+    }
+
+    /**
+     * 오존 등급 (㎍/㎥ 값을 ppm 소수 셋째 자리로 환산, 값이 없으면 null)
+     */
+    public static FinedustGrade ofOzone(float value) {
+        return Float.isNaN(value) ? null : of(Math.round(value / OZONE_UG_PER_PPM * 1000), 30, 90, 150);
+    }
+
+    /**
+     * 두 등급 중 더 나쁜 등급 (null 은 무시)
+     */
+    public static FinedustGrade worse(FinedustGrade a, FinedustGrade b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static FinedustGrade of(long value, long good, long moderate, long bad) {
+        if (value <= good) {
+            return GOOD;
+        }
+        if (value <= moderate) {
+            return MODERATE;
+        }
+        return value <= bad ? BAD : VERY_BAD;
+    }
+}
@@ -0,0 +1,36 @@
+package com.server.KH_StudyProjects_WeatherServer.finedust.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대기질 요약 응답 DTO
+ *
+ * /api/airPollution 의 시간별 원본 배열 대신 현재 등급과 일별 집계만 전달
+ * 현재 값은 조회 시각이 속한 시간의 hourly 값 (해당 시간이 없으면 current* 는 null)
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinedustSummaryDto {
+
+    private Double latitude;             // 실제 조회된 격자 위도
+    private Double longitude;            // 실제 조회된 격자 경도
+    private String timezone;             // 현지 timezone (예: Asia/Seoul)
+    private String currentTime;          // 현재 값의 기준 시각 (현지 시각, yyyy-MM-ddTHH:mm)
+    private Double currentPm10;          // 현재 미세먼지 (㎍/㎥)
+    private Double currentPm25;          // 현재 초미세먼지 (㎍/㎥)
+    private Double currentOzone;         // 현재 오존 (㎍/㎥)
+    private FinedustGrade pm10Grade;     // 현재 미세먼지 등급
+    private FinedustGrade pm25Grade;     // 현재 초미세먼지 등급
+    private FinedustGrade ozoneGrade;    // 현재 오존 등급
+    private FinedustGrade grade;         // 현재 통합 등급 (항목별 등급 중 가장 나쁜 등급)
+    private List<FinedustDailyDto> days; // 일별 요약 (날짜순)
+}
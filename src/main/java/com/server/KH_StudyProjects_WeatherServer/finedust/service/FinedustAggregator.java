@@ -0,0 +1,182 @@
+package com.server.KH_StudyProjects_WeatherServer.finedust.service;
+
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoSeries;
+import com.server.KH_StudyProjects_WeatherServer.finedust.dto.FinedustDailyDto;
+import com.server.KH_StudyProjects_WeatherServer.finedust.dto.FinedustGrade;
+import com.server.KH_StudyProjects_WeatherServer.finedust.dto.FinedustSummaryDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Open-Meteo 대기질 시간별 배열 → 대기질 요약 집계
+ *
+ * hourly 블록의 pm10 / pm2_5 / ozone 배열을 한 번만 순회하며 다음을 함께 계산
+ * - 현재 값/등급: 조회 시각이 속한 시간 (time ≤ now 인 마지막 시간)
+ * - 일별 최고/평균: 현지 날짜(utc_offset_seconds 기준)가 바뀔 때마다 1건씩 확정
+ * - 일별 최악 구간: 시간별 통합 등급이 그날 가장 나쁜 등급으로 이어진 가장 긴 구간
+ *
+ * 누적값은 기본형 지역 변수로만 보관하여, 시간 수와 무관하게 일별 DTO 외에는 객체를 만들지 않음
+ * 값이 없는 시간(NaN)은 최고/평균/등급 계산에서 제외
+ *
+ * @since 2026-10-18
+ */
+public final class FinedustAggregator {
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int SECONDS_PER_HOUR = 3_600;
+
+    private FinedustAggregator() {
+    }
+
+    /**
+     * 대기질 응답 집계
+     *
+     * @param response Open-Meteo 대기질 응답 (hourly 에 pm10, pm2_5, ozone 포함)
+     * @param nowEpochSecond 현재 시각 (epoch seconds)
+     * @return FinedustSummaryDto 현재 등급 + 일별 요약 (hourly 블록이 없으면 days 는 빈 목록)
+     */
+    public static FinedustSummaryDto aggregate(OpenMeteoResponse response, long nowEpochSecond) {
+        FinedustSummaryDto.FinedustSummaryDtoBuilder summary = FinedustSummaryDto.builder()
+                .latitude(response.getLatitude())
+                .longitude(response.getLongitude())
+                .timezone(response.getTimezone());
+        OpenMeteoSeries hourly = response.hourly();
+        long[] times = hourly == null ? new long[0] : hourly.times();
+        if (times.length == 0) {
+            return summary.days(List.of()).build();
+        }
+        float[] pm10 = valuesOrEmpty(hourly, "pm10", times.length);
+        float[] pm25 = valuesOrEmpty(hourly, "pm2_5", times.length);
+        float[] ozone = valuesOrEmpty(hourly, "ozone", times.length);
+        int offset = response.getUtcOffsetSeconds();
+
+        List<FinedustDailyDto> days = new ArrayList<>();
+        int current = -1;
+        long day = Long.MIN_VALUE;
+        double pm10Sum = 0, pm25Sum = 0, ozoneSum = 0;
+        int pm10Count = 0, pm25Count = 0, ozoneCount = 0;
+        float pm10Max = Float.NaN, pm25Max = Float.NaN, ozoneMax = Float.NaN;
+        FinedustGrade dayGrade = null;
+        int runStart = -1, worstStart = -1, worstEnd = -1; // 최악 등급 연속 구간 (인덱스, 포함)
+
+        for (int i = 0; i < times.length; i++) {
+            long localDay = Math.floorDiv(times[i] + offset, SECONDS_PER_DAY);
+            if (localDay != day) {
+                if (day != Long.MIN_VALUE) {
+                    days.add(daily(day, pm10Sum, pm10Count, pm10Max, pm25Sum, pm25Count, pm25Max,
+                            ozoneSum, ozoneCount, ozoneMax, dayGrade, times, worstStart, worstEnd, offset));
+                }
+                day = localDay;
+                pm10Sum = pm25Sum = ozoneSum = 0;
+                pm10Count = pm25Count = ozoneCount = 0;
+                pm10Max = pm25Max = ozoneMax = Float.NaN;
+                dayGrade = null;
+                runStart = worstStart = worstEnd = -1;
+            }
+            if (times[i] <= nowEpochSecond) {
+                current = i;
+            }
+
+            float p10 = pm10[i], p25 = pm25[i], o3 = ozone[i];
+            if (!Float.isNaN(p10)) {
+                pm10Sum += p10;
+                pm10Count++;
+                pm10Max = Float.isNaN(pm10Max) ? p10 : Math.max(pm10Max, p10);
+            }
+            if (!Float.isNaN(p25)) {
+                pm25Sum += p25;
+                pm25Count++;
+                pm25Max = Float.isNaN(pm25Max) ? p25 : Math.max(pm25Max, p25);
+            }
+            if (!Float.isNaN(o3)) {
+                ozoneSum += o3;
+                ozoneCount++;
+                ozoneMax = Float.isNaN(ozoneMax) ? o3 : Math.max(ozoneMax, o3);
+            }
+
+            FinedustGrade grade = overall(p10, p25, o3);
+            if (grade == null || dayGrade != null && grade.compareTo(dayGrade) < 0) {
+                runStart = -1; // 최악 등급 구간 끊김
+            } else if (dayGrade == null || grade.compareTo(dayGrade) > 0) {
+                dayGrade = grade; // 더 나쁜 등급 → 구간 새로 시작
+                runStart = worstStart = worstEnd = i;
+            } else {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+                if (i - runStart > worstEnd - worstStart) {
+                    worstStart = runStart;
+                    worstEnd = i;
+                }
+            }
+        }
+        days.add(daily(day, pm10Sum, pm10Count, pm10Max, pm25Sum, pm25Count, pm25Max,
+                ozoneSum, ozoneCount, ozoneMax, dayGrade, times, worstStart, worstEnd, offset));
+
+        if (current >= 0 && nowEpochSecond < times[current] + SECONDS_PER_HOUR) {
+            summary.currentTime(localTime(times[current], offset))
+                    .currentPm10(round(pm10[current]))
+                    .currentPm25(round(pm25[current]))
+                    .currentOzone(round(ozone[current]))
+                    .pm10Grade(FinedustGrade.ofPm10(pm10[current]))
+                    .pm25Grade(FinedustGrade.ofPm25(pm25[current]))
+                    .ozoneGrade(FinedustGrade.ofOzone(ozone[current]))
+                    .grade(overall(pm10[current], pm25[current], ozone[current]));
+        }
+        return summary.days(days).build();
+    }
+
+    // 항목별 등급 중 가장 나쁜 등급 (모두 값이 없으면 null)
+    private static FinedustGrade overall(float pm10, float pm25, float ozone) {
+        return FinedustGrade.worse(FinedustGrade.worse(FinedustGrade.ofPm10(pm10), FinedustGrade.ofPm25(pm25)), FinedustGrade.ofOzone(ozone));
+    }
+
+    private static FinedustDailyDto daily(long day, double pm10Sum, int pm10Count, float pm10Max,
+                                          double pm25Sum, int pm25Count, float pm25Max,
+                                          double ozoneSum, int ozoneCount, float ozoneMax,
+                                          FinedustGrade grade, long[] times, int worstStart, int worstEnd, int offset) {
+        return FinedustDailyDto.builder()
+                .date(LocalDate.ofEpochDay(day).toString())
+                .pm10Max(round(pm10Max))
+                .pm10Mean(mean(pm10Sum, pm10Count))
+                .pm25Max(round(pm25Max))
+                .pm25Mean(mean(pm25Sum, pm25Count))
+                .ozoneMax(round(ozoneMax))
+                .ozoneMean(mean(ozoneSum, ozoneCount))
+                .grade(grade)
+                .worstFrom(worstStart < 0 ? null : localTime(times[worstStart], offset))
+                .worstTo(worstEnd < 0 ? null : localTime(times[worstEnd] + SECONDS_PER_HOUR, offset))
+                .build();
+    }
+
+    // 배열이 없거나 길이가 다르면 값 없음(NaN)으로 채운 배열
+    private static float[] valuesOrEmpty(OpenMeteoSeries hourly, String variable, int size) {
+        float[] values = hourly.values(variable);
+        if (values != null && values.length == size) {
+            return values;
+        }
+        float[] empty = new float[size];
+        Arrays.fill(empty, Float.NaN);
+        return empty;
+    }
+
+    // epoch seconds → 현지 시각 문자열 (Open-Meteo iso8601 표기와 같은 yyyy-MM-ddTHH:mm)
+    private static String localTime(long epochSecond, int offset) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.ofTotalSeconds(offset)).toString();
+    }
+
+    private static Double mean(double sum, int count) {
+        return count == 0 ? null : Math.round(sum / count * 10) / 10.0;
+    }
+
+    // 소수 첫째 자리 반올림 (값 없음 → null)
+    private static Double round(float value) {
+        return Float.isNaN(value) ? null : Math.round(value * 10.0) / 10.0;
+    }
+}
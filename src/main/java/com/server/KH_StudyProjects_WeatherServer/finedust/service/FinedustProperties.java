@@ -0,0 +1,22 @@
+package com.server.KH_StudyProjects_WeatherServer.finedust.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기질 요약 설정
+ *
+ * application.yml 의 finedust 블록과 바인딩
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "finedust")
+public class FinedustProperties {
+
+    private String queryParam = "hourly=pm10,pm2_5,ozone&timezone=auto&forecast_days=3"; // 집계에 사용할 Open-Meteo 대기질 조회 파라미터
+    private boolean cacheEnabled = true;  // 격자별 요약 캐시 사용 여부
+    private long cacheMaximumSize = 5000; // 최대 보관 격자 수
+}
@@ -0,0 +1,88 @@
+package com.server.KH_StudyProjects_WeatherServer.finedust.service;
+
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamUnavailableException;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheKey;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheProperties;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiSummaryCache;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenApiManager;
+import com.server.KH_StudyProjects_WeatherServer.finedust.dto.FinedustSummaryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대기질 요약 서비스
+ *
+ * 클라이언트가 /api/airPollution 의 시간별 원본 배열을 받아 직접 등급을 계산하던 것을
+ * 서버에서 한 번 집계하여 현재 등급 + 일별 최고/평균/최악 구간만 전달
+ *
+ * 처리 과정:
+ * 1. 요청 좌표를 대기질 캐시 격자(openmeteo.cache.air-pollution.grid-resolution)로 스냅하여 요약 캐시 조회
+ * 2. 미적중 시 OpenApiManager.executeContext(..., "airPollution") 로 시간별 배열 조회 (응답 캐시/병합 공유)
+ * 3. FinedustAggregator 로 한 번 순회하여 집계 후 다음 정시(또는 원본 응답 갱신 시각)까지 캐시
+ *    (원본이 갱신 시각이 지난 stale 응답이면 캐시하지 않음 → 백그라운드 갱신 후 다음 요청에서 다시 집계)
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FinedustService {
+
+    private static final String FLAG = "airPollution";
+
+    private final OpenApiManager openApiManager;
+    private final OpenApiCacheProperties openApiCacheProperties;
+    private final FinedustProperties finedustProperties;
+    private final FinedustSummaryCache finedustSummaryCache;
+
+    /**
+     * 대기질 요약 조회
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @return FinedustSummaryDto 현재 등급 + 일별 요약
+     * @throws RuntimeException 위도/경도 범위 오류
+     * @throws UpstreamUnavailableException 대기질 정보를 조회할 수 없는 경우
+     */
+    public FinedustSummaryDto getFinedustSummary(Double latitude, Double longitude) {
+        log.info("대기질 요약 조회: lat={}, lng={}", latitude, longitude);
+
+        if (latitude == null || longitude == null || Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new RuntimeException("위도/경도가 올바르지 않습니다.");
+        }
+        Map<String, Object> params = new HashMap<>();
+        params.put("latitude", latitude);
+        params.put("longitude", longitude);
+        params.put("queryParam", finedustProperties.getQueryParam());
+
+        OpenApiCacheProperties.Region region = openApiCacheProperties.region(FLAG);
+        OpenApiCacheKey key = OpenApiCacheKey.of(params, FLAG, region.getGridResolution());
+        return finedustSummaryCache.get(key, cacheKey -> summarize(cacheKey == null ? params : cacheKey.toParams(), region));
+    }
+
+    // 시간별 배열 조회 후 집계 (만료: 다음 정시와 원본 응답 갱신 시각 중 이른 시각)
+    // 원본 갱신 시각은 조회 전에 확인 (조회 중 갱신되어도 더 이른 시각으로 만료되어 오래된 요약을 붙잡지 않음)
+    private OpenApiSummaryCache.Entry<FinedustSummaryDto> summarize(Map<String, Object> params, OpenApiCacheProperties.Region region) {
+        long sourceFreshUntil = openApiManager.refreshDueAt(params, FLAG);
+        OpenMeteoResponse response;
+        try {
+            response = openApiManager.executeContext(params, FLAG)
+                    .orElseThrow(() -> new UpstreamUnavailableException("대기질 정보를 조회할 수 없습니다."));
+        } catch (URISyntaxException | UnsupportedEncodingException e) {
+            throw new UpstreamUnavailableException("대기질 정보를 조회할 수 없습니다.", e);
+        }
+        if (sourceFreshUntil == 0) {
+            sourceFreshUntil = openApiManager.refreshDueAt(params, FLAG); // 캐시에 없어 방금 조회한 응답
+        }
+        long now = System.currentTimeMillis();
+        FinedustSummaryDto summary = FinedustAggregator.aggregate(response, now / 1000);
+        return new OpenApiSummaryCache.Entry<>(summary, OpenApiSummaryCache.expiresAt(now, sourceFreshUntil, region.nextRefreshAt(now)));
+    }
+}
@@ -0,0 +1,21 @@
+package com.server.KH_StudyProjects_WeatherServer.finedust.service;
+
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheKey;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiSummaryCache;
+import com.server.KH_StudyProjects_WeatherServer.finedust.dto.FinedustSummaryDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * 격자별 대기질 요약 캐시
+ *
+ * 키: 대기질 격자(OpenApiCacheKey), 메트릭: cache=finedust.summary
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class FinedustSummaryCache extends OpenApiSummaryCache<OpenApiCacheKey, FinedustSummaryDto> {
+
+    public FinedustSummaryCache(FinedustProperties properties) {
+        super(properties.isCacheEnabled(), properties.getCacheMaximumSize(), "finedust.summary");
+    }
+}
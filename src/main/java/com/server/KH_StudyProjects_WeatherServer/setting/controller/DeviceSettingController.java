@@ -0,0 +1,54 @@
+package com.server.KH_StudyProjects_WeatherServer.setting.controller;
+
+import com.server.KH_StudyProjects_WeatherServer.common.util.ApiResponse;
+import com.server.KH_StudyProjects_WeatherServer.setting.dto.DeviceSettingDto;
+import com.server.KH_StudyProjects_WeatherServer.setting.dto.DeviceSettingRequestDto;
+import com.server.KH_StudyProjects_WeatherServer.setting.service.DeviceSettingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 디바이스 설정 REST API 컨트롤러
+ *
+ * API 경로: /api/settings
+ *
+ * 주요 기능:
+ * - GET: 디바이스 설정 조회 (저장된 설정이 없으면 기본 설정)
+ * - PATCH: 디바이스 설정 변경 (요청에 값이 있는 항목만 변경)
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/settings")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class DeviceSettingController {
+
+    private final DeviceSettingService deviceSettingService;
+
+    /**
+     * 디바이스 설정 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<DeviceSettingDto>> getDeviceSetting(@RequestParam String deviceId) {
+        log.info("디바이스 설정 조회 요청: deviceId={}", deviceId);
+
+        DeviceSettingDto setting = deviceSettingService.getDeviceSetting(deviceId);
+        return ResponseEntity.ok(ApiResponse.success("디바이스 설정을 성공적으로 조회했습니다", setting));
+    }
+
+    /**
+     * 디바이스 설정 변경
+     */
+    @PatchMapping
+    public ResponseEntity<ApiResponse<DeviceSettingDto>> updateDeviceSetting(
+            @RequestBody DeviceSettingRequestDto requestDto) {
+        log.info("디바이스 설정 변경 요청: {}", requestDto);
+
+        DeviceSettingDto setting = deviceSettingService.updateDeviceSetting(requestDto);
+        return ResponseEntity.ok(ApiResponse.success("디바이스 설정이 변경되었습니다", setting));
+    }
+}
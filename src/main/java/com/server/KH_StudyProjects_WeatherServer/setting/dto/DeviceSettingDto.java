@@ -0,0 +1,68 @@
+package com.server.KH_StudyProjects_WeatherServer.setting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 디바이스 설정 DTO
+ *
+ * COM_DEVICE_SETTINGS 1행과 대응하며 조회 응답으로도 사용
+ * 저장된 설정이 없는 디바이스는 기본값(defaults)으로 응답
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceSettingDto {
+
+    public static final String CELSIUS = "CELSIUS";
+    public static final String FAHRENHEIT = "FAHRENHEIT";
+    public static final String KMH = "KMH";
+    public static final String MS = "MS";
+    public static final String MPH = "MPH";
+
+    private String deviceId;                // 디바이스식별번호
+    private String temperatureUnit;         // 기온 단위 (CELSIUS / FAHRENHEIT)
+    private String windSpeedUnit;           // 풍속 단위 (KMH / MS / MPH)
+    private String language;                // 언어 (ko / en ...)
+    private Boolean notificationEnabled;    // 알림 전체 사용 여부
+    private Boolean weatherAlertEnabled;    // 기상 특보 알림 여부
+    private Boolean finedustAlertEnabled;   // 미세먼지 알림 여부
+    private LocalDateTime updatedAt;        // 마지막 변경 시각
+
+    /**
+     * 저장된 설정이 없는 디바이스의 기본 설정 (테이블 DEFAULT 와 같은 값)
+     */
+    public static DeviceSettingDto defaults(String deviceId) {
+        return DeviceSettingDto.builder()
+                .deviceId(deviceId)
+                .temperatureUnit(CELSIUS)
+                .windSpeedUnit(KMH)
+                .language("ko")
+                .notificationEnabled(true)
+                .weatherAlertEnabled(true)
+                .finedustAlertEnabled(true)
+                .build();
+    }
+
+    /**
+     * 변경 항목(null 이 아닌 값)을 덮어쓴 새 설정 (디바이스 ID 는 유지, 현재 객체는 수정하지 않음)
+     */
+    public DeviceSettingDto merge(DeviceSettingDto changes) {
+        return toBuilder()
+                .temperatureUnit(changes.getTemperatureUnit() != null ? changes.getTemperatureUnit() : temperatureUnit)
+                .windSpeedUnit(changes.getWindSpeedUnit() != null ? changes.getWindSpeedUnit() : windSpeedUnit)
+                .language(changes.getLanguage() != null ? changes.getLanguage() : language)
+                .notificationEnabled(changes.getNotificationEnabled() != null ? changes.getNotificationEnabled() : notificationEnabled)
+                .weatherAlertEnabled(changes.getWeatherAlertEnabled() != null ? changes.getWeatherAlertEnabled() : weatherAlertEnabled)
+                .finedustAlertEnabled(changes.getFinedustAlertEnabled() != null ? changes.getFinedustAlertEnabled() : finedustAlertEnabled)
+                .updatedAt(changes.getUpdatedAt() != null ? changes.getUpdatedAt() : updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.server.KH_StudyProjects_WeatherServer.setting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 디바이스 설정 변경 요청 DTO
+ *
+ * 값이 있는(null 이 아닌) 항목만 변경 (토글 1개만 바꾸는 요청은 해당 항목만 전달)
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceSettingRequestDto {
+
+    private String deviceId;                // 디바이스식별번호 (필수)
+    private String temperatureUnit;         // 기온 단위 (CELSIUS / FAHRENHEIT)
+    private String windSpeedUnit;           // 풍속 단위 (KMH / MS / MPH)
+    private String language;                // 언어 (ko / en ...)
+    private Boolean notificationEnabled;    // 알림 전체 사용 여부
+    private Boolean weatherAlertEnabled;    // 기상 특보 알림 여부
+    private Boolean finedustAlertEnabled;   // 미세먼지 알림 여부
+}
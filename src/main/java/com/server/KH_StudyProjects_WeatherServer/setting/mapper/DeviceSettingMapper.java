@@ -0,0 +1,29 @@
+package com.server.KH_StudyProjects_WeatherServer.setting.mapper;
+
+import com.server.KH_StudyProjects_WeatherServer.setting.dto.DeviceSettingDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 디바이스 설정 MyBatis Mapper 인터페이스
+ *
+ * COM_DEVICE_SETTINGS 테이블 조회/일괄 저장 (mapper/setting/DeviceSettingMapper.xml)
+ *
+ * @since 2026-10-18
+ */
+@Mapper
+public interface DeviceSettingMapper {
+
+    /**
+     * 디바이스 설정 조회 (없으면 null)
+     */
+    DeviceSettingDto selectDeviceSetting(@Param("deviceId") String deviceId);
+
+    /**
+     * 여러 디바이스 설정 일괄 저장 (있으면 수정, 없으면 추가, 디바이스 ID 는 서로 달라야 함)
+     * 값이 null 인 항목은 저장하지 않음 (기존 행은 DB 값 유지, 새 행은 기본값)
+     */
+    int mergeDeviceSettings(@Param("settings") List<DeviceSettingDto> settings);
+}
@@ -0,0 +1,28 @@
+package com.server.KH_StudyProjects_WeatherServer.setting.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 디바이스 설정 캐시/지연 저장 설정
+ *
+ * application.yml 의 setting 블록과 바인딩
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "setting")
+public class DeviceSettingProperties {
+
+    private long cacheMaximumSize = 50000;                           // 최대 보관 디바이스 수
+    private Duration cacheExpireAfterWrite = Duration.ofMinutes(10); // 저장 후 보관 시간 (다른 서버 인스턴스의 변경 반영 상한)
+    private boolean writeBehind = true;                              // 지연 일괄 저장 사용 여부 (false 면 변경 즉시 저장)
+    private Duration flushInterval = Duration.ofSeconds(2);          // 대기 중인 변경 저장 주기
+    private int flushThreshold = 200;                                // 대기 중인 디바이스 수가 이 값 이상이면 즉시 저장
+    private int batchSize = 100;                                     // MERGE 1회에 저장할 최대 디바이스 수
+    private int maxFlushAttempts = 3;                                // 1건씩 저장해도 이 횟수만큼 실패한 디바이스의 변경은 버림
+}
@@ -0,0 +1,90 @@
+package com.server.KH_StudyProjects_WeatherServer.setting.service;
+
+import com.server.KH_StudyProjects_WeatherServer.setting.dto.DeviceSettingDto;
+import com.server.KH_StudyProjects_WeatherServer.setting.dto.DeviceSettingRequestDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 디바이스 설정 서비스
+ *
+ * 앱의 단위/언어/알림 설정을 디바이스 단위로 조회/변경
+ * 조회와 변경은 DeviceSettingStore 캐시에서 처리하고, DB(COM_DEVICE_SETTINGS) 저장은 DeviceSettingStore 가 모아서 수행
+ * (변경 응답 시점에는 아직 DB 에 저장되지 않았을 수 있으나, 같은 서버의 조회는 항상 변경된 값을 반환)
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeviceSettingService {
+
+    private static final Set<String> TEMPERATURE_UNITS = Set.of(DeviceSettingDto.CELSIUS, DeviceSettingDto.FAHRENHEIT);
+    private static final Set<String> WIND_SPEED_UNITS = Set.of(DeviceSettingDto.KMH, DeviceSettingDto.MS, DeviceSettingDto.MPH);
+    private static final Pattern LANGUAGE = Pattern.compile("[a-z]{2}(-[A-Z]{2})?"); // ko, en, zh-TW ...
+
+    private final DeviceSettingStore deviceSettingStore;
+
+    /**
+     * 디바이스 설정 조회
+     *
+     * @param deviceId 디바이스 고유 식별자
+     * @return DeviceSettingDto 현재 설정 (저장된 설정이 없으면 기본 설정)
+     * @throws RuntimeException 디바이스 ID 가 없는 경우
+     */
+    public DeviceSettingDto getDeviceSetting(String deviceId) {
+        validateDeviceId(deviceId);
+        return deviceSettingStore.get(deviceId);
+    }
+
+    /**
+     * 디바이스 설정 변경 (요청에 값이 있는 항목만 변경)
+     *
+     * @param requestDto 변경할 항목
+     * @return DeviceSettingDto 변경된 설정
+     * @throws RuntimeException 디바이스 ID 가 없거나 단위/언어 값이 올바르지 않은 경우
+     */
+    public DeviceSettingDto updateDeviceSetting(DeviceSettingRequestDto requestDto) {
+        validateDeviceId(requestDto.getDeviceId());
+        if (requestDto.getTemperatureUnit() != null && !TEMPERATURE_UNITS.contains(requestDto.getTemperatureUnit())) {
+            throw new RuntimeException("기온 단위가 올바르지 않습니다. (CELSIUS, FAHRENHEIT)");
+        }
+        if (requestDto.getWindSpeedUnit() != null && !WIND_SPEED_UNITS.contains(requestDto.getWindSpeedUnit())) {
+            throw new RuntimeException("풍속 단위가 올바르지 않습니다. (KMH, MS, MPH)");
+        }
+        if (requestDto.getLanguage() != null && !LANGUAGE.matcher(requestDto.getLanguage()).matches()) {
+            throw new RuntimeException("언어 코드가 올바르지 않습니다.");
+        }
+
+        // 요청에 값이 있는 항목만 변경 항목으로 전달 (DB 에는 이 항목만 저장)
+        DeviceSettingDto changes = DeviceSettingDto.builder()
+                .deviceId(requestDto.getDeviceId())
+                .temperatureUnit(requestDto.getTemperatureUnit())
+                .windSpeedUnit(requestDto.getWindSpeedUnit())
+                .language(requestDto.getLanguage())
+                .notificationEnabled(requestDto.getNotificationEnabled())
+                .weatherAlertEnabled(requestDto.getWeatherAlertEnabled())
+                .finedustAlertEnabled(requestDto.getFinedustAlertEnabled())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        DeviceSettingDto updated = deviceSettingStore.update(requestDto.getDeviceId(), changes);
+        log.debug("디바이스 설정 변경: {}", updated);
+        return updated;
+    }
+
+    private static void validateDeviceId(String deviceId) {
+        if (deviceId == null || deviceId.isBlank()) {
+            throw new RuntimeException("디바이스 ID 가 필요합니다.");
+        }
+        // DEVICE_ID 컬럼은 VARCHAR2(100) 바이트 기준 (비ASCII 문자는 글자당 여러 바이트)
+        if (deviceId.getBytes(StandardCharsets.UTF_8).length > 100) {
+            throw new RuntimeException("디바이스 ID 가 올바르지 않습니다.");
+        }
+    }
+}
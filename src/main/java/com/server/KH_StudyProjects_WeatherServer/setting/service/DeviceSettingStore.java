@@ -0,0 +1,239 @@
+package com.server.KH_StudyProjects_WeatherServer.setting.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.KH_StudyProjects_WeatherServer.setting.dto.DeviceSettingDto;
+import com.server.KH_StudyProjects_WeatherServer.setting.mapper.DeviceSettingMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 디바이스 설정 저장소 (캐시 + 지연 일괄 저장)
+ *
+ * 앱 실행마다 조회되는 설정을 디바이스 단위로 캐시하고, 변경은 즉시 DB 에 쓰지 않고 모아서 저장
+ * (커넥션 풀이 작아 설정 조회/토글 요청이 DB 커넥션을 점유하지 않도록 함)
+ *
+ * 동작 방식:
+ * - 조회: 대기 중인 변경 → 캐시 → DB 순 (DB 에 없는 디바이스는 기본 설정을 캐시)
+ * - 변경: 디바이스별로 직렬화하여 캐시와 지연 저장 대기열에 반영 (대기열은 디바이스별 현재 설정 + 저장 전까지 바뀐 항목을 보관)
+ * - 저장: flushInterval 마다, 또는 대기 디바이스 수가 flushThreshold 이상이 된 요청에서 batchSize 건씩 바뀐 항목만 MERGE
+ *   (캐시는 다른 인스턴스의 변경을 모를 수 있으므로 전체 행을 쓰지 않음 → 다른 인스턴스가 바꾼 항목을 되돌리지 않음)
+ * - 저장 실패: DB 연결 장애면 중단하고 다음 주기에 재시도, 그 외 오류면 1건씩 다시 저장하여 실패한 디바이스만 대기열에 남김
+ *   1건 저장이 maxFlushAttempts 회 실패한 디바이스는 오류 로그를 남기고 버림 (다른 디바이스의 저장이 막히지 않도록)
+ * - 종료: 서버 종료 시 남은 변경을 모두 저장
+ * - 캐시는 서버 인스턴스별이므로 cacheExpireAfterWrite 가 다른 인스턴스 변경이 반영되는 최대 지연
+ *
+ * 메트릭: cache=setting.devices, setting.write_behind.pending(대기 디바이스 수), setting.write_behind.flushed(저장 건수),
+ *        setting.write_behind.dropped(저장하지 못하고 버린 건수)
+ *
+ * @since 2026-10-18
+ */
+@Component
+@Slf4j
+public class DeviceSettingStore implements MeterBinder {
+
+    private final DeviceSettingProperties properties;
+    private final DeviceSettingMapper deviceSettingMapper;
+    private final Cache<String, DeviceSettingDto> cache;
+    private final WriteBehindBuffer<String, Pending> buffer = new WriteBehindBuffer<>();
+    private final ReentrantLock flushLock = new ReentrantLock(); // 저장은 한 번에 하나만
+    private final Map<String, Integer> flushFailures = new HashMap<>(); // 디바이스별 연속 저장 실패 횟수 (flushLock 안에서만 사용)
+    private final LongAdder flushedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public DeviceSettingStore(DeviceSettingProperties properties, DeviceSettingMapper deviceSettingMapper) {
+        this.properties = properties;
+        this.deviceSettingMapper = deviceSettingMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfterWrite(properties.getCacheExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 디바이스 설정 조회
+     *
+     * @param deviceId 디바이스 고유 식별자
+     * @return DeviceSettingDto 현재 설정 (저장된 설정이 없으면 기본 설정)
+     */
+    public DeviceSettingDto get(String deviceId) {
+        Pending pending = buffer.get(deviceId);
+        if (pending != null) {
+            return pending.setting();
+        }
+        return cache.get(deviceId, this::load);
+    }
+
+    /**
+     * 디바이스 설정 변경 (같은 디바이스의 변경은 순서대로 적용)
+     *
+     * @param deviceId 디바이스 고유 식별자
+     * @param changes 변경 항목 (null 이 아닌 항목만 변경하고 DB 에도 이 항목만 저장)
+     * @return DeviceSettingDto 변경된 설정
+     */
+    public DeviceSettingDto update(String deviceId, DeviceSettingDto changes) {
+        int[] pendingCount = new int[1];
+        DeviceSettingDto updated = cache.asMap().compute(deviceId, (id, current) -> {
+            Pending pending = buffer.get(id);
+            DeviceSettingDto base = pending != null ? pending.setting() : current != null ? current : load(id);
+            // 아직 저장되지 않은 이전 변경 항목에 이번 변경 항목을 합침
+            DeviceSettingDto pendingChanges = pending != null
+                    ? pending.changes().merge(changes)
+                    : changes.toBuilder().deviceId(id).build();
+            DeviceSettingDto next = base.merge(changes);
+            pendingCount[0] = buffer.put(id, new Pending(next, pendingChanges));
+            return next;
+        });
+
+        if (!properties.isWriteBehind() || pendingCount[0] >= properties.getFlushThreshold()) {
+            flush();
+        }
+        return updated;
+    }
+
+    /**
+     * 대기 중인 변경 저장 (다른 저장이 진행 중이면 건너뜀)
+     */
+    @Scheduled(initialDelayString = "${setting.flush-interval:2s}",
+               fixedDelayString = "${setting.flush-interval:2s}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 서버 종료 시 남은 변경 저장 (진행 중인 저장이 끝날 때까지 대기)
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushLock.lock();
+        try {
+            flushPending();
+            if (buffer.size() > 0) {
+                log.error("디바이스 설정 종료 저장 실패: 저장되지 않은 디바이스 {}건", buffer.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "setting.devices");
+        Gauge.builder("setting.write_behind.pending", buffer, WriteBehindBuffer::size)
+                .description("저장 대기 중인 디바이스 설정 수")
+                .register(registry);
+        FunctionCounter.builder("setting.write_behind.flushed", flushedCount, LongAdder::sum)
+                .description("지연 저장으로 DB 에 반영된 디바이스 설정 수")
+                .register(registry);
+        FunctionCounter.builder("setting.write_behind.dropped", droppedCount, LongAdder::sum)
+                .description("저장에 계속 실패하여 버린 디바이스 설정 수")
+                .register(registry);
+    }
+
+    // 시작 시점의 대기 건수만큼 batchSize 씩 저장 (저장 중 계속 들어오는 변경은 다음 주기로)
+    private void flushPending() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int rounds = (buffer.size() + batchSize - 1) / batchSize;
+        Set<String> failed = new HashSet<>(); // 이번 저장에서 실패한 디바이스 (같은 저장에서 다시 가져오지 않음)
+        for (int i = 0; i < rounds; i++) {
+            List<Map.Entry<String, Pending>> entries = buffer.drain(batchSize, failed);
+            if (entries.isEmpty()) {
+                return;
+            }
+            List<DeviceSettingDto> changes = new ArrayList<>(entries.size());
+            entries.forEach(entry -> changes.add(entry.getValue().changes()));
+            try {
+                deviceSettingMapper.mergeDeviceSettings(changes);
+                saved(entries);
+            } catch (RuntimeException e) {
+                if (isUnavailable(e)) {
+                    log.warn("디바이스 설정 저장 실패 (다음 주기에 재시도): count={}, e={}", changes.size(), e.getMessage());
+                    return;
+                }
+                log.warn("디바이스 설정 일괄 저장 실패 (1건씩 다시 저장): count={}, e={}", changes.size(), e.getMessage());
+                if (!mergeEach(entries, failed)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // 1건씩 저장 (DB 연결 장애면 false 반환), 실패한 디바이스는 대기열에 남기고 maxFlushAttempts 회 실패하면 버림
+    private boolean mergeEach(List<Map.Entry<String, Pending>> entries, Set<String> failed) {
+        for (Map.Entry<String, Pending> entry : entries) {
+            try {
+                deviceSettingMapper.mergeDeviceSettings(List.of(entry.getValue().changes()));
+                saved(List.of(entry));
+            } catch (RuntimeException e) {
+                if (isUnavailable(e)) {
+                    log.warn("디바이스 설정 저장 실패 (다음 주기에 재시도): e={}", e.getMessage());
+                    return false;
+                }
+                failed.add(entry.getKey());
+                int attempts = flushFailures.merge(entry.getKey(), 1, Integer::sum);
+                if (attempts < Math.max(1, properties.getMaxFlushAttempts())) {
+                    log.warn("디바이스 설정 저장 실패 (다음 주기에 재시도): deviceId={}, attempts={}, e={}",
+                            entry.getKey(), attempts, e.getMessage());
+                    continue;
+                }
+                // 저장하지 못한 값은 캐시에서도 제거 (다음 조회는 DB 값)
+                buffer.complete(List.of(entry));
+                cache.invalidate(entry.getKey());
+                flushFailures.remove(entry.getKey());
+                droppedCount.increment();
+                log.error("디바이스 설정 저장 포기: deviceId={}, attempts={}, changes={}, e={}",
+                        entry.getKey(), attempts, entry.getValue().changes(), e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void saved(List<Map.Entry<String, Pending>> entries) {
+        buffer.complete(entries);
+        entries.forEach(entry -> flushFailures.remove(entry.getKey()));
+        flushedCount.add(entries.size());
+    }
+
+    // DB 연결/일시적 장애 (1건씩 다시 저장해도 실패하므로 다음 주기에 재시도)
+    private static boolean isUnavailable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof RecoverableDataAccessException;
+    }
+
+    private DeviceSettingDto load(String deviceId) {
+        DeviceSettingDto setting = deviceSettingMapper.selectDeviceSetting(deviceId);
+        return setting != null ? setting : DeviceSettingDto.defaults(deviceId);
+    }
+
+    // 대기 중인 변경 (setting: 조회용 현재 설정, changes: 저장할 항목만 값이 있는 변경 항목)
+    private record Pending(DeviceSettingDto setting, DeviceSettingDto changes) {
+    }
+}
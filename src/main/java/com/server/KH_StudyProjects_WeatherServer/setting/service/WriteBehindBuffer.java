@@ -0,0 +1,86 @@
+package com.server.KH_StudyProjects_WeatherServer.setting.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지연 저장(write-behind) 대기열
+ *
+ * 키(디바이스 ID)별 마지막 값만 보관하여, 저장 전에 같은 키로 여러 번 들어온 변경은 1건으로 합침
+ * (토글을 연속으로 바꿔도 DB 에는 마지막 상태 1건만 저장)
+ *
+ * 저장 순서:
+ * 1. drain: 대기 중인 값 목록을 가져옴 (대기열에서는 아직 제거하지 않음 → 저장 중 조회도 최신 값)
+ * 2. 호출 측에서 DB 저장
+ * 3. complete: 저장한 값이 그대로인 키만 제거 (저장 중 새 값이 들어온 키는 다음 저장 대상으로 남음)
+ * 저장 실패 시 complete 를 호출하지 않으면 다음 저장 때 다시 시도 (더 이상 저장하지 않을 값도 complete 로 제거)
+ *
+ * 스레드 안전 (ConcurrentHashMap)
+ *
+ * @since 2026-10-18
+ */
+public class WriteBehindBuffer<K, V> {
+
+    private final Map<K, V> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 변경 등록 (같은 키의 대기 중인 값은 교체)
+     *
+     * @return int 등록 후 대기 중인 키 수
+     */
+    public int put(K key, V value) {
+        pending.put(key, value);
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 값 (없으면 null)
+     */
+    public V get(K key) {
+        return pending.get(key);
+    }
+
+    /**
+     * 저장할 값 목록 (최대 limit 건, 대기열에서 제거하지 않음)
+     */
+    public List<Map.Entry<K, V>> drain(int limit) {
+        return drain(limit, Set.of());
+    }
+
+    /**
+     * 저장할 값 목록 (exclude 키는 건너뜀, 최대 limit 건, 대기열에서 제거하지 않음)
+     * 저장에 실패한 키를 같은 저장 주기에서 다시 가져오지 않아 뒤에 있는 키의 저장이 막히지 않도록 함
+     */
+    public List<Map.Entry<K, V>> drain(int limit, Set<K> exclude) {
+        List<Map.Entry<K, V>> entries = new ArrayList<>(Math.min(limit, pending.size()));
+        for (Map.Entry<K, V> entry : pending.entrySet()) {
+            if (entries.size() >= limit) {
+                break;
+            }
+            if (exclude.contains(entry.getKey())) {
+                continue;
+            }
+            entries.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+        return entries;
+    }
+
+    /**
+     * 저장 완료 처리 (저장 이후 값이 바뀌지 않은 키만 제거)
+     */
+    public void complete(List<Map.Entry<K, V>> entries) {
+        for (Map.Entry<K, V> entry : entries) {
+            pending.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 대기 중인 키 수
+     */
+    public int size() {
+        return pending.size();
+    }
+}
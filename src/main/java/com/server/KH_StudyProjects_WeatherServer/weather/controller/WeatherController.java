@@ -0,0 +1,44 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.controller;
+
+import com.server.KH_StudyProjects_WeatherServer.common.util.ApiResponse;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherSummaryDto;
+import com.server.KH_StudyProjects_WeatherServer.weather.service.WeatherService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 예보 요약 REST API 컨트롤러
+ *
+ * API 경로: /api/weather
+ *
+ * 주요 기능:
+ * - GET /summary: N시간 구간 / 일별 최저·최고·강수 합계 / 다음 강수 변화 (시간별 원본은 GET /api/weather)
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/weather")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class WeatherController {
+
+    private final WeatherService weatherService;
+
+    /**
+     * 예보 요약 조회 (bucketHours, hours 생략 시 기본값)
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<WeatherSummaryDto>> getWeatherSummary(
+            @RequestParam Double latitude,
+            @RequestParam Double longitude,
+            @RequestParam(required = false) Integer bucketHours,
+            @RequestParam(required = false) Integer hours) {
+        log.info("예보 요약 조회 요청: lat={}, lng={}, bucketHours={}, hours={}", latitude, longitude, bucketHours, hours);
+
+        WeatherSummaryDto summary = weatherService.getWeatherSummary(latitude, longitude, bucketHours, hours);
+        return ResponseEntity.ok(ApiResponse.success("예보 요약을 성공적으로 조회했습니다", summary));
+    }
+}
@@ -0,0 +1,30 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * N시간 구간 예보 DTO
+ *
+ * 현재 시간부터 bucketHours 시간씩 묶은 구간의 기온 범위/강수 합계 등 (시간별 원본 대신 사용)
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeatherBucketDto {
+
+    private String from;                          // 구간 시작 (현지 시각, yyyy-MM-ddTHH:mm)
+    private String to;                            // 구간 끝 (미포함)
+    private Double temperatureMin;                // 최저 기온 (℃)
+    private Double temperatureMax;                // 최고 기온 (℃)
+    private Double temperatureMean;               // 평균 기온 (℃)
+    private Double precipitation;                 // 강수량 합계 (mm)
+    private Integer precipitationProbabilityMax;  // 최대 강수 확률 (%)
+    private Integer weatherCode;                  // 구간 대표 날씨 코드 (WMO, 가장 큰 코드 = 가장 궂은 날씨)
+    private Double windSpeedMax;                  // 최대 풍속 (km/h)
+}
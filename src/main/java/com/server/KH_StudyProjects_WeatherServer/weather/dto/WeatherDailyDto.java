@@ -0,0 +1,27 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 예보 요약 DTO
+ *
+ * 현지 날짜 하루 동안의 시간별 값으로 계산 (daily 블록을 따로 조회하지 않음)
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeatherDailyDto {
+
+    private String date;                          // 현지 날짜 (yyyy-MM-dd)
+    private Double temperatureMin;                // 최저 기온 (℃)
+    private Double temperatureMax;                // 최고 기온 (℃)
+    private Double precipitationSum;              // 강수량 합계 (mm)
+    private Integer precipitationProbabilityMax;  // 최대 강수 확률 (%)
+    private Integer weatherCode;                  // 대표 날씨 코드 (WMO)
+}
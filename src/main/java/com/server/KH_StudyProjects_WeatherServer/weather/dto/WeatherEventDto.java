@@ -0,0 +1,29 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 날씨 변화 이벤트 DTO ("2시간 뒤 비 시작" 등)
+ *
+ * 현재 시간 이후 강수 상태(없음/비/눈)가 바뀌는 시각
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeatherEventDto {
+
+    public static final String RAIN_START = "RAIN_START";                   // 비 시작 (눈 → 비 포함)
+    public static final String SNOW_START = "SNOW_START";                   // 눈 시작 (비 → 눈 포함)
+    public static final String PRECIPITATION_STOP = "PRECIPITATION_STOP";   // 강수 그침
+
+    private String type;           // RAIN_START / SNOW_START / PRECIPITATION_STOP
+    private String time;           // 변화 시각 (현지 시각, yyyy-MM-ddTHH:mm)
+    private Double precipitation;  // 해당 시간 강수량 (mm)
+    private Integer weatherCode;   // 해당 시간 날씨 코드 (WMO)
+}
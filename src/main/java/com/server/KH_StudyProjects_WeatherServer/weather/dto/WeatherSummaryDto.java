@@ -0,0 +1,30 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 예보 요약 응답 DTO
+ *
+ * 화면별로 필요한 형태(N시간 구간, 일별 최저/최고, 다음 변화)만 담아 시간별 원본 배열 대신 전달
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeatherSummaryDto {
+
+    private Double latitude;                // 실제 조회된 격자 위도
+    private Double longitude;               // 실제 조회된 격자 경도
+    private String timezone;                // 현지 timezone (예: Asia/Seoul)
+    private Integer bucketHours;            // 구간 길이 (시간)
+    private List<WeatherBucketDto> buckets; // 현재 시간부터의 N시간 구간 (시간순)
+    private List<WeatherDailyDto> days;     // 일별 요약 (날짜순)
+    private List<WeatherEventDto> events;   // 현재 시간 이후 강수 변화 (시간순, 최대 maxEvents 건)
+}
@@ -0,0 +1,237 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.service;
+
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoSeries;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherBucketDto;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherDailyDto;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherEventDto;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherSummaryDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Open-Meteo 시간별 예보 → 예보 요약 집계
+ *
+ * hourly 블록의 temperature_2m / precipitation / precipitation_probability / weather_code / wind_speed_10m 배열을
+ * 한 번만 순회하며 다음을 함께 계산 (중간 목록 없이 누적값만 유지하고 구간/날짜가 끝날 때 DTO 1건 생성)
+ * - N시간 구간: 현재 시간(time ≤ now 인 마지막 시간)부터 hours 시간까지 bucketHours 씩
+ * - 일별 요약: 현지 날짜(utc_offset_seconds 기준)별 최저/최고 기온, 강수 합계
+ * - 다음 변화: 현재 시간 이후 강수 상태(없음/비/눈)가 바뀌는 시각 (최대 maxEvents 건)
+ *
+ * 강수 상태는 강수량이 precipitationThreshold 이상이면 강수, 날씨 코드가 눈(71~77, 85~86)이면 눈으로 판단
+ * 값이 없는 시간(NaN)은 합계/최저/최고에서 제외하고, 강수 상태는 직전 상태를 유지
+ *
+ * @since 2026-10-18
+ */
+public class WeatherAggregator {
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int SECONDS_PER_HOUR = 3_600;
+    private static final int DRY = 0;
+    private static final int RAIN = 1;
+    private static final int SNOW = 2;
+
+    private final int bucketHours;
+    private final int hours;
+    private final int maxEvents;
+    private final float precipitationThreshold;
+
+    /**
+     * @param bucketHours 구간 길이 (시간)
+     * @param hours 구간으로 나눌 기간 (현재 시간부터, 시간)
+     * @param maxEvents 최대 변화 이벤트 수
+     * @param precipitationThreshold 강수로 판단할 시간당 강수량 (mm)
+     */
+    public WeatherAggregator(int bucketHours, int hours, int maxEvents, float precipitationThreshold) {
+        this.bucketHours = Math.max(1, bucketHours);
+        this.hours = Math.max(0, hours);
+        this.maxEvents = Math.max(0, maxEvents);
+        this.precipitationThreshold = precipitationThreshold;
+    }
+
+    /**
+     * 예보 응답 집계
+     *
+     * @param response Open-Meteo 예보 응답 (hourly 블록 포함)
+     * @param nowEpochSecond 현재 시각 (epoch seconds)
+     * @return WeatherSummaryDto 구간/일별/변화 요약 (hourly 블록이 없으면 모두 빈 목록)
+     */
+    public WeatherSummaryDto aggregate(OpenMeteoResponse response, long nowEpochSecond) {
+        WeatherSummaryDto.WeatherSummaryDtoBuilder summary = WeatherSummaryDto.builder()
+                .latitude(response.getLatitude())
+                .longitude(response.getLongitude())
+                .timezone(response.getTimezone())
+                .bucketHours(bucketHours);
+        OpenMeteoSeries hourly = response.hourly();
+        long[] times = hourly == null ? new long[0] : hourly.times();
+        int size = times.length;
+        float[] temperature = valuesOrEmpty(hourly, "temperature_2m", size);
+        float[] precipitation = valuesOrEmpty(hourly, "precipitation", size);
+        float[] probability = valuesOrEmpty(hourly, "precipitation_probability", size);
+        float[] weatherCode = valuesOrEmpty(hourly, "weather_code", size);
+        float[] windSpeed = valuesOrEmpty(hourly, "wind_speed_10m", size);
+        int offset = response.getUtcOffsetSeconds();
+
+        // 현재 시간 (now 가 예보 시작 전이면 첫 시간, 예보 끝 이후면 size → 구간/이벤트 없음)
+        int first = 0;
+        while (first < size && times[first] + SECONDS_PER_HOUR <= nowEpochSecond) {
+            first++;
+        }
+        int stripEnd = (int) Math.min(size, (long) first + hours);
+
+        List<WeatherBucketDto> buckets = new ArrayList<>(Math.max(0, stripEnd - first + bucketHours - 1) / bucketHours);
+        List<WeatherDailyDto> days = new ArrayList<>();
+        List<WeatherEventDto> events = new ArrayList<>(Math.min(maxEvents, 8));
+
+        Accumulator day = new Accumulator();
+        Accumulator bucket = new Accumulator();
+        long currentDay = Long.MIN_VALUE;
+        long bucketStart = 0;
+        int state = -1; // 직전 시간의 강수 상태 (-1: 아직 없음)
+
+        for (int i = 0; i < size; i++) {
+            float t = temperature[i], p = precipitation[i], pp = probability[i], wc = weatherCode[i], ws = windSpeed[i];
+
+            long localDay = Math.floorDiv(times[i] + offset, SECONDS_PER_DAY);
+            if (localDay != currentDay) {
+                if (currentDay != Long.MIN_VALUE) {
+                    days.add(day.toDaily(currentDay));
+                }
+                currentDay = localDay;
+                day.reset();
+            }
+            day.add(t, p, pp, wc, ws);
+
+            if (i >= first && i < stripEnd) {
+                if ((i - first) % bucketHours == 0) {
+                    if (i > first) {
+                        buckets.add(bucket.toBucket(bucketStart, times[i], offset));
+                    }
+                    bucket.reset();
+                    bucketStart = times[i];
+                }
+                bucket.add(t, p, pp, wc, ws);
+            }
+
+            if (i >= first && events.size() < maxEvents && !Float.isNaN(p)) {
+                int next = p < precipitationThreshold ? DRY : isSnow(wc) ? SNOW : RAIN;
+                if (state >= 0 && next != state) {
+                    events.add(WeatherEventDto.builder()
+                            .type(next == DRY ? WeatherEventDto.PRECIPITATION_STOP : next == SNOW ? WeatherEventDto.SNOW_START : WeatherEventDto.RAIN_START)
+                            .time(localTime(times[i], offset))
+                            .precipitation(round(p))
+                            .weatherCode(Float.isNaN(wc) ? null : (int) wc)
+                            .build());
+                }
+                state = next;
+            }
+        }
+        if (currentDay != Long.MIN_VALUE) {
+            days.add(day.toDaily(currentDay));
+        }
+        if (stripEnd > first) {
+            buckets.add(bucket.toBucket(bucketStart, times[stripEnd - 1] + SECONDS_PER_HOUR, offset));
+        }
+        return summary.buckets(buckets).days(days).events(events).build();
+    }
+
+    // WMO 눈 코드 (71~77 눈/싸락눈, 85~86 소낙눈)
+    private static boolean isSnow(float weatherCode) {
+        return weatherCode >= 71 && weatherCode <= 77 || weatherCode == 85 || weatherCode == 86;
+    }
+
+    // 배열이 없거나 길이가 다르면 값 없음(NaN)으로 채운 배열
+    private static float[] valuesOrEmpty(OpenMeteoSeries hourly, String variable, int size) {
+        float[] values = hourly == null ? null : hourly.values(variable);
+        if (values != null && values.length == size) {
+            return values;
+        }
+        float[] empty = new float[size];
+        Arrays.fill(empty, Float.NaN);
+        return empty;
+    }
+
+    // epoch seconds → 현지 시각 문자열 (Open-Meteo iso8601 표기와 같은 yyyy-MM-ddTHH:mm)
+    private static String localTime(long epochSecond, int offset) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.ofTotalSeconds(offset)).toString();
+    }
+
+    // 소수 첫째 자리 반올림 (값 없음 → null)
+    private static Double round(double value) {
+        return Double.isNaN(value) ? null : Math.round(value * 10.0) / 10.0;
+    }
+
+    // 구간/하루 누적값 (기본형 필드만 보관, 순회 동안 재사용)
+    private static final class Accumulator {
+
+        private float temperatureMin;
+        private float temperatureMax;
+        private double temperatureSum;
+        private int temperatureCount;
+        private double precipitationSum;
+        private int precipitationCount;
+        private float probabilityMax;
+        private float weatherCodeMax;
+        private float windSpeedMax;
+
+        private void reset() {
+            temperatureMin = temperatureMax = probabilityMax = weatherCodeMax = windSpeedMax = Float.NaN;
+            temperatureSum = precipitationSum = 0;
+            temperatureCount = precipitationCount = 0;
+        }
+
+        private void add(float temperature, float precipitation, float probability, float weatherCode, float windSpeed) {
+            if (!Float.isNaN(temperature)) {
+                temperatureMin = Float.isNaN(temperatureMin) ? temperature : Math.min(temperatureMin, temperature);
+                temperatureMax = Float.isNaN(temperatureMax) ? temperature : Math.max(temperatureMax, temperature);
+                temperatureSum += temperature;
+                temperatureCount++;
+            }
+            if (!Float.isNaN(precipitation)) {
+                precipitationSum += precipitation;
+                precipitationCount++;
+            }
+            probabilityMax = max(probabilityMax, probability);
+            weatherCodeMax = max(weatherCodeMax, weatherCode);
+            windSpeedMax = max(windSpeedMax, windSpeed);
+        }
+
+        private WeatherBucketDto toBucket(long from, long to, int offset) {
+            return WeatherBucketDto.builder()
+                    .from(localTime(from, offset))
+                    .to(localTime(to, offset))
+                    .temperatureMin(round(temperatureMin))
+                    .temperatureMax(round(temperatureMax))
+                    .temperatureMean(temperatureCount == 0 ? null : round(temperatureSum / temperatureCount))
+                    .precipitation(precipitationCount == 0 ? null : round(precipitationSum))
+                    .precipitationProbabilityMax(toInteger(probabilityMax))
+                    .weatherCode(toInteger(weatherCodeMax))
+                    .windSpeedMax(round(windSpeedMax))
+                    .build();
+        }
+
+        private WeatherDailyDto toDaily(long epochDay) {
+            return WeatherDailyDto.builder()
+                    .date(LocalDate.ofEpochDay(epochDay).toString())
+                    .temperatureMin(round(temperatureMin))
+                    .temperatureMax(round(temperatureMax))
+                    .precipitationSum(precipitationCount == 0 ? null : round(precipitationSum))
+                    .precipitationProbabilityMax(toInteger(probabilityMax))
+                    .weatherCode(toInteger(weatherCodeMax))
+                    .build();
+        }
+
+        private static float max(float current, float value) {
+            return Float.isNaN(value) ? current : Float.isNaN(current) ? value : Math.max(current, value);
+        }
+
+        private static Integer toInteger(float value) {
+            return Float.isNaN(value) ? null : Math.round(value);
+        }
+    }
+}
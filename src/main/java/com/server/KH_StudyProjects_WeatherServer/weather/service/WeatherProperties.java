@@ -0,0 +1,28 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예보 요약 설정
+ *
+ * application.yml 의 weather 블록과 바인딩
+ *
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "weather")
+public class WeatherProperties {
+
+    private String queryParam = "hourly=temperature_2m,precipitation,precipitation_probability,weather_code,wind_speed_10m&timezone=auto&forecast_days=7"; // 집계에 사용할 Open-Meteo 예보 조회 파라미터
+    private int defaultBucketHours = 3;          // 구간 길이 기본값 (시간)
+    private int maxBucketHours = 24;             // 구간 길이 최대값 (시간)
+    private int defaultHours = 48;               // 구간으로 나눌 기간 기본값 (시간)
+    private int maxHours = 168;                  // 구간으로 나눌 기간 최대값 (시간)
+    private int maxEvents = 5;                   // 다음 변화 이벤트 최대 건수
+    private float precipitationThreshold = 0.1f; // 강수로 판단할 시간당 강수량 (mm)
+    private boolean cacheEnabled = true;         // 격자별 요약 캐시 사용 여부
+    private long cacheMaximumSize = 10000;       // 최대 보관 건수 (격자 × 구간 길이 × 기간)
+}
@@ -0,0 +1,101 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.service;
+
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamUnavailableException;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheKey;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheProperties;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiSummaryCache;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenApiManager;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherSummaryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 예보 요약 서비스
+ *
+ * 화면마다 시간별 예보 전체를 받아 직접 묶던 것을 서버에서 한 번 집계하여
+ * N시간 구간 / 일별 최저·최고·강수 합계 / 다음 강수 변화만 전달
+ *
+ * 처리 과정:
+ * 1. 요청 좌표를 예보 캐시 격자(openmeteo.cache.weather.grid-resolution)로 스냅하여 요약 캐시 조회
+ * 2. 미적중 시 OpenApiManager.executeContext(..., "weather") 로 시간별 예보 조회 (응답 캐시/병합 공유)
+ * 3. WeatherAggregator 로 한 번 순회하여 집계 후 다음 정시(또는 원본 응답 갱신 시각)까지 캐시
+ *    (원본이 갱신 시각이 지난 stale 응답이면 캐시하지 않음 → 백그라운드 갱신 후 다음 요청에서 다시 집계)
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WeatherService {
+
+    private static final String FLAG = "weather";
+
+    private final OpenApiManager openApiManager;
+    private final OpenApiCacheProperties openApiCacheProperties;
+    private final WeatherProperties weatherProperties;
+    private final WeatherSummaryCache weatherSummaryCache;
+
+    /**
+     * 예보 요약 조회
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param bucketHours 구간 길이 (시간, null 이면 기본값)
+     * @param hours 구간으로 나눌 기간 (시간, null 이면 기본값)
+     * @return WeatherSummaryDto 구간/일별/변화 요약
+     * @throws RuntimeException 위도/경도 또는 구간 길이/기간 범위 오류
+     * @throws UpstreamUnavailableException 예보를 조회할 수 없는 경우
+     */
+    public WeatherSummaryDto getWeatherSummary(Double latitude, Double longitude, Integer bucketHours, Integer hours) {
+        log.info("예보 요약 조회: lat={}, lng={}, bucketHours={}, hours={}", latitude, longitude, bucketHours, hours);
+
+        if (latitude == null || longitude == null || Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new RuntimeException("위도/경도가 올바르지 않습니다.");
+        }
+        int bucket = bucketHours == null ? weatherProperties.getDefaultBucketHours() : bucketHours;
+        if (bucket < 1 || bucket > weatherProperties.getMaxBucketHours()) {
+            throw new RuntimeException("구간 길이는 1 ~ " + weatherProperties.getMaxBucketHours() + "시간이어야 합니다.");
+        }
+        int span = hours == null ? weatherProperties.getDefaultHours() : hours;
+        if (span < 1 || span > weatherProperties.getMaxHours()) {
+            throw new RuntimeException("조회 기간은 1 ~ " + weatherProperties.getMaxHours() + "시간이어야 합니다.");
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("latitude", latitude);
+        params.put("longitude", longitude);
+        params.put("queryParam", weatherProperties.getQueryParam());
+
+        OpenApiCacheProperties.Region region = openApiCacheProperties.region(FLAG);
+        WeatherSummaryCache.Key key = new WeatherSummaryCache.Key(OpenApiCacheKey.of(params, FLAG, region.getGridResolution()), bucket, span);
+        return weatherSummaryCache.get(key, cacheKey ->
+                summarize(cacheKey.grid() == null ? params : cacheKey.grid().toParams(), cacheKey, region));
+    }
+
+    // 시간별 예보 조회 후 집계 (만료: 다음 정시와 원본 응답 갱신 시각 중 이른 시각, stale 원본이면 캐시하지 않음)
+    private OpenApiSummaryCache.Entry<WeatherSummaryDto> summarize(Map<String, Object> params, WeatherSummaryCache.Key key, OpenApiCacheProperties.Region region) {
+        long sourceFreshUntil = openApiManager.refreshDueAt(params, FLAG);
+        OpenMeteoResponse response;
+        try {
+            response = openApiManager.executeContext(params, FLAG)
+                    .orElseThrow(() -> new UpstreamUnavailableException("예보 정보를 조회할 수 없습니다."));
+        } catch (URISyntaxException | UnsupportedEncodingException e) {
+            throw new UpstreamUnavailableException("예보 정보를 조회할 수 없습니다.", e);
+        }
+        if (sourceFreshUntil == 0) {
+            sourceFreshUntil = openApiManager.refreshDueAt(params, FLAG); // 캐시에 없어 방금 조회한 응답
+        }
+        long now = System.currentTimeMillis();
+        WeatherAggregator aggregator = new WeatherAggregator(key.bucketHours(), key.hours(),
+                weatherProperties.getMaxEvents(), weatherProperties.getPrecipitationThreshold());
+        WeatherSummaryDto summary = aggregator.aggregate(response, now / 1000);
+        return new OpenApiSummaryCache.Entry<>(summary, OpenApiSummaryCache.expiresAt(now, sourceFreshUntil, region.nextRefreshAt(now)));
+    }
+}
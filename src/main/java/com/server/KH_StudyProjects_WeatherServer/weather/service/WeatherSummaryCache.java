@@ -0,0 +1,37 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.service;
+
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheKey;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiSummaryCache;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherSummaryDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * 격자별 예보 요약 캐시
+ *
+ * 키: 예보 격자(OpenApiCacheKey) + bucketHours + hours, 메트릭: cache=weather.summary
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class WeatherSummaryCache extends OpenApiSummaryCache<WeatherSummaryCache.Key, WeatherSummaryDto> {
+
+    public WeatherSummaryCache(WeatherProperties properties) {
+        super(properties.isCacheEnabled(), properties.getCacheMaximumSize(), "weather.summary");
+    }
+
+    // 격자로 스냅할 수 없는 좌표는 캐시하지 않음
+    @Override
+    protected boolean cacheable(Key key) {
+        return key.grid() != null;
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param grid 예보 격자 (스냅된 좌표 + 조회 파라미터)
+     * @param bucketHours 구간 길이 (시간)
+     * @param hours 구간으로 나눌 기간 (시간)
+     */
+    public record Key(OpenApiCacheKey grid, int bucketHours, int hours) {
+    }
+}
@@ -0,0 +1,18 @@
+-- 부하 테스트(loadtest 프로파일)용 H2 스키마 - db/migration/V1 과 같은 구조 (H2 Oracle 호환 모드)
+
+CREATE SEQUENCE KH_WEATHER_APP.COM_FAVORITE_LOC_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
+
+CREATE TABLE KH_WEATHER_APP.COM_FAVORITE_LOCATIONS (
+    SEQ_NO               NUMBER(19)     NOT NULL,
+    DEVICE_ID            VARCHAR2(100)  NOT NULL,
+    LATITUDE             NUMBER         NOT NULL,
+    LONGITUDE            NUMBER         NOT NULL,
+    ADDRESS_NAME         VARCHAR2(500),
+    REGION_1DEPTH_NAME   VARCHAR2(100),
+    REGION_2DEPTH_NAME   VARCHAR2(100),
+    REGION_3DEPTH_NAME   VARCHAR2(100),
+    REGION_3DEPTH_H_NAME VARCHAR2(100),
+    SORT_ORDER           NUMBER(10),
+    CREATED_AT           TIMESTAMP      DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT PK_COM_FAVORITE_LOCATIONS PRIMARY KEY (SEQ_NO)
+);
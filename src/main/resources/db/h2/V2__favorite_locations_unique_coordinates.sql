@@ -0,0 +1,7 @@
+-- 부하 테스트용 H2 스키마 - db/migration/V2 와 같은 제약/인덱스 (빈 DB 이므로 중복 확인 생략)
+
+ALTER TABLE KH_WEATHER_APP.COM_FAVORITE_LOCATIONS
+    ADD CONSTRAINT UK_COM_FAV_LOC_COORD UNIQUE (DEVICE_ID, LATITUDE, LONGITUDE);
+
+CREATE INDEX KH_WEATHER_APP.IX_COM_FAV_LOC_SORT
+    ON KH_WEATHER_APP.COM_FAVORITE_LOCATIONS (DEVICE_ID, SORT_ORDER);
@@ -0,0 +1,26 @@
+-- 부하 테스트용 H2 스키마 - db/migration/V3 과 같은 버전 관리 테이블
+
+CREATE TABLE KH_WEATHER_APP.COM_FAVORITE_VERSIONS (
+    DEVICE_ID  VARCHAR2(100) NOT NULL,
+    VERSION    NUMBER(19)    NOT NULL,
+    UPDATED_AT TIMESTAMP     DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT PK_COM_FAVORITE_VERSIONS PRIMARY KEY (DEVICE_ID)
+);
+
+ALTER TABLE KH_WEATHER_APP.COM_FAVORITE_LOCATIONS ADD COLUMN ROW_VERSION NUMBER(19) DEFAULT 0 NOT NULL;
+
+CREATE INDEX KH_WEATHER_APP.IX_COM_FAV_LOC_ROW_VERSION
+    ON KH_WEATHER_APP.COM_FAVORITE_LOCATIONS (DEVICE_ID, ROW_VERSION);
+
+CREATE TABLE KH_WEATHER_APP.COM_FAVORITE_TOMBSTONES (
+    DEVICE_ID  VARCHAR2(100) NOT NULL,
+    SEQ_NO     NUMBER(19)    NOT NULL,
+    LATITUDE   NUMBER        NOT NULL,
+    LONGITUDE  NUMBER        NOT NULL,
+    VERSION    NUMBER(19)    NOT NULL,
+    DELETED_AT TIMESTAMP     DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT PK_COM_FAVORITE_TOMBSTONES PRIMARY KEY (DEVICE_ID, SEQ_NO)
+);
+
+CREATE INDEX KH_WEATHER_APP.IX_COM_FAV_TOMB_VERSION
+    ON KH_WEATHER_APP.COM_FAVORITE_TOMBSTONES (DEVICE_ID, VERSION);
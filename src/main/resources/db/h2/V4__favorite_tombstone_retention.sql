@@ -0,0 +1,6 @@
+-- 부하 테스트용 H2 스키마 - db/migration/V4 와 같은 삭제 기록 보관 기간 관리 컬럼/인덱스
+
+ALTER TABLE KH_WEATHER_APP.COM_FAVORITE_VERSIONS ADD COLUMN TOMBSTONE_PRUNED_VERSION NUMBER(19) DEFAULT 0 NOT NULL;
+
+CREATE INDEX KH_WEATHER_APP.IX_COM_FAV_TOMB_DELETED_AT
+    ON KH_WEATHER_APP.COM_FAVORITE_TOMBSTONES (DELETED_AT);
@@ -0,0 +1,13 @@
+-- 부하 테스트용 H2 스키마 - db/migration/V5 와 같은 설정 테이블
+
+CREATE TABLE KH_WEATHER_APP.COM_DEVICE_SETTINGS (
+    DEVICE_ID              VARCHAR2(100) NOT NULL,
+    TEMPERATURE_UNIT       VARCHAR2(20)  DEFAULT 'CELSIUS' NOT NULL,
+    WIND_SPEED_UNIT        VARCHAR2(20)  DEFAULT 'KMH'     NOT NULL,
+    LANGUAGE               VARCHAR2(10)  DEFAULT 'ko'      NOT NULL,
+    NOTIFICATION_ENABLED   NUMBER(1)     DEFAULT 1         NOT NULL,
+    WEATHER_ALERT_ENABLED  NUMBER(1)     DEFAULT 1         NOT NULL,
+    FINEDUST_ALERT_ENABLED NUMBER(1)     DEFAULT 1         NOT NULL,
+    UPDATED_AT             TIMESTAMP     DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT PK_COM_DEVICE_SETTINGS PRIMARY KEY (DEVICE_ID)
+);
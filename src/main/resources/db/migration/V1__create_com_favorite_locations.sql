@@ -0,0 +1,19 @@
+-- 사이드메뉴 즐겨찾기 위치 테이블 (기존 운영 스키마 기준)
+-- 이미 테이블이 있는 DB 는 baseline-version 1 로 등록되어 이 스크립트를 실행하지 않음
+
+CREATE SEQUENCE KH_WEATHER_APP.COM_FAVORITE_LOC_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
+
+CREATE TABLE KH_WEATHER_APP.COM_FAVORITE_LOCATIONS (
+    SEQ_NO               NUMBER(19)     NOT NULL,
+    DEVICE_ID            VARCHAR2(100)  NOT NULL,
+    LATITUDE             NUMBER         NOT NULL,
+    LONGITUDE            NUMBER         NOT NULL,
+    ADDRESS_NAME         VARCHAR2(500),
+    REGION_1DEPTH_NAME   VARCHAR2(100),
+    REGION_2DEPTH_NAME   VARCHAR2(100),
+    REGION_3DEPTH_NAME   VARCHAR2(100),
+    REGION_3DEPTH_H_NAME VARCHAR2(100),
+    SORT_ORDER           NUMBER(10),
+    CREATED_AT           TIMESTAMP      DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT PK_COM_FAVORITE_LOCATIONS PRIMARY KEY (SEQ_NO)
+);
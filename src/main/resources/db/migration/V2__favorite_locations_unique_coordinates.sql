@@ -0,0 +1,64 @@
+-- 디바이스별 좌표 중복 방지 유니크 제약 + 조회용 인덱스
+-- (DEVICE_ID, LATITUDE, LONGITUDE): 중복 체크/삭제/정렬 변경 조회를 인덱스만으로 처리
+-- (DEVICE_ID, SORT_ORDER): 목록 정렬 조회, 추가 시 MAX(SORT_ORDER) 계산
+
+-- 기존 중복 행 확인 (기동 중 자동 삭제하지 않음)
+-- 중복 좌표가 있으면 건수와 예시를 담아 마이그레이션을 실패시키고, 아래 정리 절차를 수동으로 수행한 뒤 다시 기동
+--
+-- [수동 정리 절차] 좌표별 가장 먼저 저장된 행(MIN(SEQ_NO))만 남기고, 삭제 대상은 백업 테이블에 보관
+--   CREATE TABLE KH_WEATHER_APP.COM_FAVORITE_LOCATIONS_DUP_BAK AS
+--   SELECT * FROM KH_WEATHER_APP.COM_FAVORITE_LOCATIONS
+--   WHERE SEQ_NO NOT IN (
+--       SELECT MIN(SEQ_NO) FROM KH_WEATHER_APP.COM_FAVORITE_LOCATIONS GROUP BY DEVICE_ID, LATITUDE, LONGITUDE
+--   );
+--
+--   DELETE FROM KH_WEATHER_APP.COM_FAVORITE_LOCATIONS
+--   WHERE SEQ_NO IN (SELECT SEQ_NO FROM KH_WEATHER_APP.COM_FAVORITE_LOCATIONS_DUP_BAK);
+--
+--   COMMIT;
+--
+-- Oracle 은 DDL 트랜잭션을 지원하지 않아 실패한 V2 가 flyway_schema_history 에 실패로 기록됨
+-- 정리 후 flyway repair (또는 flyway_schema_history 의 VERSION = '2' 실패 행 삭제) 를 실행하고 다시 기동
+-- 백업 테이블은 정리 결과 확인 후 삭제
+DECLARE
+    V_GROUPS NUMBER;
+    V_SAMPLE VARCHAR2(4000);
+BEGIN
+    SELECT COUNT(*)
+      INTO V_GROUPS
+      FROM (
+          SELECT 1
+          FROM KH_WEATHER_APP.COM_FAVORITE_LOCATIONS
+          GROUP BY DEVICE_ID, LATITUDE, LONGITUDE
+          HAVING COUNT(*) > 1
+      );
+
+    IF V_GROUPS > 0 THEN
+        SELECT LISTAGG(DEVICE_ID || ' (' || LATITUDE || ', ' || LONGITUDE || ') x' || CNT, ', ')
+                   WITHIN GROUP (ORDER BY CNT DESC, DEVICE_ID)
+          INTO V_SAMPLE
+          FROM (
+              SELECT DEVICE_ID, LATITUDE, LONGITUDE, COUNT(*) AS CNT
+              FROM KH_WEATHER_APP.COM_FAVORITE_LOCATIONS
+              GROUP BY DEVICE_ID, LATITUDE, LONGITUDE
+              HAVING COUNT(*) > 1
+              ORDER BY CNT DESC, DEVICE_ID
+              FETCH FIRST 10 ROWS ONLY
+          );
+
+        RAISE_APPLICATION_ERROR(-20001,
+            'COM_FAVORITE_LOCATIONS 에 중복 좌표 ' || V_GROUPS || '건이 있어 유니크 제약을 추가할 수 없습니다. '
+            || 'V2 마이그레이션 주석의 수동 정리 절차를 수행한 뒤 다시 기동하세요. 예: ' || SUBSTRB(V_SAMPLE, 1, 1500));
+    END IF;
+END;
+/
+
+CREATE UNIQUE INDEX KH_WEATHER_APP.UK_COM_FAV_LOC_COORD
+    ON KH_WEATHER_APP.COM_FAVORITE_LOCATIONS (DEVICE_ID, LATITUDE, LONGITUDE);
+
+ALTER TABLE KH_WEATHER_APP.COM_FAVORITE_LOCATIONS
+    ADD CONSTRAINT UK_COM_FAV_LOC_COORD UNIQUE (DEVICE_ID, LATITUDE, LONGITUDE)
+    USING INDEX KH_WEATHER_APP.UK_COM_FAV_LOC_COORD;
+
+CREATE INDEX KH_WEATHER_APP.IX_COM_FAV_LOC_SORT
+    ON KH_WEATHER_APP.COM_FAVORITE_LOCATIONS (DEVICE_ID, SORT_ORDER);
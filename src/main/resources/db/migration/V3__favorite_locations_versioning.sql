@@ -0,0 +1,29 @@
+-- 즐겨찾기 목록 버전 관리 (ETag / 변경분 동기화)
+-- COM_FAVORITE_VERSIONS: 디바이스별 목록 버전 (추가/삭제/정렬 변경 시 1 증가, 행 잠금으로 디바이스 단위 직렬화)
+-- ROW_VERSION: 행이 마지막으로 변경된 목록 버전
+-- COM_FAVORITE_TOMBSTONES: 삭제된 행 기록 (변경분 조회 시 삭제 항목 전달)
+
+CREATE TABLE KH_WEATHER_APP.COM_FAVORITE_VERSIONS (
+    DEVICE_ID  VARCHAR2(100) NOT NULL,
+    VERSION    NUMBER(19)    NOT NULL,
+    UPDATED_AT TIMESTAMP     DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT PK_COM_FAVORITE_VERSIONS PRIMARY KEY (DEVICE_ID)
+);
+
+ALTER TABLE KH_WEATHER_APP.COM_FAVORITE_LOCATIONS ADD (ROW_VERSION NUMBER(19) DEFAULT 0 NOT NULL);
+
+CREATE INDEX KH_WEATHER_APP.IX_COM_FAV_LOC_ROW_VERSION
+    ON KH_WEATHER_APP.COM_FAVORITE_LOCATIONS (DEVICE_ID, ROW_VERSION);
+
+CREATE TABLE KH_WEATHER_APP.COM_FAVORITE_TOMBSTONES (
+    DEVICE_ID  VARCHAR2(100) NOT NULL,
+    SEQ_NO     NUMBER(19)    NOT NULL,
+    LATITUDE   NUMBER        NOT NULL,
+    LONGITUDE  NUMBER        NOT NULL,
+    VERSION    NUMBER(19)    NOT NULL,
+    DELETED_AT TIMESTAMP     DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT PK_COM_FAVORITE_TOMBSTONES PRIMARY KEY (DEVICE_ID, SEQ_NO)
+);
+
+CREATE INDEX KH_WEATHER_APP.IX_COM_FAV_TOMB_VERSION
+    ON KH_WEATHER_APP.COM_FAVORITE_TOMBSTONES (DEVICE_ID, VERSION);
@@ -0,0 +1,8 @@
+-- 즐겨찾기 삭제 기록(COM_FAVORITE_TOMBSTONES) 보관 기간 관리
+-- TOMBSTONE_PRUNED_VERSION: 보관 기간이 지나 정리된 삭제 기록 중 가장 큰 목록 버전
+-- (변경분 조회의 since 가 이 값보다 작으면 삭제 항목을 빠뜨릴 수 있으므로 전체 목록으로 응답)
+
+ALTER TABLE KH_WEATHER_APP.COM_FAVORITE_VERSIONS ADD (TOMBSTONE_PRUNED_VERSION NUMBER(19) DEFAULT 0 NOT NULL);
+
+CREATE INDEX KH_WEATHER_APP.IX_COM_FAV_TOMB_DELETED_AT
+    ON KH_WEATHER_APP.COM_FAVORITE_TOMBSTONES (DELETED_AT);
@@ -0,0 +1,15 @@
+-- 디바이스별 앱 설정 (단위/언어/알림)
+-- 앱 실행 시마다 조회되고 토글 변경이 잦아 서버에서는 캐시 + 지연 일괄 저장(write-behind)으로 사용
+-- 알림 여부 컬럼은 0/1
+
+CREATE TABLE KH_WEATHER_APP.COM_DEVICE_SETTINGS (
+    DEVICE_ID              VARCHAR2(100) NOT NULL,
+    TEMPERATURE_UNIT       VARCHAR2(20)  DEFAULT 'CELSIUS' NOT NULL,
+    WIND_SPEED_UNIT        VARCHAR2(20)  DEFAULT 'KMH'     NOT NULL,
+    LANGUAGE               VARCHAR2(10)  DEFAULT 'ko'      NOT NULL,
+    NOTIFICATION_ENABLED   NUMBER(1)     DEFAULT 1         NOT NULL,
+    WEATHER_ALERT_ENABLED  NUMBER(1)     DEFAULT 1         NOT NULL,
+    FINEDUST_ALERT_ENABLED NUMBER(1)     DEFAULT 1         NOT NULL,
+    UPDATED_AT             TIMESTAMP     DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT PK_COM_DEVICE_SETTINGS PRIMARY KEY (DEVICE_ID)
+);
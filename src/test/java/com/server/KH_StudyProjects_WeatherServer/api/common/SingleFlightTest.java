@@ -0,0 +1,47 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SingleFlightTest {
+
+	@Test
+	void concurrentCallsForSameKeyShareOneExecution() throws Exception {
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			results.add(executor.submit(() -> singleFlight.execute("key", Duration.ofSeconds(5), () -> {
+				executions.incrementAndGet();
+				release.await();
+				return 42;
+			})));
+		}
+		while (singleFlight.getCollapsedCount() < 7) {
+			Thread.sleep(5);
+		}
+		release.countDown();
+
+		for (Future<Integer> result : results) {
+			assertEquals(42, result.get());
+		}
+		assertEquals(1, executions.get());
+		assertEquals(7, singleFlight.getCollapsedCount());
+		assertEquals(0, singleFlight.getInFlightCount());
+		executor.shutdown();
+	}
+
+}
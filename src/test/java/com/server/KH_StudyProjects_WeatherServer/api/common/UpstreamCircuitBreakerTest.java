@@ -0,0 +1,68 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpstreamCircuitBreakerTest {
+
+	private static final long FAST = Duration.ofMillis(50).toNanos();
+
+	private static UpstreamResilienceProperties.CircuitBreaker config(Duration openDuration) {
+		UpstreamResilienceProperties.CircuitBreaker config = new UpstreamResilienceProperties.CircuitBreaker();
+		config.setWindowSize(10);
+		config.setMinimumCalls(4);
+		config.setFailureRateThreshold(50);
+		config.setOpenDuration(openDuration);
+		config.setHalfOpenCalls(2);
+		return config;
+	}
+
+	@Test
+	void opensWhenFailureRateReachesThreshold() {
+		UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(config(Duration.ofMinutes(1)));
+
+		breaker.onResult(true, FAST);
+		breaker.onResult(false, FAST);
+		breaker.onResult(true, FAST);
+		assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.getState());
+
+		breaker.onResult(false, FAST);
+		assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquire());
+	}
+
+	@Test
+	void closesAfterSuccessfulTrialCalls() {
+		UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(config(Duration.ZERO));
+		for (int i = 0; i < 4; i++) {
+			breaker.onResult(false, FAST);
+		}
+		assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.getState());
+
+		assertTrue(breaker.tryAcquire());
+		assertTrue(breaker.tryAcquire());
+		assertFalse(breaker.tryAcquire()); // 시험 호출 수 초과
+		assertEquals(UpstreamCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+		breaker.onResult(true, FAST);
+		breaker.onResult(true, FAST);
+		assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void reopensWhenTrialCallFails() {
+		UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(config(Duration.ZERO));
+		for (int i = 0; i < 4; i++) {
+			breaker.onResult(false, FAST);
+		}
+
+		assertTrue(breaker.tryAcquire());
+		breaker.onResult(false, FAST);
+		assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.getState());
+	}
+}
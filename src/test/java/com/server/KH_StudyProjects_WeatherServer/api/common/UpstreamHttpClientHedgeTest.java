@@ -0,0 +1,174 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpstreamHttpClientHedgeTest {
+
+	private static final int MAX_CONNECTIONS = 4;
+
+	private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+	private final CountDownLatch releaseSlow = new CountDownLatch(1);
+	private ExecutorService serverExecutor;
+	private HttpServer server;
+	private UpstreamHttpClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		serverExecutor = Executors.newCachedThreadPool();
+		server.setExecutor(serverExecutor);
+		server.createContext("/", this::handle);
+		server.start();
+
+		UpstreamHttpProperties http = new UpstreamHttpProperties();
+		http.setHttp2(false);
+		http.setGzip(false);
+		http.setMaxConnectionsPerHost(MAX_CONNECTIONS);
+		http.setReadTimeout(Duration.ofSeconds(5));
+		UpstreamResilienceProperties resilience = new UpstreamResilienceProperties();
+		resilience.getHedge().setEnabled(true);
+		resilience.getHedge().setPercentile(0.5); // 첫 연결 지연이 표본에 섞여도 중앙값 기준
+		resilience.getHedge().setMinDelay(Duration.ofMillis(100));
+		resilience.getHedge().setMinSamples(3);
+		UpstreamQuotaProperties quota = new UpstreamQuotaProperties();
+		quota.setEnabled(false);
+		client = new UpstreamHttpClient(http, resilience, new UpstreamQuotaGovernor(quota), new StandardEnvironment());
+	}
+
+	@AfterEach
+	void tearDown() {
+		releaseSlow.countDown();
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	// /fast: 즉시 200, /slow: 첫 요청은 releaseSlow 까지 대기 후 200, 이후 즉시 200
+	// /slow-then-error: 첫 요청은 1초 후 200, 이후 즉시 503
+	private void handle(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		int attempt = attempts.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+		try {
+			switch (path) {
+				case "/slow" -> {
+					if (attempt == 1) {
+						releaseSlow.await(5, TimeUnit.SECONDS);
+						respond(exchange, 200, "primary");
+					} else {
+						respond(exchange, 200, "hedge");
+					}
+				}
+				case "/slow-then-error" -> {
+					if (attempt == 1) {
+						Thread.sleep(1000);
+						respond(exchange, 200, "primary");
+					} else {
+						respond(exchange, 503, "unavailable");
+					}
+				}
+				default -> respond(exchange, 200, "fast");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			// 취소된 요청의 연결은 이미 닫혀 있음
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+	}
+
+	private static String body(UpstreamResponse response) {
+		return new String(response.getBody(), StandardCharsets.UTF_8);
+	}
+
+	// 헤지 대기 시간 계산에 필요한 지연 표본 (로컬 응답은 minDelay 보다 빠름 → 헤지 대기 100ms)
+	private void warmUp() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			assertEquals("fast", body(client.get(uri("/fast"))));
+		}
+		assertEquals(0L, client.getHedgeCount());
+	}
+
+	@Test
+	void hedgeIsSentAfterDelayAndFirstSuccessWins() throws Exception {
+		warmUp();
+
+		long start = System.nanoTime();
+		UpstreamResponse response = client.get(uri("/slow"));
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertEquals("hedge", body(response));
+		assertEquals(1L, client.getHedgeCount());
+		assertEquals(2, attempts.get("/slow").get());
+		assertTrue(elapsedMillis >= 100, "헤지는 대기 시간 이후에 전송: " + elapsedMillis + "ms");
+		assertTrue(elapsedMillis < 2000, "느린 첫 요청을 기다리지 않음: " + elapsedMillis + "ms");
+	}
+
+	@Test
+	void noHedgeWhenPrimaryAnswersWithinDelay() throws Exception {
+		warmUp();
+
+		assertEquals("fast", body(client.get(uri("/fast"))));
+		assertEquals(0L, client.getHedgeCount());
+		assertEquals(4, attempts.get("/fast").get());
+	}
+
+	@Test
+	void losingRequestIsCancelledAndPermitReleased() throws Exception {
+		warmUp();
+
+		assertEquals("hedge", body(client.get(uri("/slow"))));
+
+		// 느린 첫 요청은 응답 전에 취소 → 두 요청의 슬롯 모두 반환
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+		while (client.availablePermits("127.0.0.1") < MAX_CONNECTIONS && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(MAX_CONNECTIONS, client.availablePermits("127.0.0.1"));
+		// 취소는 실패로 집계하지 않음
+		assertEquals("CLOSED", client.getCircuitStates().get("127.0.0.1"));
+	}
+
+	@Test
+	void failedHedgeFallsBackToPrimary() throws Exception {
+		warmUp();
+
+		UpstreamResponse response = client.get(uri("/slow-then-error"));
+
+		assertEquals(200, response.getStatusCode());
+		assertEquals("primary", body(response));
+		assertEquals(1L, client.getHedgeCount());
+	}
+}
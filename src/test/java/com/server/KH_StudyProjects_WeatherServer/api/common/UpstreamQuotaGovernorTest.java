@@ -0,0 +1,63 @@
+package com.server.KH_StudyProjects_WeatherServer.api.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpstreamQuotaGovernorTest {
+
+	private final AtomicLong now = new AtomicLong();
+
+	private UpstreamQuotaGovernor governor(long perMinute) {
+		UpstreamQuotaProperties properties = new UpstreamQuotaProperties();
+		properties.setPerMinute(perMinute);
+		properties.setPerHour(0);
+		properties.setPerDay(0);
+		properties.setBackgroundReserve(0.5);
+		properties.setInteractiveMaxWait(Duration.ZERO);
+		return new UpstreamQuotaGovernor(properties, now::get);
+	}
+
+	@Test
+	void backgroundCallsLeaveReserveForInteractiveCalls() throws Exception {
+		UpstreamQuotaGovernor governor = governor(10);
+
+		for (int i = 0; i < 5; i++) {
+			assertTrue(governor.tryAcquire(UpstreamPriority.PREFETCH, 1));
+		}
+		assertFalse(governor.tryAcquire(UpstreamPriority.PREFETCH, 1)); // 남은 5건은 사용자 요청용
+		assertFalse(governor.tryAcquire(UpstreamPriority.BATCH, 1));
+
+		for (int i = 0; i < 5; i++) {
+			governor.acquire(UpstreamPriority.INTERACTIVE, 1);
+		}
+		assertThrows(UpstreamUnavailableException.class, () -> governor.acquire(UpstreamPriority.INTERACTIVE, 1));
+		assertEquals(1L, governor.getRejectedCounts().get("INTERACTIVE"));
+		assertEquals(0L, governor.getRemaining().get("minute"));
+	}
+
+	@Test
+	void tokensRefillOverTheWindow() {
+		UpstreamQuotaGovernor governor = governor(60);
+		assertTrue(governor.tryAcquire(UpstreamPriority.INTERACTIVE, 60));
+		assertFalse(governor.tryAcquire(UpstreamPriority.INTERACTIVE, 1));
+
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+		assertEquals(10L, governor.getRemaining().get("minute"));
+		assertTrue(governor.tryAcquire(UpstreamPriority.INTERACTIVE, 10));
+	}
+
+	@Test
+	void multiLocationCallConsumesOneTokenPerLocation() {
+		UpstreamQuotaGovernor governor = governor(100);
+		assertTrue(governor.tryAcquire(UpstreamPriority.BATCH, 30));
+		assertEquals(70L, governor.getRemaining().get("minute"));
+		assertFalse(governor.tryAcquire(UpstreamPriority.BATCH, 30)); // 예약분(50) 침범
+	}
+}
@@ -0,0 +1,28 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class OpenApiCacheEntryTest {
+
+	private static OpenApiPayload payload(String body) {
+		return new OpenApiPayload(body.getBytes(StandardCharsets.UTF_8), false, "weather");
+	}
+
+	@Test
+	void eTagDependsOnlyOnModelRun() {
+		long freshUntil = 1_800_000_000_000L;
+		// 다른 서버/재조회로 조회 시각과 본문(generationtime_ms 등)이 달라도 같은 모델 갱신 구간이면 같은 ETag
+		OpenApiCacheEntry first = new OpenApiCacheEntry(payload("a"), freshUntil - 60_000, freshUntil, freshUntil + 3_600_000, false);
+		OpenApiCacheEntry refetched = new OpenApiCacheEntry(payload("b"), freshUntil - 1_000, freshUntil, freshUntil + 3_600_000, true);
+		OpenApiCacheEntry nextRun = new OpenApiCacheEntry(payload("a"), freshUntil + 1_000, freshUntil + 3_600_000, freshUntil + 7_200_000, false);
+
+		assertEquals(first.getETag(), refetched.getETag());
+		assertNotEquals(first.getETag(), nextRun.getETag());
+		assertEquals("W/\"" + Long.toString(freshUntil, 36) + "\"", first.getETag());
+	}
+}
@@ -0,0 +1,30 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OpenApiCacheKeyTest {
+
+	@Test
+	void nearbyCoordinatesAndReorderedParamsShareKey() {
+		OpenApiCacheKey a = OpenApiCacheKey.of(Map.of("latitude", 37.5665, "longitude", 126.978,
+				"queryParam", "timezone=auto&hourly=temperature_2m,precipitation"), "weather", 0.02);
+		OpenApiCacheKey b = OpenApiCacheKey.of(Map.of("latitude", "37.5659", "longitude", "126.9801",
+				"queryParam", "hourly=precipitation,temperature_2m&timezone=auto"), "weather", 0.02);
+
+		assertEquals(a, b);
+		assertEquals(37.56, a.getLatitude());
+		assertEquals(126.98, a.getLongitude());
+		assertEquals("hourly=precipitation,temperature_2m&timezone=auto", a.getQueryParam());
+	}
+
+	@Test
+	void invalidCoordinatesAreNotCacheable() {
+		assertNull(OpenApiCacheKey.of(Map.of("latitude", "abc", "longitude", 126.978), "weather", 0.02));
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OpenApiSummaryCacheTest {
+
+	private static final class TestSummaryCache extends OpenApiSummaryCache<String, String> {
+
+		private TestSummaryCache() {
+			super(true, 100, "test.summary");
+		}
+	}
+
+	private final TestSummaryCache cache = new TestSummaryCache();
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private OpenApiSummaryCache.Entry<String> load(String key, long expiresAt) {
+		loads.incrementAndGet();
+		return new OpenApiSummaryCache.Entry<>(key + "-summary", expiresAt);
+	}
+
+	@Test
+	void cachedSummaryIsReturnedUntilExpiresAt() {
+		long future = System.currentTimeMillis() + 60_000;
+
+		assertEquals("a-summary", cache.get("a", key -> load(key, future)));
+		assertEquals("a-summary", cache.get("a", key -> load(key, future)));
+		assertEquals(1, loads.get());
+
+		cache.get("b", key -> load(key, System.currentTimeMillis() - 1));
+		cache.get("b", key -> load(key, System.currentTimeMillis() - 1));
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	void failedLoadIsNotCached() {
+		assertThrows(IllegalStateException.class, () -> cache.get("a", key -> {
+			throw new IllegalStateException("upstream");
+		}));
+
+		assertEquals("a-summary", cache.get("a", key -> load(key, System.currentTimeMillis() + 60_000)));
+	}
+
+	@Test
+	void slowLoaderDoesNotBlockOtherRequestsForSameKey() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> cache.get("a", key -> {
+			loading.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return load(key, System.currentTimeMillis() + 60_000);
+		}));
+		loading.await(5, TimeUnit.SECONDS);
+
+		// 업스트림 대기 중인 loader 가 캐시 내부 잠금을 잡고 있지 않음
+		String other = CompletableFuture.supplyAsync(() -> cache.get("a", key -> load(key, System.currentTimeMillis() + 60_000)))
+				.get(1, TimeUnit.SECONDS);
+		release.countDown();
+
+		assertEquals("a-summary", other);
+		assertEquals("a-summary", slow.get(5, TimeUnit.SECONDS));
+	}
+}
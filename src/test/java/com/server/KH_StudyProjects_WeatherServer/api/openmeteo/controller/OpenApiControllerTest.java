@@ -0,0 +1,30 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.controller;
+
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenApiSelection;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OpenApiControllerTest {
+
+	@Test
+	void queryValuesAreReEncodedButListSeparatorsAreKept() {
+		// @RequestParam 으로 받은 값은 이미 디코딩된 상태
+		Map<String, String> query = new TreeMap<>(Map.of(
+				"timezone", "Asia/Seoul",
+				"hourly", "temperature_2m,weather_code",
+				"models", "a&past_days=92"));
+
+		String queryParam = OpenApiController.toQueryParam(query);
+
+		assertEquals("hourly=temperature_2m,weather_code&models=a%26past_days%3D92&timezone=Asia%2FSeoul", queryParam);
+		// 값 안의 & = 가 별도 파라미터(past_days)로 끼어들지 않음
+		OpenApiSelection selection = OpenApiSelection.parse(queryParam);
+		assertEquals(Map.of("hourly", List.of("temperature_2m", "weather_code")), selection.getSections());
+		assertEquals("models=a%26past_days%3D92&timezone=Asia%2FSeoul", selection.getShapeQuery());
+	}
+}
@@ -0,0 +1,133 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORParser;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenMeteoResponseParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenMeteoResponseSerializerTest {
+
+	private static final String FORECAST = """
+			{"latitude":37.56,"longitude":126.98,"generationtime_ms":0.05,"utc_offset_seconds":32400,
+			"timezone":"Asia/Seoul","timezone_abbreviation":"KST","elevation":38.0,
+			"current_units":{"time":"iso8601","interval":"seconds","temperature_2m":"°C"},
+			"current":{"time":"2025-04-13T09:00","interval":900,"temperature_2m":12.3},
+			"hourly_units":{"time":"iso8601","temperature_2m":"°C","weather_code":"wmo code"},
+			"hourly":{"time":["2025-04-13T00:00","2025-04-13T01:00","2025-04-13T02:00"],
+			"temperature_2m":[10.5,null,-3.25],"weather_code":[3,61,0]}}
+			""";
+
+	private static final int TAG_SINT64_LE = 79;
+	private static final int TAG_FLOAT32_LE = 85;
+
+	private final ObjectMapper jsonMapper = new ObjectMapper();
+	private final CBORMapper cborMapper = new CBORMapper();
+	private final OpenMeteoResponseParser parser = new OpenMeteoResponseParser(jsonMapper);
+
+	private record Packed(int tag, byte[] bytes) {
+	}
+
+	@Test
+	void cborColumnsRoundTripToJsonValues() throws Exception {
+		OpenMeteoResponse response = parser.parse(new ByteArrayInputStream(FORECAST.getBytes(StandardCharsets.UTF_8)), "weather");
+		JsonNode json = jsonMapper.readTree(jsonMapper.writeValueAsBytes(response));
+		byte[] cbor = cborMapper.writeValueAsBytes(response);
+		Map<String, Packed> hourly = packedColumns(cbor, "hourly");
+
+		assertEquals(List.of("time", "temperature_2m", "weather_code"), List.copyOf(hourly.keySet()));
+
+		// 시각 열: sint64 little-endian epoch seconds (JSON 은 현지 시각 문자열)
+		assertEquals(TAG_SINT64_LE, hourly.get("time").tag());
+		long[] times = longs(hourly.get("time").bytes());
+		JsonNode jsonTimes = json.at("/hourly/time");
+		assertEquals(jsonTimes.size(), times.length);
+		for (int i = 0; i < times.length; i++) {
+			long expected = LocalDateTime.parse(jsonTimes.get(i).asText()).toEpochSecond(ZoneOffset.ofTotalSeconds(32400));
+			assertEquals(expected, times[i]);
+		}
+
+		// 수치 열: float32 little-endian, JSON null 은 NaN
+		for (String variable : List.of("temperature_2m", "weather_code")) {
+			assertEquals(TAG_FLOAT32_LE, hourly.get(variable).tag());
+			float[] values = floats(hourly.get(variable).bytes());
+			JsonNode jsonValues = json.at("/hourly/" + variable);
+			assertEquals(jsonValues.size(), values.length);
+			for (int i = 0; i < values.length; i++) {
+				if (jsonValues.get(i).isNull()) {
+					assertTrue(Float.isNaN(values[i]));
+				} else {
+					assertEquals(jsonValues.get(i).floatValue(), values[i]);
+				}
+			}
+		}
+	}
+
+	@Test
+	void cborReportsPackedTimeAsUnixtimeAndKeepsScalarsUnpacked() throws Exception {
+		OpenMeteoResponse response = parser.parse(new ByteArrayInputStream(FORECAST.getBytes(StandardCharsets.UTF_8)), "weather");
+		JsonNode json = jsonMapper.readTree(jsonMapper.writeValueAsBytes(response));
+		JsonNode cbor = cborMapper.readTree(cborMapper.writeValueAsBytes(response));
+
+		assertEquals("iso8601", json.at("/hourly_units/time").asText());
+		assertEquals("unixtime", cbor.at("/hourly_units/time").asText());
+		assertEquals("°C", cbor.at("/hourly_units/temperature_2m").asText());
+
+		// current 는 배열이 아닌 단일 값 → typed array 없이 값 그대로
+		assertEquals("unixtime", cbor.at("/current_units/time").asText());
+		assertEquals(1744502400L, cbor.at("/current/time").asLong()); // 2025-04-13T09:00+09:00
+		assertEquals(900, cbor.at("/current/interval").asInt());
+		assertEquals(json.at("/current/temperature_2m").floatValue(), cbor.at("/current/temperature_2m").floatValue());
+		assertEquals(json.at("/latitude").doubleValue(), cbor.at("/latitude").doubleValue());
+		assertEquals("Asia/Seoul", cbor.at("/timezone").asText());
+	}
+
+	// section 블록의 열별 태그 + 바이트 문자열
+	private Map<String, Packed> packedColumns(byte[] cbor, String section) throws IOException {
+		Map<String, Packed> columns = new LinkedHashMap<>();
+		try (CBORParser cborParser = cborMapper.getFactory().createParser(cbor)) {
+			cborParser.nextToken(); // 최상위 START_OBJECT
+			String field;
+			while ((field = cborParser.nextFieldName()) != null) {
+				cborParser.nextToken();
+				if (!section.equals(field)) {
+					cborParser.skipChildren();
+					continue;
+				}
+				String column;
+				while ((column = cborParser.nextFieldName()) != null) {
+					cborParser.nextToken();
+					columns.put(column, new Packed(cborParser.getCurrentTag(), cborParser.getBinaryValue()));
+				}
+			}
+		}
+		return columns;
+	}
+
+	private static long[] longs(byte[] bytes) {
+		long[] values = new long[bytes.length / Long.BYTES];
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(values);
+		return values;
+	}
+
+	private static float[] floats(byte[] bytes) {
+		float[] values = new float[bytes.length / Float.BYTES];
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(values);
+		return values;
+	}
+}
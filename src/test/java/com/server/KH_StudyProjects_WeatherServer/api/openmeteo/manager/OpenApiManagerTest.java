@@ -0,0 +1,229 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamHttpClient;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamHttpProperties;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamPriority;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamQuotaGovernor;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamQuotaProperties;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamResilienceProperties;
+import com.server.KH_StudyProjects_WeatherServer.api.common.UpstreamTaskExecutor;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheKey;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheProperties;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiPayload;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiResponseCache;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenApiManagerTest {
+
+	private final AtomicInteger upstreamCalls = new AtomicInteger();
+	private final CountDownLatch releaseUpstream = new CountDownLatch(1);
+	private ExecutorService serverExecutor;
+	private HttpServer server;
+	private UpstreamHttpProperties http;
+	private StandardEnvironment environment;
+	private UpstreamTaskExecutor upstreamTaskExecutor;
+	private OpenApiResponseCache cache;
+	private OpenApiManager manager;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		serverExecutor = Executors.newCachedThreadPool();
+		server.setExecutor(serverExecutor);
+		server.createContext("/", this::handle);
+		server.start();
+
+		http = new UpstreamHttpProperties();
+		http.setHttp2(false);
+		http.setGzip(false);
+		environment = new StandardEnvironment();
+		upstreamTaskExecutor = new UpstreamTaskExecutor(http, environment);
+
+		// 200ms 마다 갱신 시각이 돌아오는 영역 → 저장한 항목이 곧 stale 이 됨
+		OpenApiCacheProperties cacheProperties = new OpenApiCacheProperties();
+		cacheProperties.setWeather(new OpenApiCacheProperties.Region(0.02, Duration.ofMillis(200), Duration.ZERO));
+		cacheProperties.setStaleTtl(Duration.ofHours(1));
+		cache = new OpenApiResponseCache(cacheProperties);
+
+		UpstreamQuotaProperties quota = new UpstreamQuotaProperties();
+		quota.setEnabled(false);
+		manager = newManager(new UpstreamQuotaGovernor(quota));
+	}
+
+	private OpenApiManager newManager(UpstreamQuotaGovernor governor) {
+		return newManager(governor, new OpenApiSupersetProperties());
+	}
+
+	private OpenApiManager newManager(UpstreamQuotaGovernor governor, OpenApiSupersetProperties superset) {
+		UpstreamHttpClient client = new UpstreamHttpClient(http, new UpstreamResilienceProperties(), governor, environment);
+		OpenApiEndpointProperties endpoints = new OpenApiEndpointProperties();
+		endpoints.setWeatherBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+		ObjectMapper objectMapper = new ObjectMapper();
+		return new OpenApiManager(client, http, upstreamTaskExecutor, governor, endpoints,
+				new OpenApiBatchProperties(), superset, cache,
+				new OpenMeteoResponseParser(objectMapper), objectMapper, ObservationRegistry.NOOP);
+	}
+
+	@AfterEach
+	void tearDown() {
+		releaseUpstream.countDown();
+		upstreamTaskExecutor.shutdown();
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	// 호출 순번을 본문으로 응답 (releaseUpstream 전까지 응답 보류)
+	private void handle(HttpExchange exchange) throws IOException {
+		int call = upstreamCalls.incrementAndGet();
+		try {
+			releaseUpstream.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		byte[] body = ("fetched-" + call).getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	private static Map<String, Object> params() {
+		Map<String, Object> params = new HashMap<>();
+		params.put("latitude", 37.5665);
+		params.put("longitude", 126.978);
+		params.put("queryParam", "hourly=temperature_2m&timezone=auto");
+		return params;
+	}
+
+	private static String body(OpenApiPayload payload) {
+		return new String(payload.getRawBody(), StandardCharsets.UTF_8);
+	}
+
+	private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertTrue(condition.getAsBoolean());
+	}
+
+	@Test
+	void staleEntryIsServedWhileRevalidationIsInFlight() throws Exception {
+		OpenApiCacheKey key = cache.keyOf(params(), "weather");
+		cache.put(key, new OpenApiPayload("cached".getBytes(StandardCharsets.UTF_8), false, "weather"));
+		awaitTrue(() -> !cache.peekEntry(key).isFresh());
+
+		long start = System.nanoTime();
+		Optional<OpenApiPayload> first = manager.executePayload(params(), "weather");
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertEquals("cached", body(first.orElseThrow()));
+		assertTrue(elapsedMillis < 1000, "갱신 응답을 기다리지 않음: " + elapsedMillis + "ms");
+
+		// 백그라운드 갱신이 업스트림에서 대기 중인 동안에도 stale 항목으로 응답, 갱신은 한 번만
+		awaitTrue(() -> upstreamCalls.get() == 1);
+		assertEquals("cached", body(manager.executePayload(params(), "weather").orElseThrow()));
+		Thread.sleep(100);
+		assertEquals(1, upstreamCalls.get());
+
+		releaseUpstream.countDown();
+		awaitTrue(() -> "fetched-1".equals(body(cache.peekEntry(key).getPayload())));
+	}
+
+	@Test
+	void missIsFetchedOnceAndCached() throws Exception {
+		releaseUpstream.countDown();
+		OpenApiCacheKey key = cache.keyOf(params(), "weather");
+
+		assertEquals("fetched-1", body(manager.executePayload(params(), "weather").orElseThrow()));
+		assertEquals(1, upstreamCalls.get());
+		assertEquals("fetched-1", body(cache.peekEntry(key).getPayload()));
+	}
+
+	@Test
+	void interactiveFollowerRetriesWithOwnPriorityWhenPrefetchLeaderIsRejected() throws Exception {
+		releaseUpstream.countDown();
+		UpstreamQuotaProperties quota = new UpstreamQuotaProperties();
+		quota.setPerMinute(60); // 초당 1건 충전
+		quota.setPerHour(0);
+		quota.setPerDay(0);
+		quota.setBackgroundReserve(0.5);
+		quota.setInteractiveMaxWait(Duration.ofSeconds(5));
+		quota.setPrefetchMaxWait(Duration.ofMillis(400));
+		UpstreamQuotaGovernor governor = new UpstreamQuotaGovernor(quota);
+		OpenApiManager quotaManager = newManager(governor);
+
+		// 한도를 모두 쓰고 사용자 요청 하나를 한도 대기 상태로 둠 → 선조회는 대기 시간 동안 양보하다 거절됨
+		assertTrue(governor.tryAcquire(UpstreamPriority.INTERACTIVE, 60));
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		try {
+			callers.submit(() -> {
+				governor.acquire(UpstreamPriority.INTERACTIVE, 1);
+				return null;
+			});
+			Thread.sleep(50);
+			Future<OpenApiManager.PrefetchResult> prefetch = callers.submit(() -> quotaManager.prefetch(params(), "weather"));
+			awaitTrue(() -> quotaManager.getInFlightCount() == 1);
+
+			// 선조회 leader 에 병합된 사용자 요청은 선조회의 거절을 공유하지 않고 자신의 우선순위로 다시 호출
+			Optional<OpenApiPayload> payload = quotaManager.executePayload(params(), "weather");
+
+			assertEquals(OpenApiManager.PrefetchResult.FAILED, prefetch.get(5, TimeUnit.SECONDS));
+			assertEquals("fetched-1", body(payload.orElseThrow()));
+			assertEquals(1, upstreamCalls.get());
+			assertEquals(1L, governor.getRejectedCounts().get("PREFETCH"));
+			assertEquals(0L, governor.getRejectedCounts().get("INTERACTIVE"));
+		} finally {
+			callers.shutdownNow();
+		}
+	}
+
+	@Test
+	void supersetIsUsedOnlyForRequestsItCanSlice() {
+		OpenApiSupersetProperties superset = new OpenApiSupersetProperties();
+		superset.setEnabled(true);
+		superset.getWeather().setHourly(List.of("temperature_2m", "weather_code"));
+		UpstreamQuotaProperties quota = new UpstreamQuotaProperties();
+		quota.setEnabled(false);
+		OpenApiManager supersetManager = newManager(new UpstreamQuotaGovernor(quota), superset);
+
+		Map<String, Object> sliced = params();
+		sliced.put("queryParam", "hourly=weather_code&forecast_days=3&timezone=auto");
+		assertEquals(3, supersetManager.planSuperset(sliced, "weather").getForecastDays());
+
+		// past_days 등 잘라낼 수 없는 요청은 선택 정보 없음 → executeContext 가 요청 그대로 조회
+		Map<String, Object> pastDays = params();
+		pastDays.put("queryParam", "hourly=weather_code&past_days=2&timezone=auto");
+		assertNull(supersetManager.planSuperset(pastDays, "weather"));
+		assertNull(supersetManager.planSuperset(sliced, "airPollution"));
+		assertNull(manager.planSuperset(sliced, "weather")); // 상위 집합 조회 비활성화
+	}
+}
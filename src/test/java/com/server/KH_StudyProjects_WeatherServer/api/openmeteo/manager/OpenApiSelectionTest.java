@@ -0,0 +1,160 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoColumn;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoSeries;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenApiSelectionTest {
+
+	private static final int SUPERSET_DAYS = 7;
+
+	private final OpenMeteoResponseParser parser = new OpenMeteoResponseParser(new ObjectMapper());
+
+	private static OpenApiSupersetProperties.Superset superset() {
+		OpenApiSupersetProperties.Superset superset = new OpenApiSupersetProperties.Superset(SUPERSET_DAYS);
+		superset.setCurrent(List.of("temperature_2m", "weather_code"));
+		superset.setHourly(List.of("temperature_2m", "precipitation", "weather_code"));
+		superset.setDaily(List.of("weather_code", "temperature_2m_max", "sunrise"));
+		return superset;
+	}
+
+	// 7일 상위 집합 응답 (hourly 168건, daily 7건, current 1건 + interval)
+	private static String supersetJson() {
+		LocalDateTime start = LocalDateTime.of(2025, 4, 13, 0, 0);
+		StringBuilder hourlyTime = new StringBuilder();
+		StringBuilder temperature = new StringBuilder();
+		StringBuilder precipitation = new StringBuilder();
+		StringBuilder code = new StringBuilder();
+		for (int i = 0; i < SUPERSET_DAYS * 24; i++) {
+			String separator = i == 0 ? "" : ",";
+			hourlyTime.append(separator).append('"').append(start.plusHours(i)).append('"');
+			temperature.append(separator).append(10 + i % 24 * 0.5);
+			precipitation.append(separator).append(i % 5 == 0 ? "null" : "0.1");
+			code.append(separator).append(i % 4);
+		}
+		StringBuilder dailyTime = new StringBuilder();
+		StringBuilder dailyCode = new StringBuilder();
+		StringBuilder max = new StringBuilder();
+		StringBuilder sunrise = new StringBuilder();
+		for (int d = 0; d < SUPERSET_DAYS; d++) {
+			String separator = d == 0 ? "" : ",";
+			LocalDate day = start.toLocalDate().plusDays(d);
+			dailyTime.append(separator).append('"').append(day).append('"');
+			dailyCode.append(separator).append(d % 3);
+			max.append(separator).append(20 + d);
+			sunrise.append(separator).append('"').append(day.atTime(5, 58)).append('"');
+		}
+		return "{\"latitude\":37.56,\"longitude\":126.98,\"generationtime_ms\":0.05,\"utc_offset_seconds\":32400,"
+				+ "\"timezone\":\"Asia/Seoul\",\"timezone_abbreviation\":\"KST\",\"elevation\":38.0,"
+				+ "\"current_units\":{\"time\":\"iso8601\",\"interval\":\"seconds\",\"temperature_2m\":\"°C\",\"weather_code\":\"wmo code\"},"
+				+ "\"current\":{\"time\":\"2025-04-13T09:00\",\"interval\":900,\"temperature_2m\":12.3,\"weather_code\":3},"
+				+ "\"hourly_units\":{\"time\":\"iso8601\",\"temperature_2m\":\"°C\",\"precipitation\":\"mm\",\"weather_code\":\"wmo code\"},"
+				+ "\"hourly\":{\"time\":[" + hourlyTime + "],\"temperature_2m\":[" + temperature + "],"
+				+ "\"precipitation\":[" + precipitation + "],\"weather_code\":[" + code + "]},"
+				+ "\"daily_units\":{\"time\":\"iso8601\",\"weather_code\":\"wmo code\",\"temperature_2m_max\":\"°C\",\"sunrise\":\"iso8601\"},"
+				+ "\"daily\":{\"time\":[" + dailyTime + "],\"weather_code\":[" + dailyCode + "],"
+				+ "\"temperature_2m_max\":[" + max + "],\"sunrise\":[" + sunrise + "]}}";
+	}
+
+	private OpenMeteoResponse parseSuperset() throws Exception {
+		return parser.parse(new ByteArrayInputStream(supersetJson().getBytes(StandardCharsets.UTF_8)), "weather");
+	}
+
+	private static List<String> names(OpenMeteoSeries series) {
+		return series.getColumns().stream().map(OpenMeteoColumn::getName).toList();
+	}
+
+	@Test
+	void parseSplitsSelectionFromShapeParameters() {
+		OpenApiSelection selection = OpenApiSelection.parse(
+				"timezone=Asia%2FSeoul&hourly=weather_code,temperature_2m&forecast_days=3&daily=temperature_2m_max&wind_speed_unit=ms");
+
+		assertNotNull(selection);
+		assertEquals(Map.of("hourly", List.of("weather_code", "temperature_2m"), "daily", List.of("temperature_2m_max")),
+				selection.getSections());
+		assertEquals(3, selection.getForecastDays());
+		assertEquals("timezone=Asia%2FSeoul&wind_speed_unit=ms", selection.getShapeQuery());
+		assertTrue(superset().covers(selection));
+
+		// 상위 집합 조회는 형태 파라미터 + 상위 집합 변수 + 상위 집합 기간
+		String supersetQuery = superset().toQueryParam(selection.getShapeQuery());
+		assertTrue(supersetQuery.startsWith("timezone=Asia%2FSeoul&wind_speed_unit=ms&"));
+		assertTrue(supersetQuery.contains("hourly=temperature_2m,precipitation,weather_code"));
+		assertTrue(supersetQuery.endsWith("&forecast_days=" + SUPERSET_DAYS));
+	}
+
+	@Test
+	void slicesSevenDaySupersetToRequestedDaysAndVariables() throws Exception {
+		OpenApiSelection selection = OpenApiSelection.parse(
+				"current=temperature_2m&hourly=weather_code,temperature_2m&daily=temperature_2m_max,sunrise&forecast_days=3");
+		OpenMeteoResponse superset = parseSuperset();
+
+		OpenMeteoResponse selected = superset.select(selection.getSections(), selection.forecastDaysOr(SUPERSET_DAYS));
+
+		OpenMeteoSeries hourly = selected.hourly();
+		assertEquals(72, hourly.size());
+		assertEquals(List.of("weather_code", "temperature_2m"), names(hourly)); // 요청 순서
+		hourly.getColumns().forEach(column -> assertEquals(72, column.size()));
+		assertArrayEquals(Arrays.copyOf(superset.hourly().times(), 72), hourly.times());
+		assertEquals(Map.of("time", "iso8601", "weather_code", "wmo code", "temperature_2m", "°C"), hourly.getUnits());
+
+		// daily 시각은 현지 자정 → 시작 시각 + 3일 전까지 3건
+		OpenMeteoSeries daily = selected.daily();
+		assertEquals(3, daily.size());
+		assertEquals(List.of("temperature_2m_max", "sunrise"), names(daily));
+		assertArrayEquals(new float[]{20f, 21f, 22f}, daily.values("temperature_2m_max"));
+		assertTrue(daily.column("sunrise").isTime());
+		assertEquals(Map.of("time", "iso8601", "temperature_2m_max", "°C", "sunrise", "iso8601"), daily.getUnits());
+
+		// 요청하지 않은 변수/블록은 제외, current 의 interval 은 요청하지 않아도 유지
+		assertNull(selected.section(OpenMeteoResponse.MINUTELY_15));
+		OpenMeteoSeries current = selected.current();
+		assertEquals(List.of("interval", "temperature_2m"), names(current));
+		assertEquals(900f, current.values("interval")[0]);
+		assertEquals(12.3f, selected.currentValue("temperature_2m"));
+		assertEquals(Map.of("time", "iso8601", "interval", "seconds", "temperature_2m", "°C"), current.getUnits());
+	}
+
+	@Test
+	void missingForecastDaysUsesDefaultAndKeepsWholeSuperset() throws Exception {
+		OpenApiSelection selection = OpenApiSelection.parse("hourly=precipitation");
+
+		OpenMeteoResponse selected = parseSuperset().select(selection.getSections(), selection.forecastDaysOr(SUPERSET_DAYS));
+
+		assertNull(selection.getForecastDays());
+		assertEquals(SUPERSET_DAYS * 24, selected.hourly().size());
+		assertTrue(Float.isNaN(selected.hourly().values("precipitation")[0]));
+		assertNull(selected.daily());
+	}
+
+	@Test
+	void periodsOutsideSupersetFallBackToUnmodifiedRequest() {
+		// 상위 집합에서 잘라낼 수 없는 기간 파라미터 → 선택 정보 없음 (요청 그대로 조회)
+		assertNull(OpenApiSelection.parse("hourly=temperature_2m&past_days=2"));
+		assertNull(OpenApiSelection.parse("hourly=temperature_2m&start_date=2025-04-13&end_date=2025-04-14"));
+		assertNull(OpenApiSelection.parse("hourly=temperature_2m&forecast_days=abc"));
+		assertNull(OpenApiSelection.parse("timezone=auto"));
+
+		// 상위 집합보다 긴 기간이나 상위 집합에 없는 변수
+		assertFalse(superset().covers(OpenApiSelection.parse("hourly=temperature_2m&forecast_days=10")));
+		assertFalse(superset().covers(OpenApiSelection.parse("hourly=temperature_2m&forecast_days=0")));
+		assertFalse(superset().covers(OpenApiSelection.parse("hourly=snowfall")));
+	}
+}
@@ -0,0 +1,91 @@
+package com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoForecast;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoSeries;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenMeteoResponseParserTest {
+
+	private static final String FORECAST = """
+			{"latitude":37.56,"longitude":126.98,"generationtime_ms":0.05,"utc_offset_seconds":32400,
+			"timezone":"Asia/Seoul","timezone_abbreviation":"KST","elevation":38.0,
+			"current_units":{"time":"iso8601","interval":"seconds","temperature_2m":"°C"},
+			"current":{"time":"2025-04-13T09:00","interval":900,"temperature_2m":12.3},
+			"hourly_units":{"time":"iso8601","temperature_2m":"°C","weather_code":"wmo code"},
+			"hourly":{"time":["2025-04-13T00:00","2025-04-13T01:00"],"temperature_2m":[10.5,null],"weather_code":[3,61]},
+			"daily_units":{"time":"iso8601","sunrise":"iso8601"},
+			"daily":{"time":["2025-04-13"],"sunrise":["2025-04-13T05:58"]}}
+			""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final OpenMeteoResponseParser parser = new OpenMeteoResponseParser(objectMapper);
+
+	@Test
+	void parsesIntoPrimitiveColumnsWithUtcTimeAxis() throws Exception {
+		OpenMeteoResponse response = parser.parse(stream(FORECAST), "weather");
+
+		OpenMeteoForecast forecast = assertInstanceOf(OpenMeteoForecast.class, response);
+		assertArrayEquals(new long[]{1744470000L, 1744473600L}, forecast.hourly().times()); // 2025-04-12T15:00Z, 16:00Z
+		assertEquals(10.5f, forecast.hourlyTemperature2m()[0]);
+		assertTrue(Float.isNaN(forecast.hourlyTemperature2m()[1]));
+		assertArrayEquals(new float[]{3f, 61f}, forecast.hourlyWeatherCode());
+		assertEquals(12.3f, forecast.currentValue("temperature_2m"));
+
+		OpenMeteoSeries daily = forecast.daily();
+		assertArrayEquals(new long[]{1744470000L}, daily.times());
+		assertTrue(daily.column("sunrise").isTime());
+	}
+
+	@Test
+	void sharesUnitTablesBetweenResponses() throws Exception {
+		OpenMeteoResponse first = parser.parse(stream(FORECAST), "weather");
+		OpenMeteoResponse second = parser.parse(stream(FORECAST), "weather");
+
+		assertSame(first.hourly().getUnits(), second.hourly().getUnits());
+	}
+
+	@Test
+	void serializesBackToOpenMeteoShape() throws Exception {
+		OpenMeteoResponse response = parser.parse(stream(FORECAST), "weather");
+
+		assertEquals(objectMapper.readTree(FORECAST), objectMapper.readTree(objectMapper.writeValueAsBytes(response)));
+	}
+
+	@Test
+	void selectsRequestedVariablesAndDays() throws Exception {
+		OpenMeteoResponse superset = parser.parse(stream(FORECAST), "weather");
+
+		OpenMeteoResponse selected = superset.select(Map.of("hourly", List.of("weather_code")), 1);
+
+		assertInstanceOf(OpenMeteoForecast.class, selected);
+		assertEquals(List.of("hourly"), List.copyOf(selected.getSections().keySet()));
+		assertEquals(1, selected.hourly().getColumns().size());
+		assertArrayEquals(new float[]{3f, 61f}, selected.hourly().values("weather_code"));
+		assertEquals(Map.of("time", "iso8601", "weather_code", "wmo code"), selected.hourly().getUnits());
+	}
+
+	@Test
+	void parsesMultiCoordinateArray() throws Exception {
+		List<OpenMeteoResponse> responses = parser.parseList(stream("[" + FORECAST + "," + FORECAST + "]"), "weather");
+
+		assertEquals(2, responses.size());
+	}
+
+	private static ByteArrayInputStream stream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteGridDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationDeletedDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteVersionDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.mapper.SmFavoriteLocationMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 서비스/공간 색인 테스트에 필요한 메서드만 구현한 매퍼 (나머지는 UnsupportedOperationException)
+class FakeSmFavoriteLocationMapper implements SmFavoriteLocationMapper {
+
+	final List<List<Long>> mergedSeqNos = new ArrayList<>();
+	final List<SmFavoriteLocationResponseDto> locations = new ArrayList<>();
+	final List<String> calls = new ArrayList<>();
+	int merged;
+	int total;
+	long version;
+	long prunedVersion;
+	LocalDateTime cutoff;
+	Supplier<List<SmFavoriteLocationResponseDto>> allCoordinates = List::of;
+
+	@Override
+	public int mergeFavoriteLocationSortOrders(String deviceId, List<Long> seqNos, long rowVersion) {
+		mergedSeqNos.add(List.copyOf(seqNos));
+		return merged;
+	}
+
+	@Override
+	public int countFavoriteLocationsByDeviceId(String deviceId) {
+		return total;
+	}
+
+	@Override
+	public void bumpFavoriteVersion(SmFavoriteVersionDto versionDto) {
+		versionDto.setVersion(++version);
+	}
+
+	@Override
+	public int insertFavoriteLocation(SmFavoriteLocationResponseDto location) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public List<SmFavoriteLocationResponseDto> selectFavoriteLocationsByUserId(String deviceId) {
+		return List.copyOf(locations);
+	}
+
+	@Override
+	public SmFavoriteLocationResponseDto selectFavoriteLocationByCoordinates(String deviceId, Double latitude, Double longitude) {
+		return locations.stream()
+				.filter(location -> location.getLatitude().equals(latitude) && location.getLongitude().equals(longitude))
+				.findFirst()
+				.orElse(null);
+	}
+
+	@Override
+	public boolean existsByLatitudeAndLongitude(Double latitude, Double longitude, String deviceId) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int insertFavoriteTombstone(String deviceId, Double latitude, Double longitude, long version) {
+		calls.add("tombstone:" + version);
+		return selectFavoriteLocationByCoordinates(deviceId, latitude, longitude) == null ? 0 : 1;
+	}
+
+	@Override
+	public int deleteFavoriteLocation(String deviceId, Double latitude, Double longitude) {
+		SmFavoriteLocationResponseDto location = selectFavoriteLocationByCoordinates(deviceId, latitude, longitude);
+		return location != null && locations.remove(location) ? 1 : 0;
+	}
+
+	@Override
+	public int updateFavoriteLocationSortOrder(String deviceId, Double latitude, Double longitude, Integer sortOrder, long rowVersion) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public long selectFavoriteVersion(String deviceId) {
+		return version;
+	}
+
+	@Override
+	public List<SmFavoriteLocationResponseDto> selectFavoriteLocationsChangedSince(String deviceId, long since) {
+		calls.add("changedSince:" + since);
+		return List.of();
+	}
+
+	@Override
+	public List<SmFavoriteLocationDeletedDto> selectFavoriteTombstonesSince(String deviceId, long since) {
+		calls.add("tombstonesSince:" + since);
+		return List.of();
+	}
+
+	@Override
+	public long selectFavoriteTombstonePrunedVersion(String deviceId) {
+		return prunedVersion;
+	}
+
+	@Override
+	public int markFavoriteTombstonesPruned(LocalDateTime cutoff) {
+		calls.add("markPruned");
+		this.cutoff = cutoff;
+		return 0;
+	}
+
+	@Override
+	public int deleteFavoriteTombstonesBefore(LocalDateTime cutoff) {
+		calls.add("deleteTombstones");
+		assertEquals(this.cutoff, cutoff);
+		return 0;
+	}
+
+	@Override
+	public List<SmFavoriteLocationResponseDto> selectAllFavoriteCoordinates() {
+		return allCoordinates.get();
+	}
+
+	@Override
+	public List<SmFavoriteGridDto> selectFavoriteGridCoordinates(double gridResolution) {
+		throw new UnsupportedOperationException();
+	}
+}
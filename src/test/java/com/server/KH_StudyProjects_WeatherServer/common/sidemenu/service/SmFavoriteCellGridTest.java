@@ -0,0 +1,67 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteGridDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmFavoriteCellGridTest {
+
+	private final SmFavoriteCellGrid grid = new SmFavoriteCellGrid(0.02);
+
+	@Test
+	void cellOfSnapsToNearestGridCenter() {
+		SmFavoriteCellGrid.Cell cell = grid.cellOf(37.5665, 126.978);
+		assertEquals(37.56, cell.latitude());
+		assertEquals(126.98, cell.longitude());
+		assertEquals(cell.key(), grid.cellOf(37.5651, 126.9701).key());
+		assertNotEquals(cell.key(), grid.cellOf(37.5801, 126.978).key());
+	}
+
+	@Test
+	void findWithinChecksNeighbouringCellsAndSortsByDistance() {
+		grid.add(1, "device-a", 37.5665, 126.9780);  // 서울시청
+		grid.add(2, "device-a", 37.5700, 126.9769);  // 약 400m, 다른 격자 경계 근처
+		grid.add(3, "device-a", 37.4563, 126.7052);  // 인천, 약 27km
+		grid.add(4, "device-b", 37.5666, 126.9781);  // 다른 디바이스
+
+		List<SmFavoriteCellGrid.Match> matches = grid.findWithin("device-a", 37.5690, 126.9775, 1000);
+		assertEquals(List.of(2L, 1L), matches.stream().map(SmFavoriteCellGrid.Match::seqNo).toList());
+		assertTrue(matches.get(0).distanceMeters() < matches.get(1).distanceMeters());
+
+		assertEquals(3, grid.findWithin(null, 37.5690, 126.9775, 1000).size());
+		assertEquals(4, grid.findWithin(null, 37.5690, 126.9775, 30000).size());
+	}
+
+	@Test
+	void removeDropsOnlyTheGivenDeviceCoordinate() {
+		grid.add(1, "device-a", 37.5665, 126.9780);
+		grid.add(2, "device-b", 37.5665, 126.9780);
+
+		grid.remove("device-a", 37.5665, 126.9780);
+		assertEquals(1, grid.size());
+		assertEquals("device-b", grid.findWithin(null, 37.5665, 126.9780, 10).get(0).deviceId());
+	}
+
+	@Test
+	void popularCellsCountDistinctDevicesPerCell() {
+		grid.add(1, "device-a", 37.5665, 126.9780);
+		grid.add(2, "device-a", 37.5661, 126.9785); // 같은 디바이스, 같은 격자 → 1대로 집계
+		grid.add(3, "device-b", 37.5668, 126.9779);
+		grid.add(4, "device-c", 35.1796, 129.0756); // 부산
+
+		List<SmFavoriteGridDto> popular = grid.popularCells(10);
+		assertEquals(2, popular.size());
+		assertEquals(2, (int) popular.get(0).getDeviceCount());
+		assertEquals(37.56, (double) popular.get(0).getLatitude());
+		assertEquals(1, grid.popularCells(1).size());
+
+		List<SmFavoriteGridDto> coarse = grid.gridCells(5.0);
+		assertEquals(2, coarse.size());
+		assertEquals(2, (int) coarse.get(0).getDeviceCount());
+	}
+}
@@ -0,0 +1,176 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationDeltaDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationSortOrderRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmFavoriteLocationServiceTest {
+
+	private static final String DEVICE_ID = "device-a";
+
+	private final FakeSmFavoriteLocationMapper mapper = new FakeSmFavoriteLocationMapper();
+	private SmFavoriteLocationService service;
+
+	@BeforeEach
+	void setUp() {
+		SmFavoriteSpatialIndexProperties spatialIndexProperties = new SmFavoriteSpatialIndexProperties();
+		SmFavoriteLocationProperties properties = new SmFavoriteLocationProperties();
+		properties.setMaxSortOrderItems(3);
+		service = new SmFavoriteLocationService(mapper,
+				new SmFavoriteLocationCache(new SmFavoriteLocationCacheProperties()),
+				new SmFavoriteSpatialIndex(spatialIndexProperties, mapper),
+				spatialIndexProperties, properties);
+	}
+
+	private static SmFavoriteLocationSortOrderRequestDto request(List<Long> seqNos) {
+		return SmFavoriteLocationSortOrderRequestDto.builder().deviceId(DEVICE_ID).seqNos(seqNos).build();
+	}
+
+	@Test
+	void mergesWhenListMatchesCurrentFavorites() {
+		mapper.merged = 3;
+		mapper.total = 3;
+
+		assertDoesNotThrow(() -> service.updateSmFavoriteLocationSortOrders(request(List.of(3L, 1L, 2L))));
+		assertEquals(List.of(List.of(3L, 1L, 2L)), mapper.mergedSeqNos);
+	}
+
+	@Test
+	void rejectsEmptyOrNullSeqNos() {
+		assertThrows(RuntimeException.class, () -> service.updateSmFavoriteLocationSortOrders(request(null)));
+		assertThrows(RuntimeException.class, () -> service.updateSmFavoriteLocationSortOrders(request(List.of())));
+		assertThrows(RuntimeException.class, () -> service.updateSmFavoriteLocationSortOrders(request(Arrays.asList(1L, null, 2L))));
+		assertTrue(mapper.mergedSeqNos.isEmpty());
+	}
+
+	@Test
+	void rejectsDuplicateSeqNos() {
+		RuntimeException e = assertThrows(RuntimeException.class,
+				() -> service.updateSmFavoriteLocationSortOrders(request(List.of(1L, 2L, 1L))));
+
+		assertTrue(e.getMessage().contains("중복"));
+		assertTrue(mapper.mergedSeqNos.isEmpty());
+	}
+
+	@Test
+	void rejectsListLargerThanConfiguredMaximum() {
+		RuntimeException e = assertThrows(RuntimeException.class,
+				() -> service.updateSmFavoriteLocationSortOrders(request(List.of(1L, 2L, 3L, 4L))));
+
+		assertTrue(e.getMessage().contains("3"));
+		assertTrue(mapper.mergedSeqNos.isEmpty());
+	}
+
+	@Test
+	void rejectsWhenSomeSeqNosWereNotMerged() {
+		// 다른 기기에서 삭제된 항목 또는 다른 디바이스의 SEQ_NO 포함
+		mapper.merged = 2;
+		mapper.total = 2;
+
+		assertThrows(RuntimeException.class, () -> service.updateSmFavoriteLocationSortOrders(request(List.of(1L, 2L, 3L))));
+	}
+
+	@Test
+	void rejectsWhenCurrentFavoritesAreNotAllListed() {
+		// 다른 기기에서 추가된 항목이 요청 목록에 없음
+		mapper.merged = 3;
+		mapper.total = 4;
+
+		assertThrows(RuntimeException.class, () -> service.updateSmFavoriteLocationSortOrders(request(List.of(1L, 2L, 3L))));
+	}
+
+	@Test
+	void snapshotIsReloadedWhenCachedListIsOlderThanDbVersion() {
+		mapper.locations.add(location(1L));
+		assertEquals(1, service.getSmFavoriteLocationSnapshot(DEVICE_ID, 0).getLocations().size());
+
+		// 다른 서버에서 추가됨 (이 서버의 캐시는 제거되지 않음)
+		mapper.version = 1;
+		mapper.locations.add(location(2L));
+		assertEquals(1, service.getSmFavoriteLocationSnapshot(DEVICE_ID, 0).getLocations().size());
+
+		SmFavoriteLocationCache.Snapshot snapshot = service.getSmFavoriteLocationSnapshot(DEVICE_ID, service.getSmFavoriteLocationVersion(DEVICE_ID));
+		assertEquals(1L, snapshot.getVersion());
+		assertEquals(2, snapshot.getLocations().size());
+	}
+
+	@Test
+	void readsValidateCachedListAgainstDbVersion() {
+		assertTrue(service.getSmFavoriteLocations(DEVICE_ID).isEmpty());
+
+		// 다른 서버에서 추가될 때마다 (이 서버의 캐시는 제거되지 않음) 각 조회가 DB 버전으로 다시 조회
+		mapper.version = 1;
+		mapper.locations.add(location(1L));
+		assertEquals(1, service.getSmFavoriteLocations(DEVICE_ID).size());
+
+		mapper.version = 2;
+		mapper.locations.add(location(2L));
+		assertTrue(service.checkDuplicateLocation(39.0, 127.0, DEVICE_ID));
+
+		mapper.version = 3;
+		mapper.locations.add(location(3L));
+		List<SmFavoriteLocationResponseDto> nearby = service.getNearbySmFavoriteLocations(DEVICE_ID, 40.0, 127.0, null);
+		assertEquals(List.of(3L), nearby.stream().map(SmFavoriteLocationResponseDto::getSeqNo).toList());
+	}
+
+	@Test
+	void deleteUsesDbRowInsteadOfCachedList() {
+		assertTrue(service.getSmFavoriteLocations(DEVICE_ID).isEmpty());
+
+		// 다른 서버에서 추가된 항목도 DB 행 기준으로 삭제하고 지역명 반환
+		mapper.version = 1;
+		mapper.locations.add(location(1L));
+		assertEquals("address-1", service.deleteSmFavoriteLocation(38.0, 127.0, DEVICE_ID));
+		assertTrue(mapper.locations.isEmpty());
+		assertEquals(List.of("tombstone:2"), mapper.calls);
+
+		// 이미 삭제된 위치 (캐시에 남아 있어도 거절)
+		mapper.locations.add(location(2L));
+		service.getSmFavoriteLocations(DEVICE_ID);
+		mapper.locations.clear();
+		RuntimeException e = assertThrows(RuntimeException.class, () -> service.deleteSmFavoriteLocation(39.0, 127.0, DEVICE_ID));
+		assertTrue(e.getMessage().contains("찾을 수 없습니다"));
+	}
+
+	@Test
+	void changesFallBackToFullListWhenTombstonesSinceWerePruned() {
+		mapper.version = 5;
+		mapper.prunedVersion = 3;
+		mapper.locations.add(location(1L));
+
+		SmFavoriteLocationDeltaDto pruned = service.getSmFavoriteLocationChanges(DEVICE_ID, 2);
+		assertTrue(pruned.isFull());
+		assertEquals(5L, pruned.getVersion());
+		assertEquals(1, pruned.getUpserted().size());
+
+		SmFavoriteLocationDeltaDto delta = service.getSmFavoriteLocationChanges(DEVICE_ID, 3);
+		assertFalse(delta.isFull());
+		assertEquals(List.of("changedSince:3", "tombstonesSince:3"), mapper.calls.subList(mapper.calls.size() - 2, mapper.calls.size()));
+	}
+
+	@Test
+	void pruneRecordsPrunedVersionBeforeDeletingTombstones() {
+		LocalDateTime before = LocalDateTime.now().minusDays(30);
+		service.pruneFavoriteTombstones();
+
+		assertEquals(List.of("markPruned", "deleteTombstones"), mapper.calls);
+		assertTrue(!mapper.cutoff.isBefore(before) && mapper.cutoff.isBefore(before.plusMinutes(1)));
+	}
+
+	private static SmFavoriteLocationResponseDto location(long seqNo) {
+		return SmFavoriteLocationResponseDto.builder().seqNo(seqNo).deviceId(DEVICE_ID).latitude(37.0 + seqNo).longitude(127.0)
+				.addressName("address-" + seqNo).build();
+	}
+}
@@ -0,0 +1,74 @@
+package com.server.KH_StudyProjects_WeatherServer.common.sidemenu.service;
+
+import com.server.KH_StudyProjects_WeatherServer.common.sidemenu.dto.SmFavoriteLocationResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmFavoriteSpatialIndexTest {
+
+	private static final String DEVICE_ID = "device-a";
+
+	private final FakeSmFavoriteLocationMapper mapper = new FakeSmFavoriteLocationMapper();
+	private final SmFavoriteSpatialIndex index = new SmFavoriteSpatialIndex(new SmFavoriteSpatialIndexProperties(), mapper);
+
+	private static SmFavoriteLocationResponseDto location(long seqNo, double latitude, double longitude) {
+		return SmFavoriteLocationResponseDto.builder().seqNo(seqNo).deviceId(DEVICE_ID).latitude(latitude).longitude(longitude).build();
+	}
+
+	private Set<Long> nearbySeqNos() {
+		return index.findWithin(DEVICE_ID, 37.5665, 126.978, 2000).stream()
+				.map(SmFavoriteCellGrid.Match::seqNo)
+				.collect(Collectors.toSet());
+	}
+
+	@Test
+	void changesCommittedDuringRebuildAreReplayedOntoNewGrid() throws Exception {
+		List<SmFavoriteLocationResponseDto> before = List.of(location(1, 37.5665, 126.978), location(2, 37.57, 126.98));
+		mapper.allCoordinates = () -> before;
+		index.rebuild();
+		assertEquals(Set.of(1L, 2L), nearbySeqNos());
+
+		// 재구성 SELECT 는 변경 전 상태를 읽은 채로 대기
+		CountDownLatch selecting = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		mapper.allCoordinates = () -> {
+			selecting.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return before;
+		};
+		Thread rebuild = new Thread(index::rebuild);
+		rebuild.start();
+		assertTrue(selecting.await(5, TimeUnit.SECONDS));
+
+		index.addAfterCommit(location(3, 37.568, 126.979));
+		index.removeAfterCommit(DEVICE_ID, 37.57, 126.98);
+		assertEquals(Set.of(1L, 3L), nearbySeqNos());
+
+		release.countDown();
+		rebuild.join(5000);
+		assertEquals(Set.of(1L, 3L), nearbySeqNos());
+	}
+
+	@Test
+	void changesAfterRebuildAreNotRecorded() {
+		mapper.allCoordinates = () -> List.of(location(1, 37.5665, 126.978));
+		index.rebuild();
+		index.addAfterCommit(location(2, 37.568, 126.979));
+
+		// 다음 재구성은 DB 상태 기준 (재구성 밖의 변경은 다시 적용하지 않음)
+		index.rebuild();
+		assertEquals(Set.of(1L), nearbySeqNos());
+	}
+}
@@ -0,0 +1,106 @@
+package com.server.KH_StudyProjects_WeatherServer.finedust.service;
+
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoColumn;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoSeries;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoTimeFormat;
+import com.server.KH_StudyProjects_WeatherServer.finedust.dto.FinedustDailyDto;
+import com.server.KH_StudyProjects_WeatherServer.finedust.dto.FinedustGrade;
+import com.server.KH_StudyProjects_WeatherServer.finedust.dto.FinedustSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FinedustAggregatorTest {
+
+	private static final int KST = 9 * 3600;
+	private static final long START = LocalDateTime.of(2025, 4, 13, 0, 0).toEpochSecond(ZoneOffset.ofTotalSeconds(KST));
+
+	// 2025-04-13 00:00 ~ 04-14 05:00 (KST) 30시간
+	private static OpenMeteoResponse response() {
+		int hours = 30;
+		long[] times = new long[hours];
+		float[] pm10 = new float[hours];
+		float[] pm25 = new float[hours];
+		float[] ozone = new float[hours];
+		for (int i = 0; i < hours; i++) {
+			times[i] = START + i * 3600L;
+		}
+		Arrays.fill(pm10, 20f);
+		Arrays.fill(pm25, 10f);
+		Arrays.fill(ozone, 50f); // 약 0.025ppm → 좋음
+		pm10[9] = pm10[10] = pm10[11] = 90f;  // 나쁨 3시간
+		pm10[14] = 100f;                      // 나쁨 1시간
+		for (int i = 18; i <= 22; i++) {
+			pm25[i] = 40f;                    // 나쁨 5시간 (가장 긴 구간)
+		}
+		pm10[26] = pm25[26] = ozone[26] = Float.NaN; // 값 없는 시간
+
+		OpenMeteoResponse response = new OpenMeteoResponse();
+		response.setUtcOffsetSeconds(KST);
+		response.setTimezone("Asia/Seoul");
+		response.getSections().put(OpenMeteoResponse.HOURLY, new OpenMeteoSeries(OpenMeteoResponse.HOURLY, false,
+				OpenMeteoColumn.ofTimes("time", times, OpenMeteoTimeFormat.ISO_DATE_TIME),
+				List.of(OpenMeteoColumn.ofValues("pm10", pm10, false),
+						OpenMeteoColumn.ofValues("pm2_5", pm25, false),
+						OpenMeteoColumn.ofValues("ozone", ozone, false)),
+				Map.of()));
+		return response;
+	}
+
+	@Test
+	void currentGradeUsesHourContainingNow() {
+		FinedustSummaryDto summary = FinedustAggregator.aggregate(response(), START + 10 * 3600 + 1800);
+
+		assertEquals("2025-04-13T10:00", summary.getCurrentTime());
+		assertEquals(90.0, (double) summary.getCurrentPm10());
+		assertEquals(FinedustGrade.BAD, summary.getPm10Grade());
+		assertEquals(FinedustGrade.GOOD, summary.getPm25Grade());
+		assertEquals(FinedustGrade.BAD, summary.getGrade());
+	}
+
+	@Test
+	void dailyMaxMeanAndLongestWorstWindow() {
+		List<FinedustDailyDto> days = FinedustAggregator.aggregate(response(), START).getDays();
+		assertEquals(2, days.size());
+
+		FinedustDailyDto first = days.get(0);
+		assertEquals("2025-04-13", first.getDate());
+		assertEquals(100.0, (double) first.getPm10Max());
+		assertEquals(32.1, (double) first.getPm10Mean()); // (20×20 + 90×3 + 100) / 24
+		assertEquals(FinedustGrade.BAD, first.getGrade());
+		assertEquals("2025-04-13T18:00", first.getWorstFrom());
+		assertEquals("2025-04-13T23:00", first.getWorstTo());
+
+		FinedustDailyDto second = days.get(1);
+		assertEquals("2025-04-14", second.getDate());
+		assertEquals(20.0, (double) second.getPm10Mean()); // 값 없는 시간 제외
+		assertEquals(FinedustGrade.GOOD, second.getGrade());
+		assertEquals("2025-04-14T03:00", second.getWorstFrom()); // 값 없는 시간에서 구간이 끊김
+		assertEquals("2025-04-14T06:00", second.getWorstTo());
+	}
+
+	@Test
+	void noCurrentValuesOutsideSeries() {
+		FinedustSummaryDto summary = FinedustAggregator.aggregate(response(), START + 30 * 3600);
+		assertNull(summary.getCurrentTime());
+		assertNull(summary.getGrade());
+	}
+
+	@Test
+	void gradeBoundaries() {
+		assertEquals(FinedustGrade.GOOD, FinedustGrade.ofPm25(15.4f));
+		assertEquals(FinedustGrade.MODERATE, FinedustGrade.ofPm25(15.6f));
+		assertEquals(FinedustGrade.VERY_BAD, FinedustGrade.ofPm10(151f));
+		assertEquals(FinedustGrade.MODERATE, FinedustGrade.ofOzone(177f)); // 0.090ppm
+		assertEquals(FinedustGrade.BAD, FinedustGrade.ofOzone(180f));      // 0.092ppm
+		assertNull(FinedustGrade.ofPm10(Float.NaN));
+	}
+}
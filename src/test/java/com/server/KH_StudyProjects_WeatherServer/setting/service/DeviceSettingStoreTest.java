@@ -0,0 +1,153 @@
+package com.server.KH_StudyProjects_WeatherServer.setting.service;
+
+import com.server.KH_StudyProjects_WeatherServer.setting.dto.DeviceSettingDto;
+import com.server.KH_StudyProjects_WeatherServer.setting.mapper.DeviceSettingMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeviceSettingStoreTest {
+
+	private final FakeDeviceSettingMapper mapper = new FakeDeviceSettingMapper();
+	private final DeviceSettingProperties properties = new DeviceSettingProperties();
+	private DeviceSettingStore store;
+
+	@BeforeEach
+	void setUp() {
+		properties.setFlushThreshold(100);
+		properties.setBatchSize(10);
+		properties.setMaxFlushAttempts(2);
+		store = new DeviceSettingStore(properties, mapper);
+	}
+
+	private static DeviceSettingDto notification(String deviceId, boolean enabled) {
+		return DeviceSettingDto.builder().deviceId(deviceId).notificationEnabled(enabled).build();
+	}
+
+	@Test
+	void onlyChangedColumnsAreMergedOverRowChangedElsewhere() {
+		mapper.rows.put("device-1", DeviceSettingDto.defaults("device-1"));
+		store.get("device-1");
+
+		// 다른 서버 인스턴스에서 기온 단위 변경 (이 인스턴스의 캐시는 CELSIUS)
+		mapper.rows.put("device-1", DeviceSettingDto.defaults("device-1").toBuilder().temperatureUnit(DeviceSettingDto.FAHRENHEIT).build());
+		store.update("device-1", notification("device-1", false));
+		store.update("device-1", DeviceSettingDto.builder().deviceId("device-1").language("en").build());
+		store.flush();
+
+		DeviceSettingDto saved = mapper.rows.get("device-1");
+		assertEquals(DeviceSettingDto.FAHRENHEIT, saved.getTemperatureUnit());
+		assertEquals(false, saved.getNotificationEnabled());
+		assertEquals("en", saved.getLanguage());
+		assertNull(mapper.merges.get(0).get(0).getTemperatureUnit());
+	}
+
+	@Test
+	void flushesOnRequestThreadWhenThresholdIsReached() {
+		properties.setFlushThreshold(3);
+
+		store.update("device-1", notification("device-1", false));
+		store.update("device-2", notification("device-2", false));
+		assertTrue(mapper.merges.isEmpty());
+
+		store.update("device-3", notification("device-3", false));
+		assertEquals(1, mapper.merges.size());
+		assertEquals(3, mapper.merges.get(0).size());
+	}
+
+	@Test
+	void failedRowIsRetriedAloneAndDroppedAfterMaxAttempts() {
+		mapper.failingDeviceIds.add("device-bad");
+		store.update("device-bad", notification("device-bad", false));
+		for (int i = 0; i < 15; i++) {
+			store.update("device-" + i, notification("device-" + i, false));
+		}
+
+		store.flush();
+		// 실패한 디바이스만 남고 나머지는 모두 저장 (같은 주기에서 다음 배치도 진행)
+		assertEquals(15, mapper.rows.size());
+		assertEquals(false, store.get("device-bad").getNotificationEnabled());
+
+		store.flush();
+		assertFalse(mapper.rows.containsKey("device-bad"));
+		// 버린 변경은 캐시에서도 제거되어 DB 값(기본 설정)으로 조회
+		assertEquals(true, store.get("device-bad").getNotificationEnabled());
+
+		int merges = mapper.merges.size();
+		store.flush();
+		assertEquals(merges, mapper.merges.size());
+	}
+
+	@Test
+	void unavailableDatabaseKeepsChangesWithoutSingleRowRetries() {
+		store.update("device-1", notification("device-1", false));
+		store.update("device-2", notification("device-2", false));
+
+		mapper.unavailable = true;
+		for (int i = 0; i < 3; i++) {
+			store.flush();
+		}
+		assertEquals(3, mapper.merges.size());
+
+		mapper.unavailable = false;
+		store.flush();
+		assertEquals(2, mapper.rows.size());
+	}
+
+	@Test
+	void shutdownFlushesAllPendingChanges() {
+		for (int i = 0; i < 25; i++) {
+			store.update("device-" + i, notification("device-" + i, false));
+		}
+		assertTrue(mapper.merges.isEmpty());
+
+		store.shutdown();
+
+		assertEquals(25, mapper.rows.size());
+		assertEquals(3, mapper.merges.size());
+	}
+
+	// MERGE 의미(값이 null 인 항목은 기존 값 유지)를 흉내 내는 매퍼
+	private static final class FakeDeviceSettingMapper implements DeviceSettingMapper {
+
+		private final Map<String, DeviceSettingDto> rows = new HashMap<>();
+		private final List<List<DeviceSettingDto>> merges = new ArrayList<>();
+		private final Set<String> failingDeviceIds = new HashSet<>();
+		private boolean unavailable;
+
+		@Override
+		public DeviceSettingDto selectDeviceSetting(String deviceId) {
+			return rows.get(deviceId);
+		}
+
+		@Override
+		public int mergeDeviceSettings(List<DeviceSettingDto> settings) {
+			merges.add(List.copyOf(settings));
+			if (unavailable) {
+				throw new DataAccessResourceFailureException("connection refused");
+			}
+			for (DeviceSettingDto setting : settings) {
+				if (failingDeviceIds.contains(setting.getDeviceId())) {
+					throw new RuntimeException("ORA-12899: value too large for column DEVICE_ID");
+				}
+			}
+			for (DeviceSettingDto setting : settings) {
+				DeviceSettingDto current = rows.getOrDefault(setting.getDeviceId(), DeviceSettingDto.defaults(setting.getDeviceId()));
+				rows.put(setting.getDeviceId(), current.merge(setting));
+			}
+			return settings.size();
+		}
+	}
+}
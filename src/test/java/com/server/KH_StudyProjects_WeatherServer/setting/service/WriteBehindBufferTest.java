@@ -0,0 +1,68 @@
+package com.server.KH_StudyProjects_WeatherServer.setting.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class WriteBehindBufferTest {
+
+	@Test
+	void putCoalescesSameKey() {
+		WriteBehindBuffer<String, String> buffer = new WriteBehindBuffer<>();
+		assertEquals(1, buffer.put("device-1", "on"));
+		assertEquals(1, buffer.put("device-1", "off"));
+		assertEquals(2, buffer.put("device-2", "on"));
+		assertEquals("off", buffer.get("device-1"));
+	}
+
+	@Test
+	void drainIsBoundedAndKeepsEntriesUntilComplete() {
+		WriteBehindBuffer<String, String> buffer = new WriteBehindBuffer<>();
+		for (int i = 0; i < 5; i++) {
+			buffer.put("device-" + i, "on");
+		}
+		List<Map.Entry<String, String>> entries = buffer.drain(3);
+		assertEquals(3, entries.size());
+		assertEquals(5, buffer.size()); // 저장 완료 전에는 조회 가능
+
+		buffer.complete(entries);
+		assertEquals(2, buffer.size());
+		assertEquals(2, buffer.drain(3).size());
+	}
+
+	@Test
+	void completeKeepsValueChangedDuringFlush() {
+		WriteBehindBuffer<String, String> buffer = new WriteBehindBuffer<>();
+		buffer.put("device-1", "on");
+		buffer.put("device-2", "on");
+		List<Map.Entry<String, String>> entries = buffer.drain(10);
+
+		buffer.put("device-1", "off"); // 저장 중 변경
+		buffer.complete(entries);
+
+		assertEquals(1, buffer.size());
+		assertEquals("off", buffer.get("device-1"));
+		assertNull(buffer.get("device-2"));
+	}
+
+	@Test
+	void drainSkipsExcludedKeys() {
+		WriteBehindBuffer<String, String> buffer = new WriteBehindBuffer<>();
+		for (int i = 0; i < 4; i++) {
+			buffer.put("device-" + i, "on");
+		}
+		List<Map.Entry<String, String>> first = buffer.drain(2);
+
+		Set<String> failed = Set.of(first.get(0).getKey(), first.get(1).getKey());
+		List<Map.Entry<String, String>> next = buffer.drain(2, failed);
+
+		assertEquals(2, next.size());
+		next.forEach(entry -> assertFalse(failed.contains(entry.getKey())));
+	}
+}
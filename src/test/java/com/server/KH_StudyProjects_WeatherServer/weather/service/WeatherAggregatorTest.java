@@ -0,0 +1,122 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.service;
+
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoColumn;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoSeries;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoTimeFormat;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherBucketDto;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherDailyDto;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherEventDto;
+import com.server.KH_StudyProjects_WeatherServer.weather.dto.WeatherSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeatherAggregatorTest {
+
+	private static final int KST = 9 * 3600;
+	private static final long START = LocalDateTime.of(2025, 4, 13, 0, 0).toEpochSecond(ZoneOffset.ofTotalSeconds(KST));
+	private static final long NOW = START + 12 * 3600 + 600; // 04-13 12:10
+
+	// 2025-04-13 00:00 ~ 04-14 23:00 (KST) 48시간, 14~16시 비, 다음날 06~07시 눈
+	private static OpenMeteoResponse response() {
+		int hours = 48;
+		long[] times = new long[hours];
+		float[] temperature = new float[hours];
+		float[] precipitation = new float[hours];
+		float[] probability = new float[hours];
+		float[] weatherCode = new float[hours];
+		float[] windSpeed = new float[hours];
+		for (int i = 0; i < hours; i++) {
+			times[i] = START + i * 3600L;
+			temperature[i] = 10 + (i % 24) * 0.5f;
+		}
+		Arrays.fill(probability, 10f);
+		Arrays.fill(weatherCode, 2f);
+		Arrays.fill(windSpeed, 5f);
+		for (int i = 14; i <= 16; i++) {
+			precipitation[i] = 1.2f;
+			probability[i] = 80f;
+			weatherCode[i] = 61f;
+		}
+		precipitation[30] = precipitation[31] = 0.5f;
+		weatherCode[30] = weatherCode[31] = 71f;
+
+		OpenMeteoResponse response = new OpenMeteoResponse();
+		response.setUtcOffsetSeconds(KST);
+		response.setTimezone("Asia/Seoul");
+		response.getSections().put(OpenMeteoResponse.HOURLY, new OpenMeteoSeries(OpenMeteoResponse.HOURLY, false,
+				OpenMeteoColumn.ofTimes("time", times, OpenMeteoTimeFormat.ISO_DATE_TIME),
+				List.of(OpenMeteoColumn.ofValues("temperature_2m", temperature, false),
+						OpenMeteoColumn.ofValues("precipitation", precipitation, false),
+						OpenMeteoColumn.ofValues("precipitation_probability", probability, true),
+						OpenMeteoColumn.ofValues("weather_code", weatherCode, true),
+						OpenMeteoColumn.ofValues("wind_speed_10m", windSpeed, false)),
+				Map.of()));
+		return response;
+	}
+
+	@Test
+	void bucketsStartAtCurrentHour() {
+		List<WeatherBucketDto> buckets = new WeatherAggregator(3, 6, 5, 0.1f).aggregate(response(), NOW).getBuckets();
+		assertEquals(2, buckets.size());
+
+		WeatherBucketDto first = buckets.get(0);
+		assertEquals("2025-04-13T12:00", first.getFrom());
+		assertEquals("2025-04-13T15:00", first.getTo());
+		assertEquals(16.0, (double) first.getTemperatureMin());
+		assertEquals(17.0, (double) first.getTemperatureMax());
+		assertEquals(1.2, (double) first.getPrecipitation());
+		assertEquals(80, (int) first.getPrecipitationProbabilityMax());
+		assertEquals(61, (int) first.getWeatherCode());
+
+		assertEquals(2.4, (double) buckets.get(1).getPrecipitation());
+		assertEquals("2025-04-13T18:00", buckets.get(1).getTo());
+	}
+
+	@Test
+	void lastBucketIsCutAtEndOfSeries() {
+		List<WeatherBucketDto> buckets = new WeatherAggregator(5, 168, 5, 0.1f).aggregate(response(), NOW).getBuckets();
+		assertEquals(8, buckets.size()); // 36시간 / 5
+		assertEquals("2025-04-15T00:00", buckets.get(7).getTo());
+	}
+
+	@Test
+	void dailyMinMaxAndPrecipitationTotals() {
+		List<WeatherDailyDto> days = new WeatherAggregator(3, 6, 5, 0.1f).aggregate(response(), NOW).getDays();
+		assertEquals(2, days.size());
+		assertEquals("2025-04-13", days.get(0).getDate());
+		assertEquals(10.0, (double) days.get(0).getTemperatureMin());
+		assertEquals(21.5, (double) days.get(0).getTemperatureMax());
+		assertEquals(3.6, (double) days.get(0).getPrecipitationSum());
+		assertEquals(1.0, (double) days.get(1).getPrecipitationSum());
+		assertEquals(71, (int) days.get(1).getWeatherCode());
+	}
+
+	@Test
+	void nextChangeEventsAfterCurrentHour() {
+		List<WeatherEventDto> events = new WeatherAggregator(3, 6, 3, 0.1f).aggregate(response(), NOW).getEvents();
+		assertEquals(3, events.size());
+		assertEquals(WeatherEventDto.RAIN_START, events.get(0).getType());
+		assertEquals("2025-04-13T14:00", events.get(0).getTime());
+		assertEquals(WeatherEventDto.PRECIPITATION_STOP, events.get(1).getType());
+		assertEquals("2025-04-13T17:00", events.get(1).getTime());
+		assertEquals(WeatherEventDto.SNOW_START, events.get(2).getType());
+		assertEquals("2025-04-14T06:00", events.get(2).getTime());
+	}
+
+	@Test
+	void nothingAheadAfterEndOfSeries() {
+		WeatherSummaryDto summary = new WeatherAggregator(3, 48, 5, 0.1f).aggregate(response(), START + 48 * 3600);
+		assertTrue(summary.getBuckets().isEmpty());
+		assertTrue(summary.getEvents().isEmpty());
+		assertEquals(2, summary.getDays().size());
+	}
+}
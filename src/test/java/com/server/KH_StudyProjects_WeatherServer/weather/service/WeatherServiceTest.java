@@ -0,0 +1,95 @@
+package com.server.KH_StudyProjects_WeatherServer.weather.service;
+
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.cache.OpenApiCacheProperties;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoColumn;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoResponse;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoSeries;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.dto.OpenMeteoTimeFormat;
+import com.server.KH_StudyProjects_WeatherServer.api.openmeteo.manager.OpenApiManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WeatherServiceTest {
+
+	private final StubOpenApiManager openApiManager = new StubOpenApiManager();
+	private final WeatherProperties properties = new WeatherProperties();
+	private final WeatherService service = new WeatherService(openApiManager, new OpenApiCacheProperties(),
+			properties, new WeatherSummaryCache(properties));
+
+	// 현재 시각부터 12시간 예보 (모든 시간 같은 기온)
+	private static OpenMeteoResponse response(float temperature) {
+		int hours = 12;
+		long start = System.currentTimeMillis() / 1000 / 3600 * 3600;
+		long[] times = new long[hours];
+		float[] values = new float[hours];
+		for (int i = 0; i < hours; i++) {
+			times[i] = start + i * 3600L;
+		}
+		Arrays.fill(values, temperature);
+
+		OpenMeteoResponse response = new OpenMeteoResponse();
+		response.setTimezone("GMT");
+		response.getSections().put(OpenMeteoResponse.HOURLY, new OpenMeteoSeries(OpenMeteoResponse.HOURLY, false,
+				OpenMeteoColumn.ofTimes("time", times, OpenMeteoTimeFormat.ISO_DATE_TIME),
+				List.of(OpenMeteoColumn.ofValues("temperature_2m", values, false)),
+				Map.of()));
+		return response;
+	}
+
+	private double firstBucketMax() {
+		return service.getWeatherSummary(37.56, 126.98, 3, 6).getBuckets().get(0).getTemperatureMax();
+	}
+
+	@Test
+	void summaryFromStaleSourceIsRecomputedOnceSourceIsFresh() {
+		long now = System.currentTimeMillis();
+
+		// 갱신 시각이 지난 응답 (stale-while-revalidate 로 즉시 응답, 백그라운드 갱신 중)
+		openApiManager.serve(response(10f), now - 60_000);
+		assertEquals(10.0, firstBucketMax());
+
+		// 갱신 완료 → 새 응답으로 다시 집계
+		openApiManager.serve(response(15f), now + 3_600_000);
+		assertEquals(15.0, firstBucketMax());
+		assertEquals(2, openApiManager.executions);
+
+		// fresh 응답으로 만든 요약은 캐시
+		openApiManager.serve(response(20f), now + 3_600_000);
+		assertEquals(15.0, firstBucketMax());
+		assertEquals(2, openApiManager.executions);
+	}
+
+	// 응답과 그 캐시 항목의 갱신 시각만 돌려주는 매니저 (업스트림/캐시 구성요소 없음)
+	private static final class StubOpenApiManager extends OpenApiManager {
+
+		private OpenMeteoResponse response;
+		private long freshUntil;
+		private int executions;
+
+		private StubOpenApiManager() {
+			super(null, null, null, null, null, null, null, null, null, null, null);
+		}
+
+		private void serve(OpenMeteoResponse response, long freshUntil) {
+			this.response = response;
+			this.freshUntil = freshUntil;
+		}
+
+		@Override
+		public Optional<OpenMeteoResponse> executeContext(Map<String, Object> params, String flag) {
+			executions++;
+			return Optional.of(response);
+		}
+
+		@Override
+		public long refreshDueAt(Map<String, Object> params, String flag) {
+			return freshUntil;
+		}
+	}
+}